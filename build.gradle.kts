@@ -1,6 +1,8 @@
 plugins {
     id("io.micronaut.minimal.library") version "4.6.1"
+    id("io.micronaut.graalvm") version "4.6.1"
     id("org.sonarqube") version "7.0.0.6105"
+    id("me.champeau.jmh") version "0.7.3"
     `maven-publish`
     jacoco
 }
@@ -12,13 +14,15 @@ repositories {
     mavenCentral()
 }
 
+// the application launched by the startup test, built on the runtime classpath of the library only
+val startupApp: SourceSet by sourceSets.creating
+
 val mockitoAgent = configurations.create("mockitoAgent")
 dependencies {
     annotationProcessor(mn.lombok)
     annotationProcessor(mn.micronaut.serde.processor)
 
     implementation(mn.micronaut.serde.jackson)
-    implementation(mn.micronaut.jackson.databind)
     implementation(mn.micronaut.discovery.client)
     implementation(mn.micronaut.management)
     implementation(mn.reactor)
@@ -43,14 +47,48 @@ dependencies {
     testRuntimeOnly(mn.micronaut.http.client)
 
     mockitoAgent(mn.mockito.core) { isTransitive = false }
+
+    // the jar of the library along with its runtime dependencies, as for an application using it
+    startupApp.implementationConfigurationName(project(":"))
 }
 
 tasks {
     test {
         jvmArgs.add("-javaagent:${mockitoAgent.asPath}")
+        useJUnitPlatform { excludeTags("startup") }
         finalizedBy(jacocoTestReport)
     }
 
+    // the tests wiring the library without Mockito, also run as a native test with ./gradlew nativeSmokeTest
+    register<Test>("smokeTest") {
+        description = "Runs the smoke tests of the application context of the library."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform { includeTags("smoke") }
+    }
+
+    // run with ./gradlew startupTest, adding -Pstartup.native to also measure the native executable
+    register<Test>("startupTest") {
+        description = "Measures the time from the spawn of an instance to its first leadership election."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform { includeTags("startup") }
+
+        // the instances are launched from the jar of the library, without the test classes nor their dependencies
+        val startupClasspath = startupApp.runtimeClasspath
+        dependsOn(startupClasspath)
+        jvmArgumentProviders.add(CommandLineArgumentProvider { listOf("-Dstartup.classpath=${startupClasspath.asPath}") })
+        if (providers.gradleProperty("startup.native").isPresent) {
+            dependsOn("nativeStartupAppCompile")
+            val executable = layout.buildDirectory.file("native/nativeStartupAppCompile/startup-app")
+            jvmArgumentProviders.add(CommandLineArgumentProvider {
+                listOf("-Dstartup.native-executable=${executable.get().asFile.absolutePath}")
+            })
+        }
+    }
+
     jacocoTestReport {
         dependsOn(test)
 
@@ -61,6 +99,31 @@ tasks {
     }
 }
 
+graalvmNative {
+    binaries {
+        // the application launched by the startup test, built with ./gradlew nativeStartupAppCompile
+        register("startupApp") {
+            imageName.set("startup-app")
+            mainClass.set("com.frogdevelopment.micronaut.consul.leadership.StartupApplication")
+            classpath(startupApp.runtimeClasspath)
+        }
+    }
+    registerTestBinary("smokeTest") {
+        usingSourceSet(sourceSets.test.get())
+        forTestTask(tasks.named<Test>("smokeTest"))
+    }
+}
+
+jmh {
+    // run with ./gradlew jmh -Pjmh.includes=WatchBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+    // e.g. -Pjmh.profilers=gc to report the allocations
+    providers.gradleProperty("jmh.profilers").orNull?.let { profilers.add(it) }
+    fork = 1
+    warmupIterations = 2
+    iterations = 3
+}
+
 sonar {
     properties {
         property("sonar.projectKey", "FrogDevelopment_micronaut-consul-leadership-election")
@@ -95,6 +158,8 @@ micronaut {
     processing {
         incremental(true)
         annotations("com.frogdevelopment.micronaut.consul.leadership.*")
+        // the bean definitions of the startup application
+        sourceSets(startupApp)
     }
 }
 
@@ -0,0 +1,70 @@
+package com.frogdevelopment.micronaut.consul.leadership.details;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micronaut.serde.ObjectMapper;
+
+/**
+ * Compares the cost of decoding the leadership details read from Consul, published on each change of leader.
+ * <p>
+ * {@code string} reproduces the former path, decoding the base64 value into a {@code byte[]}, then into a
+ * {@code String} parsed by the object mapper. {@code bytes} reproduces the current path, the decoded bytes being
+ * parsed in place. {@code stream} feeds the parser with a base64 decoding stream, the parser then copying the decoded
+ * bytes into its own buffer.
+ * </p>
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=LeadershipDetailsDecodeBenchmark -Pjmh.profilers=gc}:
+ * {@code gc.alloc.rate.norm} gives the bytes allocated per decoded value.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LeadershipDetailsDecodeBenchmark {
+
+    private final Base64.Decoder base64Decoder = Base64.getDecoder();
+
+    private ObjectMapper objectMapper;
+    private String base64Value;
+
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = ObjectMapper.getDefault();
+        final var leadershipDetails = LeadershipDetailsDefault.builder()
+                .podName("my-application-7d9f8b6c5d-x2k4p")
+                .namespace("production-environment")
+                .clusterName("production-cluster")
+                .acquireDateTime("2025-10-18T22:45:30.123456789")
+                .build();
+        base64Value = Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(leadershipDetails));
+    }
+
+    @Benchmark
+    public LeadershipDetails string() throws IOException {
+        final var json = new String(base64Decoder.decode(base64Value));
+        return objectMapper.readValue(json, LeadershipDetailsDefault.class);
+    }
+
+    @Benchmark
+    public LeadershipDetails bytes() throws IOException {
+        return objectMapper.readValue(base64Decoder.decode(base64Value), LeadershipDetailsDefault.class);
+    }
+
+    @Benchmark
+    public LeadershipDetails stream() throws IOException {
+        final var input = base64Decoder.wrap(new ByteArrayInputStream(base64Value.getBytes(StandardCharsets.ISO_8859_1)));
+        return objectMapper.readValue(input, LeadershipDetailsDefault.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Compares the cost of the watch pipeline of a follower over a simulated day of long-poll cycles.
+ * <p>
+ * {@code resubscribe} reproduces the former pipeline, creating a new {@code Mono}, a new {@link Disposable} and a
+ * new {@code Schedulers.single()} subscription at each cycle while disposing the previous one. {@code loop}
+ * reproduces the current pipeline, a single subscription repeating the watch and carrying the index forward.
+ * The long-poll is answered immediately, so that only the pipeline is measured.
+ * </p>
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=WatchLoopBenchmark -Pjmh.profilers=gc}: {@code gc.alloc.rate.norm}
+ * gives the bytes allocated per simulated day.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WatchLoopBenchmark {
+
+    // 24h of long-polls ending every 10s, the default read timeout of the HTTP client
+    @Param({"8640"})
+    private int cycles;
+
+    private final List<KeyValue> keyValues = List.of(new KeyValue(1, "leadership/benchmark", "value", "session"));
+    private final AtomicReference<Integer> modifyIndexRef = new AtomicReference<>();
+
+    private Mono<List<KeyValue>> watchLeadership(final Integer index) {
+        return Mono.fromSupplier(() -> keyValues);
+    }
+
+    private void onLeadershipChanges(final List<KeyValue> changes) {
+        modifyIndexRef.set(changes.getFirst().getModifyIndex());
+    }
+
+    @Benchmark
+    public void resubscribe() throws InterruptedException {
+        final var remaining = new AtomicInteger(cycles);
+        final var latch = new CountDownLatch(1);
+        final var listenerRef = new AtomicReference<Disposable>();
+        resubscribeCycle(Mono.just(1), remaining, latch, listenerRef);
+        latch.await();
+    }
+
+    private void resubscribeCycle(final Mono<Integer> mono,
+                                  final AtomicInteger remaining,
+                                  final CountDownLatch latch,
+                                  final AtomicReference<Disposable> listenerRef) {
+        final var previousListener = listenerRef.get();
+        if (previousListener != null && !previousListener.isDisposed()) {
+            previousListener.dispose();
+        }
+
+        final var disposable = mono
+                .flatMap(currentIndex -> watchLeadership(currentIndex)
+                        .doOnSuccess(changes -> {
+                            onLeadershipChanges(changes);
+                            if (remaining.decrementAndGet() == 0) {
+                                latch.countDown();
+                            } else {
+                                resubscribeCycle(Mono.just(modifyIndexRef.get()), remaining, latch, listenerRef);
+                            }
+                        }))
+                .subscribeOn(Schedulers.single())
+                .subscribe();
+
+        listenerRef.set(disposable);
+    }
+
+    @Benchmark
+    public void loop() {
+        final var remaining = new AtomicInteger(cycles);
+        modifyIndexRef.set(1);
+        Mono.defer(() -> watchLeadership(modifyIndexRef.get()))
+                .doOnNext(this::onLeadershipChanges)
+                .then()
+                .repeat(() -> remaining.decrementAndGet() > 0)
+                .subscribeOn(Schedulers.single())
+                .blockLast();
+    }
+}
@@ -0,0 +1,57 @@
+package com.frogdevelopment.micronaut.consul.leadership.watch;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import io.micronaut.http.HttpResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * In-memory client keeping the blocking queries pending until answered by the benchmark,
+ * each pending query standing for an open HTTP connection to Consul.
+ */
+class StubConsulWatchClient implements ConsulWatchClient {
+
+    private final Map<String, MonoSink<List<KeyValue>>> pendingKeyQueries = new HashMap<>();
+    private MonoSink<HttpResponse<List<KeyValue>>> pendingPrefixQuery;
+
+    long requests;
+
+    int openConnections() {
+        return pendingKeyQueries.size() + (pendingPrefixQuery == null ? 0 : 1);
+    }
+
+    void answerKeyQuery(final KeyValue keyValue) {
+        pendingKeyQueries.remove(keyValue.getKey()).success(List.of(keyValue));
+    }
+
+    void answerPrefixQuery(final long consulIndex, final List<KeyValue> keyValues) {
+        final var sink = pendingPrefixQuery;
+        pendingPrefixQuery = null;
+        sink.success(HttpResponse.ok(keyValues).header(ConsulIndex.HEADER, String.valueOf(consulIndex)));
+    }
+
+    @Override
+    public Mono<List<KeyValue>> watchLeadership(final String key, final Integer index, final String wait,
+                                                final Boolean stale, final Boolean consistent) {
+        return Mono.create(sink -> {
+            requests++;
+            pendingKeyQueries.put(key, sink);
+        });
+    }
+
+    @Override
+    public Mono<HttpResponse<List<KeyValue>>> watchLeadershipPrefix(final String prefix, final boolean recurse, final Long index, final String wait,
+                                                                    final Boolean stale, final Boolean consistent) {
+        return Mono.create(sink -> {
+            requests++;
+            pendingPrefixQuery = sink;
+        });
+    }
+}
@@ -0,0 +1,143 @@
+package com.frogdevelopment.micronaut.consul.leadership.watch;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import io.micronaut.context.ApplicationContext;
+
+/**
+ * Compares watching N election keys with one blocking query per key versus a single recursive blocking query.
+ * <p>
+ * Each operation is one leadership change on one of the keys: the matching query is answered, the change is
+ * dispatched to the watching election, which then watches again. The {@code openConnections} and
+ * {@code requests} counters report the number of pending blocking queries and the queries issued per iteration.
+ * </p>
+ * <p>
+ * The configuration is bound by an application context whose elections are not started, so that no Consul agent
+ * is needed.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WatchBenchmark {
+
+    private static final String PREFIX = "leadership/benchmark";
+    private static final BlockingQueryPolicy BLOCKING_QUERY_POLICY = new BlockingQueryPolicy("300s", Duration.ZERO);
+
+    @Param({"100", "1000", "5000"})
+    private int keys;
+
+    private ApplicationContext applicationContext;
+    private StubConsulWatchClient perKeyClient;
+    private StubConsulWatchClient prefixClient;
+    private KeyValue[] keyValues;
+    private long consulIndex;
+    private int round;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Connections {
+
+        public long requests;
+        private StubConsulWatchClient client;
+
+        public long openConnections() {
+            return client == null ? 0 : client.openConnections();
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keyValues = new KeyValue[keys];
+        for (int i = 0; i < keys; i++) {
+            keyValues[i] = new KeyValue(1, PREFIX + "/shard-" + i, "value", "session");
+        }
+        consulIndex = 1;
+
+        perKeyClient = new StubConsulWatchClient();
+        final var keyWatcher = new KeyLeadershipWatcher(perKeyClient, BLOCKING_QUERY_POLICY);
+        for (final var keyValue : keyValues) {
+            watch(keyWatcher, keyValue.getKey(), keyValue.getModifyIndex());
+        }
+
+        applicationContext = ApplicationContext.run(Map.of(
+                "consul.client.host", "localhost",
+                "consul.client.port", 8500,
+                "consul.client.registration.enabled", false,
+                "consul.leadership.path", PREFIX,
+                "consul.leadership.election.auto-startup", false,
+                "consul.leadership.watch.prefix-enabled", true,
+                "consul.leadership.watch.prefix", PREFIX,
+                "consul.leadership.watch.rate-limit-delay", "0s"));
+        final var configuration = applicationContext.getBean(LeadershipConfiguration.class);
+
+        prefixClient = new StubConsulWatchClient();
+        final var prefixWatcher = new PrefixLeadershipWatcher(prefixClient, configuration, BLOCKING_QUERY_POLICY);
+        for (final var keyValue : keyValues) {
+            watch(prefixWatcher, keyValue.getKey(), keyValue.getModifyIndex());
+        }
+        prefixClient.answerPrefixQuery(consulIndex, List.of(keyValues));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    private static void watch(final LeadershipWatcher watcher, final String key, final Integer index) {
+        watcher.watchLeadership(key, index)
+                .subscribe(changes -> watch(watcher, key, changes.getFirst().getModifyIndex()));
+    }
+
+    private KeyValue nextChange() {
+        final var i = round++ % keys;
+        final var previous = keyValues[i];
+        final var changed = new KeyValue((int) ++consulIndex, previous.getKey(), previous.getValue(), previous.getSession());
+        keyValues[i] = changed;
+        return changed;
+    }
+
+    @Benchmark
+    public int perKeyBlockingQueries(final Connections connections) {
+        final var before = perKeyClient.requests;
+        perKeyClient.answerKeyQuery(nextChange());
+        connections.client = perKeyClient;
+        connections.requests += perKeyClient.requests - before;
+        return perKeyClient.openConnections();
+    }
+
+    @Benchmark
+    public int prefixBlockingQuery(final Connections connections) {
+        final var before = prefixClient.requests;
+        nextChange();
+        prefixClient.answerPrefixQuery(consulIndex, Arrays.asList(keyValues.clone()));
+        connections.client = prefixClient;
+        connections.requests += prefixClient.requests - before;
+        return prefixClient.openConnections();
+    }
+}
@@ -1,5 +1,6 @@
 package com.frogdevelopment.micronaut.consul.leadership;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import jakarta.inject.Singleton;
@@ -11,36 +12,47 @@ import io.micronaut.context.event.StartupEvent;
 import io.micronaut.runtime.event.annotation.EventListener;
 
 /**
- * Start and stop Consul {@link LeaderElectionOrchestrator} on {@link StartupEvent} and {@link ShutdownEvent}.
+ * Start and stop all Consul {@link LeaderElectionOrchestrator}, one per election, on {@link StartupEvent} and {@link ShutdownEvent}.
  *
  * @since 1.0.0
  */
 @Slf4j
 @Singleton
+@RequiredArgsConstructor
 public final class ElectionTrigger {
 
+    private final LeadershipConfiguration configuration;
+
     /**
      * Handles application startup by initiating the leadership election process.
      * <p>
      * This method is invoked automatically when the application starts up.
-     * It retrieves the {@link LeaderElectionOrchestrator} bean from the application context
-     * and calls its {@code start()} method to begin the election process.
+     * It retrieves the {@link LeaderElectionOrchestrator} beans from the application context
+     * and calls their {@code start()} method to begin the election processes, except for the ones
+     * not {@link LeaderElectionOrchestrator#isAutoStartup() started with the application}.
+     * Nothing is started when {@code consul.leadership.election.auto-startup} is disabled.
      * </p>
      *
      * @param event the startup event containing the application context
      */
     @EventListener
     void onStart(final StartupEvent event) {
+        if (!configuration.getElection().isAutoStartup()) {
+            log.info("Leadership Election not started with the application");
+            return;
+        }
         log.info("Starting Leadership Election");
-        event.getSource().getBean(LeaderElectionOrchestrator.class).start();
+        event.getSource().getBeansOfType(LeaderElectionOrchestrator.class).stream()
+                .filter(LeaderElectionOrchestrator::isAutoStartup)
+                .forEach(LeaderElectionOrchestrator::start);
     }
 
     /**
      * Handles application shutdown by stopping the leadership election process.
      * <p>
      * This method is invoked automatically when the application is shutting down.
-     * It retrieves the {@link LeaderElectionOrchestrator} bean from the application context
-     * and calls its {@code stop()} method to gracefully release any held leadership
+     * It retrieves the {@link LeaderElectionOrchestrator} beans from the application context
+     * and calls their {@code stop()} method to gracefully release any held leadership
      * and clean up resources.
      * </p>
      *
@@ -49,6 +61,6 @@ public final class ElectionTrigger {
     @EventListener
     void onShutdown(final ShutdownEvent event) {
         log.info("Stopping Leadership Election");
-        event.getSource().getBean(LeaderElectionOrchestrator.class).stop();
+        event.getSource().getBeansOfType(LeaderElectionOrchestrator.class).forEach(LeaderElectionOrchestrator::stop);
     }
 }
@@ -1,17 +1,23 @@
 package com.frogdevelopment.micronaut.consul.leadership;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.session.SessionMode;
+
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Context;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.util.Toggleable;
 import io.micronaut.runtime.context.scope.Refreshable;
+import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.serde.annotation.Serdeable;
 
 /**
@@ -67,6 +73,34 @@ public interface LeadershipConfiguration {
      */
     ElectionConfiguration getElection();
 
+    /**
+     * Gets the configuration of the watch on leadership changes.
+     *
+     * @return the watch configuration
+     */
+    WatchConfiguration getWatch();
+
+    /**
+     * Gets the consistency modes of the reads sent to Consul.
+     *
+     * @return the consistency configuration
+     */
+    ConsistencyConfiguration getConsistency();
+
+    /**
+     * Gets the configuration of the partition ownership mode.
+     *
+     * @return the partition configuration
+     */
+    PartitionConfiguration getPartitions();
+
+    /**
+     * Gets the configuration of the hierarchical election mode.
+     *
+     * @return the hierarchical configuration
+     */
+    HierarchicalConfiguration getHierarchical();
+
     /**
      * Gets the Consul key-value path where leadership information is stored.
      * <p>
@@ -118,12 +152,53 @@ public interface LeadershipConfiguration {
         @Bindable(defaultValue = "15s")
         String getSessionTtl();
 
+        /**
+         * Gets how the Consul session is kept alive.
+         * <p>
+         * With {@link SessionMode#TTL}, the session expires after the {@link #getSessionTtl() TTL} unless renewed.
+         * With {@link SessionMode#CHECKS}, the session has no TTL and is only bound to the
+         * {@link #getSessionNodeChecks() node checks} and {@link #getSessionServiceChecks() service checks}:
+         * no renewal is sent at all, and the locks are released as soon as one of the checks is critical.
+         * </p>
+         *
+         * @return the session mode
+         */
+        @Bindable(defaultValue = "TTL")
+        SessionMode getSessionMode();
+
+        /**
+         * Gets the IDs of the node health checks the session is bound to, in {@link SessionMode#CHECKS} mode.
+         * <p>
+         * The default {@code serfHealth} check fails when the Consul agent of this node is unreachable, but not
+         * when the application crashes or hangs while its node stays healthy: hence the
+         * {@link #getSessionServiceChecks() service checks} required along with it.
+         * </p>
+         *
+         * @return the IDs of the node health checks
+         */
+        @Bindable(defaultValue = "serfHealth")
+        List<String> getSessionNodeChecks();
+
+        /**
+         * Gets the IDs of the service health checks the session is bound to, in {@link SessionMode#CHECKS} mode.
+         * <p>
+         * Binding the session to the health check of the application service releases the locks as soon as
+         * the application itself is unhealthy, not only its node. At least one is required in
+         * {@link SessionMode#CHECKS} mode, the application failing to start otherwise.
+         * </p>
+         *
+         * @return the IDs of the service health checks, or {@code null} if none
+         */
+        @Nullable
+        List<String> getSessionServiceChecks();
+
         /**
          * Gets the delay between session renewal attempts.
          * <p>
          * The leader must periodically renew its session to maintain leadership.
          * This setting controls how frequently renewal attempts are made.
          * The delay should be significantly shorter than the session TTL.
+         * With the {@link #isAdaptiveSessionRenewal() adaptive renewal}, it is only used when the TTL is unknown.
          * </p>
          *
          * @return the duration between session renewal attempts
@@ -131,6 +206,111 @@ public interface LeadershipConfiguration {
         @Bindable(defaultValue = "10s")
         Duration getSessionRenewalDelay();
 
+        /**
+         * Whether the delay between session renewals adapts to the session TTL and to the latency of Consul.
+         * <p>
+         * When enabled, the next renewal is scheduled from the TTL returned by Consul, keeping a margin that
+         * grows with the observed renewal latency, and a failed renewal is retried after the
+         * {@link #getRetryDelayMs() retry delay}. When disabled, the sessions are renewed every
+         * {@link #getSessionRenewalDelay() session renewal delay}.
+         * </p>
+         *
+         * @return {@code true} if the session renewal is adaptive
+         */
+        @Bindable(defaultValue = "true")
+        boolean isAdaptiveSessionRenewal();
+
+        /**
+         * Gets the safety margin before the expiry of the session lease.
+         * <p>
+         * The lease of the session starts when a successful renewal was sent, and lasts for the session TTL.
+         * When the remaining lease drops below this margin without a new successful renewal, the elections
+         * led by this instance step down, before Consul may release their locks.
+         * </p>
+         *
+         * @return the safety margin before the expiry of the session lease
+         */
+        @Bindable(defaultValue = "2s")
+        Duration getStepDownMargin();
+
+        /**
+         * Whether the leader hands its leadership off to a designated successor when stopping.
+         * <p>
+         * The followers register as candidates. When stopping, the leader designates the candidate of highest
+         * {@link #getPriority() priority}, then the longest-standing one, as its successor before releasing the
+         * lock: the successor applies at once, while the other followers wait for the
+         * {@link #getHandoffTimeout() handoff timeout} before applying.
+         * </p>
+         *
+         * @return {@code true} if the leadership is handed off when stopping
+         */
+        @Bindable(defaultValue = "true")
+        boolean isHandoffEnabled();
+
+        /**
+         * Gets how long the followers which are not the designated successor wait before applying for a
+         * leadership handed off, in case the successor does not acquire it.
+         *
+         * @return the handoff timeout
+         */
+        @Bindable(defaultValue = "3s")
+        Duration getHandoffTimeout();
+
+        /**
+         * Gets the priority of this instance as candidate to the leadership, the higher the more preferred.
+         * <p>
+         * When the leadership is free, a candidate applies at once if no live candidate has a higher priority,
+         * and otherwise waits for the {@link #getPriorityDelay() priority delay} per higher priority. All the
+         * instances of an election should then have a priority.
+         * </p>
+         *
+         * @return the priority of this instance, or {@code null} for all the candidates to compete equally
+         */
+        @Nullable
+        Integer getPriority();
+
+        /**
+         * Gets how long a candidate waits, per live higher priority, before applying for a free leadership.
+         *
+         * @return the delay per higher priority
+         */
+        @Bindable(defaultValue = "1s")
+        Duration getPriorityDelay();
+
+        /**
+         * Whether this instance reclaims the leadership from a leader of lower {@link #getPriority() priority}.
+         * <p>
+         * When enabled, a candidate seeing a leader of lower priority releases its lock, then acquires it.
+         * </p>
+         *
+         * @return {@code true} if the leadership is preempted from lower priority leaders
+         */
+        @Bindable(defaultValue = "false")
+        boolean isPreemptive();
+
+        /**
+         * Gets the name of the executor running the tasks submitted to the {@code LeaderTaskExecutor}.
+         * <p>
+         * Set it to {@value TaskExecutors#VIRTUAL} to run the tasks on virtual threads.
+         * </p>
+         *
+         * @return the name of the executor running the leader tasks
+         */
+        @Bindable(defaultValue = TaskExecutors.BLOCKING)
+        String getTaskExecutor();
+
+        /**
+         * Whether the elections are started with the application.
+         * <p>
+         * When disabled, the beans of the elections are available but no session is created until their
+         * orchestrator is started explicitly.
+         * </p>
+         *
+         * @return {@code true} to start the elections on application startup
+         */
+        @Bindable(defaultValue = "true")
+        boolean isAutoStartup();
+
         /**
          * Gets the maximum number of retry attempts for operations.
          * <p>
@@ -175,4 +355,168 @@ public interface LeadershipConfiguration {
         Integer getTimeoutMs();
     }
 
+    /**
+     * Configuration properties of the watch on leadership changes.
+     * <p>
+     * By default, each election watches its own key with a dedicated blocking query. When
+     * the prefix watch is enabled, all the elections whose key is under the prefix are watched
+     * with a single recursive blocking query, which keeps one open connection per instance
+     * whatever the number of elections.
+     * </p>
+     */
+    @ConfigurationProperties("watch")
+    interface WatchConfiguration {
+
+        /**
+         * Whether the elections are watched with a single recursive blocking query on a prefix.
+         *
+         * @return {@code true} if the prefix watch is enabled
+         */
+        @Bindable(defaultValue = "false")
+        boolean isPrefixEnabled();
+
+        /**
+         * Gets the Consul KV prefix watched recursively when the prefix watch is enabled.
+         * <p>
+         * Keys of elections outside of this prefix are still watched individually.
+         * </p>
+         *
+         * @return the watched prefix, or {@code Optional.empty()} to use {@link LeadershipConfiguration#getPath()}
+         */
+        Optional<String> getPrefix();
+
+        /**
+         * Gets the maximum duration of a blocking query.
+         * <p>
+         * Sent to Consul as the {@code wait} parameter, so that a quiet period ends with a normal response
+         * instead of a read timeout. It is capped below the read timeout of the HTTP client, Consul adding
+         * up to {@code wait/16} of random jitter to each response.
+         * </p>
+         *
+         * @return the maximum duration of a blocking query
+         */
+        @Bindable(defaultValue = "5m")
+        Duration getWait();
+
+        /**
+         * Gets the delay before the next blocking query when the index did not advance.
+         * <p>
+         * A blocking query may return without any change, e.g. when the wait elapsed: this delay prevents
+         * a hot loop against Consul if it keeps answering immediately.
+         * </p>
+         *
+         * @return the delay before the next blocking query when nothing changed
+         */
+        @Bindable(defaultValue = "1s")
+        Duration getRateLimitDelay();
+    }
+
+    /**
+     * Configuration properties of the consistency modes of the reads sent to Consul.
+     * <p>
+     * The watches are issued by every instance and woken up on each change, while the reads are only
+     * issued after an election has been won. Using {@link ConsistencyMode#STALE} for the watches spreads
+     * their load across all the Consul servers, while the {@link ConsistencyMode#CONSISTENT} reads keep the
+     * checks of the leader strongly consistent.
+     * </p>
+     *
+     * @see <a href="https://developer.hashicorp.com/consul/api-docs/features/consistency">Consul - Consistency Modes</a>
+     */
+    @ConfigurationProperties("consistency")
+    interface ConsistencyConfiguration {
+
+        /**
+         * Gets the consistency mode of the blocking queries watching the leadership keys.
+         *
+         * @return the consistency mode of the watches
+         */
+        @Bindable(defaultValue = "DEFAULT")
+        ConsistencyMode getWatch();
+
+        /**
+         * Gets the consistency mode of the read verifying the leadership key once an election is won.
+         *
+         * @return the consistency mode of the reads
+         */
+        @Bindable(defaultValue = "CONSISTENT")
+        ConsistencyMode getRead();
+    }
+
+    /**
+     * Configuration properties of the partition ownership mode.
+     * <p>
+     * When enabled, the work is split into a fixed number of partitions, each one owned by a single
+     * instance through a Consul KV lock under {@code <path>/partitions/<id>}. Every live instance
+     * targets a fair share of the partitions, releasing its surplus when new instances join.
+     * </p>
+     */
+    @ConfigurationProperties("partitions")
+    interface PartitionConfiguration extends Toggleable {
+
+        /**
+         * Whether the partition ownership mode is enabled.
+         *
+         * @return {@code true} if enabled, disabled by default
+         */
+        @Override
+        @Bindable(defaultValue = "false")
+        boolean isEnabled();
+
+        /**
+         * Gets the number of partitions shared among the instances.
+         * <p>
+         * All the instances must use the same number of partitions.
+         * </p>
+         *
+         * @return the number of partitions (must be at least 1)
+         */
+        @Min(1)
+        @Bindable(defaultValue = "256")
+        Integer getCount();
+
+        /**
+         * Gets the delay between two rebalancing of the partitions.
+         * <p>
+         * At each rebalancing, the instance registers itself as live member, then acquires free partitions
+         * up to its fair share, or releases the partitions above it.
+         * </p>
+         *
+         * @return the duration between two rebalancing
+         */
+        @Bindable(defaultValue = "10s")
+        Duration getRebalanceDelay();
+    }
+
+    /**
+     * Configuration properties of the hierarchical election mode.
+     * <p>
+     * When enabled, the instances of a same cluster first elect a cluster-local leader on
+     * {@code <path>/clusters/<cluster-name>}, and only the cluster-local leaders contend for the
+     * default election on {@code <path>}. This bounds the contenders of the global key to the number
+     * of clusters instead of the number of instances.
+     * </p>
+     */
+    @ConfigurationProperties("hierarchical")
+    interface HierarchicalConfiguration extends Toggleable {
+
+        /**
+         * Whether the hierarchical election mode is enabled.
+         *
+         * @return {@code true} if enabled, disabled by default
+         */
+        @Override
+        @Bindable(defaultValue = "false")
+        boolean isEnabled();
+
+        /**
+         * Gets the name of the cluster of this instance.
+         * <p>
+         * All the instances of a same cluster must use the same name.
+         * </p>
+         *
+         * @return the cluster name, or {@code Optional.empty()} to resolve it from the Kubernetes configuration
+         */
+        Optional<String> getClusterName();
+    }
+
 }
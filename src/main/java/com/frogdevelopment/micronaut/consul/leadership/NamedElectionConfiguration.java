@@ -0,0 +1,60 @@
+package com.frogdevelopment.micronaut.consul.leadership;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Configuration properties for an additional named leadership election.
+ * <p>
+ * Each entry under {@code consul.leadership.elections.<name>} declares an independent election,
+ * with its own Consul KV key and its own {@link com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus},
+ * that runs alongside the default election configured by {@link LeadershipConfiguration#getPath()}.
+ * All the elections of an instance share the same Consul session and the same session renewal task.
+ * </p>
+ * <pre>{@code
+ * consul:
+ *   leadership:
+ *     elections:
+ *       billing-batch:
+ *         path: leadership/my-app/billing-batch
+ *       reconciler:
+ *         path: leadership/my-app/reconciler
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@Getter
+@EachProperty(NamedElectionConfiguration.PREFIX)
+public class NamedElectionConfiguration {
+
+    /**
+     * The configuration prefix for named elections.
+     */
+    public static final String PREFIX = LeadershipConfiguration.PREFIX + ".elections";
+
+    /**
+     * The name of the election, as declared in the configuration.
+     */
+    private final String name;
+
+    /**
+     * The Consul KV path used for this election.
+     * When not configured, defaults to {@code <consul.leadership.path>/<name>}.
+     */
+    @Setter
+    @Nullable
+    private String path;
+
+    /**
+     * Creates a named election configuration.
+     *
+     * @param name the name of the election, as declared in the configuration
+     */
+    public NamedElectionConfiguration(@Parameter final String name) {
+        this.name = name;
+    }
+}
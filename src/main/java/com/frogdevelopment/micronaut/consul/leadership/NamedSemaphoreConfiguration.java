@@ -0,0 +1,68 @@
+package com.frogdevelopment.micronaut.consul.leadership;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import jakarta.validation.constraints.Min;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Configuration properties for a named Consul semaphore.
+ * <p>
+ * Each entry under {@code consul.leadership.semaphores.<name>} declares a semaphore allowing up to
+ * {@link #getLimit() limit} instances to hold a permit at the same time, following
+ * <a href="https://developer.hashicorp.com/consul/docs/automate/semaphore">Consul's semaphore recipe</a>.
+ * The permit status is exposed by a {@link com.frogdevelopment.micronaut.consul.leadership.semaphore.SemaphoreStatus}
+ * qualified by the name of the semaphore.
+ * </p>
+ * <pre>{@code
+ * consul:
+ *   leadership:
+ *     semaphores:
+ *       quota-pullers:
+ *         limit: 3
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@EachProperty(NamedSemaphoreConfiguration.PREFIX)
+public class NamedSemaphoreConfiguration {
+
+    /**
+     * The configuration prefix for named semaphores.
+     */
+    public static final String PREFIX = LeadershipConfiguration.PREFIX + ".semaphores";
+
+    /**
+     * The name of the semaphore, as declared in the configuration.
+     */
+    private final String name;
+
+    /**
+     * The maximum number of instances holding a permit at the same time.
+     * All the instances must use the same limit.
+     */
+    @Min(1)
+    private int limit = 1;
+
+    /**
+     * The Consul KV prefix used for this semaphore.
+     * When not configured, defaults to {@code <consul.leadership.path>/semaphores/<name>}.
+     */
+    @Nullable
+    private String path;
+
+    /**
+     * Creates a named semaphore configuration.
+     *
+     * @param name the name of the semaphore, as declared in the configuration
+     */
+    public NamedSemaphoreConfiguration(@Parameter final String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,70 @@
+package com.frogdevelopment.micronaut.consul.leadership.aop;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NotLeaderException;
+
+import io.micronaut.aop.Around;
+
+/**
+ * Restricts the invocations of the annotated methods to the leader of an {@link Election}.
+ * <p>
+ * On the followers, the invocation does not reach the method: depending on {@link #onFollower()}, an empty result
+ * is returned or a {@link NotLeaderException} is raised. The empty result matches the return type of the method:
+ * {@code null} for {@code void}, the default value for a primitive, {@code Optional.empty()}, an empty
+ * {@code Mono} or {@code Flux}, or a completed {@code CompletableFuture}.
+ * </p>
+ * <p>
+ * Example usage, on a job scheduled on every instance, but only run by the leader:
+ * </p>
+ * <pre>{@code
+ * @LeaderOnly
+ * @Scheduled(fixedDelay = "1m")
+ * void purgeExpiredEntries() {
+ *     // only executed on the leader
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+@Around
+@Documented
+@Retention(RUNTIME)
+@Target({METHOD, TYPE, ANNOTATION_TYPE})
+public @interface LeaderOnly {
+
+    /**
+     * @return the name of the election whose leader runs the method, the default election if not set
+     */
+    String value() default Election.DEFAULT_NAME;
+
+    /**
+     * @return what to do when this instance is not the leader
+     */
+    OnFollower onFollower() default OnFollower.SKIP;
+
+    /**
+     * What an invocation on a follower results in.
+     */
+    enum OnFollower {
+
+        /**
+         * The invocation returns an empty result, as {@code Mono.empty()} for a reactive method.
+         */
+        SKIP,
+
+        /**
+         * The invocation fails with a {@link NotLeaderException}, signaled as an error for a reactive or an
+         * asynchronous method.
+         */
+        THROW
+    }
+}
@@ -0,0 +1,142 @@
+package com.frogdevelopment.micronaut.consul.leadership.aop;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Singleton;
+
+import org.reactivestreams.Publisher;
+
+import com.frogdevelopment.micronaut.consul.leadership.aop.LeaderOnly.OnFollower;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NotLeaderException;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+
+import io.micronaut.aop.InterceptorBean;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Intercepts the methods annotated with {@link LeaderOnly}, only proceeding on the leader of their election.
+ * <p>
+ * The {@link LeadershipStatus} of the election, the action on followers and the empty result matching the return
+ * type are resolved once per method: checking the leadership is then a map lookup and a volatile read, without
+ * allocation, on the leader as on the followers.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+@InterceptorBean(LeaderOnly.class)
+public class LeaderOnlyInterceptor implements MethodInterceptor<Object, Object> {
+
+    // the default values of the primitive types, without reflection
+    private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = Map.of(
+            boolean.class, false,
+            char.class, '\0',
+            byte.class, (byte) 0,
+            short.class, (short) 0,
+            int.class, 0,
+            long.class, 0L,
+            float.class, 0F,
+            double.class, 0D);
+
+    private final BeanContext beanContext;
+
+    private final Map<ExecutableMethod<?, ?>, Guard> guards = new ConcurrentHashMap<>();
+
+    @Nullable
+    @Override
+    public Object intercept(final MethodInvocationContext<Object, Object> context) {
+        val method = context.getExecutableMethod();
+        var guard = guards.get(method);
+        if (guard == null) {
+            guard = guards.computeIfAbsent(method, this::createGuard);
+        }
+
+        if (guard.isLeader()) {
+            return context.proceed();
+        }
+        log.trace("[{}] Not the leader, skipping {}", guard.electionName(), method);
+        return guard.followerResult();
+    }
+
+    private Guard createGuard(final ExecutableMethod<?, ?> method) {
+        val electionName = method.stringValue(LeaderOnly.class).orElse(Election.DEFAULT_NAME);
+        val onFollower = method.enumValue(LeaderOnly.class, "onFollower", OnFollower.class).orElse(OnFollower.SKIP);
+        val leadershipStatus = beanContext.findBean(LeadershipStatus.class, Qualifiers.byName(electionName)).orElse(null);
+        if (leadershipStatus == null) {
+            log.warn("[{}] No such election, {} will never be invoked", electionName, method);
+        }
+        val returnType = method.getReturnType().getType();
+        return new Guard(electionName, leadershipStatus, onFollower, returnType, emptyResult(returnType));
+    }
+
+    @Nullable
+    private static Object emptyResult(final Class<?> returnType) {
+        if (returnType == void.class) {
+            return null;
+        }
+        if (returnType.isPrimitive()) {
+            return PRIMITIVE_DEFAULTS.get(returnType);
+        }
+        if (returnType == Optional.class) {
+            return Optional.empty();
+        }
+        if (Mono.class.isAssignableFrom(returnType)) {
+            return Mono.empty();
+        }
+        if (Publisher.class.isAssignableFrom(returnType)) {
+            return Flux.empty();
+        }
+        return null;
+    }
+
+    private record Guard(String electionName,
+                         @Nullable LeadershipStatus leadershipStatus,
+                         OnFollower onFollower,
+                         Class<?> returnType,
+                         @Nullable Object emptyResult) {
+
+        boolean isLeader() {
+            return leadershipStatus != null && leadershipStatus.isLeader();
+        }
+
+        @Nullable
+        Object followerResult() {
+            if (onFollower == OnFollower.THROW) {
+                return error(new NotLeaderException(electionName));
+            }
+            // a completable future can be completed again by the caller: never shared
+            return CompletionStage.class.isAssignableFrom(returnType) ? CompletableFuture.completedFuture(null) : emptyResult;
+        }
+
+        private Object error(final NotLeaderException exception) {
+            if (Mono.class.isAssignableFrom(returnType)) {
+                return Mono.error(exception);
+            }
+            if (Publisher.class.isAssignableFrom(returnType)) {
+                return Flux.error(exception);
+            }
+            if (CompletionStage.class.isAssignableFrom(returnType)) {
+                return CompletableFuture.failedFuture(exception);
+            }
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Parameters of the blocking queries used to watch the leadership keys.
+ * <p>
+ * The {@code wait} sent to Consul is the {@link LeadershipConfiguration.WatchConfiguration#getWait() configured one},
+ * capped so that the response, delayed by Consul with up to {@code wait/16} of random jitter, arrives before the
+ * read timeout of the HTTP client. A quiet period then ends with a normal response, with an unchanged index,
+ * instead of a read timeout.
+ * </p>
+ * <p>
+ * The blocking queries are sent with the {@link LeadershipConfiguration.ConsistencyConfiguration#getWatch() consistency mode
+ * of the watches}.
+ * </p>
+ *
+ * @see <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">Consul - Blocking Queries</a>
+ * @since 1.0.0
+ */
+@Slf4j
+@Singleton
+@Requires(beans = LeadershipConfiguration.class)
+public class BlockingQueryPolicy {
+
+    private final String wait;
+    private final Duration rateLimitDelay;
+    private final ConsistencyMode consistency;
+
+    /**
+     * @param configuration        the leadership configuration, providing the wanted wait
+     * @param queriesConfiguration the configuration of the HTTP client issuing the blocking queries
+     */
+    @Inject
+    public BlockingQueryPolicy(final LeadershipConfiguration configuration, final ConsulWatchClientConfiguration queriesConfiguration) {
+        this(toWait(configuration.getWatch().getWait(), queriesConfiguration.getReadTimeout().orElse(null)),
+                configuration.getWatch().getRateLimitDelay(),
+                configuration.getConsistency().getWatch());
+    }
+
+    /**
+     * @param wait           the {@code wait} parameter of the blocking queries, e.g. {@code 300s}
+     * @param rateLimitDelay the delay before the next blocking query when the index did not advance
+     */
+    public BlockingQueryPolicy(final String wait, final Duration rateLimitDelay) {
+        this(wait, rateLimitDelay, ConsistencyMode.DEFAULT);
+    }
+
+    /**
+     * @param wait           the {@code wait} parameter of the blocking queries, e.g. {@code 300s}
+     * @param rateLimitDelay the delay before the next blocking query when the index did not advance
+     * @param consistency    the consistency mode of the blocking queries
+     */
+    public BlockingQueryPolicy(final String wait, final Duration rateLimitDelay, final ConsistencyMode consistency) {
+        this.wait = wait;
+        this.rateLimitDelay = rateLimitDelay;
+        this.consistency = consistency;
+    }
+
+    // @VisibleForTesting
+    static String toWait(final Duration wait, @Nullable final Duration readTimeout) {
+        var effectiveWait = wait;
+        if (readTimeout != null) {
+            // Consul adds up to wait/16 of jitter, plus a margin for the network
+            val maxWait = readTimeout.multipliedBy(16).dividedBy(17).minusSeconds(1);
+            if (effectiveWait.compareTo(maxWait) > 0) {
+                log.warn("Blocking query wait={} is too long for the client read timeout={}, using wait={}", wait, readTimeout, maxWait);
+                effectiveWait = maxWait;
+            }
+        }
+        return Math.max(1, effectiveWait.toSeconds()) + "s";
+    }
+
+    /**
+     * @return the {@code wait} parameter of the blocking queries, e.g. {@code 300s}
+     */
+    public String getWait() {
+        return wait;
+    }
+
+    /**
+     * @return the delay before the next blocking query when the index did not advance
+     */
+    public Duration getRateLimitDelay() {
+        return rateLimitDelay;
+    }
+
+    /**
+     * @return the consistency mode of the blocking queries
+     */
+    public ConsistencyMode getConsistency() {
+        return consistency;
+    }
+}
@@ -0,0 +1,48 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Consistency mode of the reads sent to Consul.
+ * <p>
+ * Consul only checks the presence of the {@code stale} and {@code consistent} query parameters, so their
+ * value is {@code null} to omit them, and {@code true} to send them.
+ * </p>
+ *
+ * @see <a href="https://developer.hashicorp.com/consul/api-docs/features/consistency">Consul - Consistency Modes</a>
+ * @since 1.0.0
+ */
+public enum ConsistencyMode {
+
+    /**
+     * Served by the Consul server leader, which may return a stale value in the rare case of a leadership change
+     * between Consul servers.
+     */
+    DEFAULT,
+
+    /**
+     * Served by any Consul server, spreading the load of the reads at the cost of a possibly outdated value.
+     */
+    STALE,
+
+    /**
+     * Served by the Consul server leader after confirming with a quorum that it is still the leader.
+     */
+    CONSISTENT;
+
+    /**
+     * @return the value of the {@code stale} query parameter, {@code null} to omit it
+     */
+    @Nullable
+    public Boolean stale() {
+        return this == STALE ? Boolean.TRUE : null;
+    }
+
+    /**
+     * @return the value of the {@code consistent} query parameter, {@code null} to omit it
+     */
+    @Nullable
+    public Boolean consistent() {
+        return this == CONSISTENT ? Boolean.TRUE : null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.micronaut.http.HttpResponse;
+
+/**
+ * Helper reading the index of Consul's blocking queries and applying the rules on its evolution.
+ *
+ * @see <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">Consul - Blocking Queries</a>
+ * @since 1.0.0
+ */
+public final class ConsulIndex {
+
+    /**
+     * The header containing the index to use for the next blocking query.
+     */
+    public static final String HEADER = "X-Consul-Index";
+
+    private ConsulIndex() {
+    }
+
+    /**
+     * Reads the index of a blocking query response.
+     *
+     * @param response  the response of the blocking query
+     * @param keyValues the keys returned by the query, used when the header is missing
+     * @return the {@code X-Consul-Index} header, or the highest {@code ModifyIndex} of the keys if missing
+     */
+    public static long of(final HttpResponse<?> response, final List<KeyValue> keyValues) {
+        return response.getHeaders().get(HEADER, Long.class)
+                // should not happen, but the highest ModifyIndex is the closest
+                .orElseGet(() -> keyValues.stream()
+                        .map(KeyValue::getModifyIndex)
+                        .filter(Objects::nonNull)
+                        .mapToLong(Integer::longValue)
+                        .max()
+                        .orElse(0));
+    }
+
+    /**
+     * Computes the index of the next blocking query, following Consul's rules.
+     * <p>
+     * The index must be reset to {@code 0} when it goes backwards (e.g. after a snapshot restore),
+     * and must otherwise be at least {@code 1}, as {@code 0} returns immediately.
+     * </p>
+     *
+     * @param previous the index of the previous blocking query
+     * @param current  the index returned by the blocking query
+     * @return the index to use for the next blocking query
+     */
+    public static long next(final long previous, final long current) {
+        if (current < previous) {
+            return 0;
+        }
+        return Math.max(1, current);
+    }
+}
@@ -9,10 +9,10 @@ import com.frogdevelopment.micronaut.consul.leadership.session.Session;
 
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.discovery.consul.client.v1.ConsulClient;
-import io.micronaut.discovery.consul.client.v1.blockingqueries.BlockedQueries;
-import io.micronaut.discovery.consul.client.v1.blockingqueries.BlockingQueriesConfiguration;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Delete;
 import io.micronaut.http.annotation.Get;
 import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.annotation.Put;
@@ -28,14 +28,17 @@ import reactor.core.publisher.Mono;
  * leadership election operations using Consul's key-value store with session locks.
  * The interface uses reactive programming with Mono return types for non-blocking operations.
  * </p>
+ * <p>
+ * The blocking queries are issued by {@link ConsulWatchClient}, with its own connection pool, so that the
+ * latency critical operations, such as the session renewal, never wait for a connection behind them.
+ * </p>
  *
  * @see <a href="https://developer.hashicorp.com/consul/docs/automate/application-leader-election">Consul - Application leader election</a>
  * @since 1.0.0
  */
-@BlockedQueries
 @ConsulLeadershipAuth
 @Requires(beans = LeadershipConfiguration.class)
-@Client(id = ConsulClient.SERVICE_ID, path = "/v1", configuration = BlockingQueriesConfiguration.class)
+@Client(id = ConsulClient.SERVICE_ID, path = "/v1", configuration = ConsulLeadershipClientConfiguration.class)
 public interface ConsulLeadershipClient {
 
     // SESSION
@@ -63,10 +66,23 @@ public interface ConsulLeadershipClient {
      * </p>
      *
      * @param sessionId the ID of the session to renew
-     * @return a Mono that completes when the session is successfully renewed
+     * @return a Mono containing the renewed session, or an empty list if the session no longer exists
      */
     @Put(value = "/session/renew/{sessionId}", processes = MediaType.APPLICATION_JSON, single = true)
-    Mono<Void> renewSession(@PathVariable("sessionId") String sessionId);
+    Mono<List<Session>> renewSession(@PathVariable("sessionId") String sessionId);
+
+    /**
+     * Reads an existing Consul session.
+     * <p>
+     * A session bound to health checks is never renewed: reading it is the way to know whether it has been
+     * invalidated by a failing check.
+     * </p>
+     *
+     * @param sessionId the ID of the session to read
+     * @return a Mono containing the session, or an empty list if the session no longer exists
+     */
+    @Get(value = "/session/info/{sessionId}", processes = MediaType.APPLICATION_JSON, single = true)
+    Mono<List<Session>> readSession(@PathVariable("sessionId") String sessionId);
 
     /**
      * Destroys a Consul session, releasing any associated locks.
@@ -119,32 +135,50 @@ public interface ConsulLeadershipClient {
                                  @NotBlank @QueryValue("release") String sessionId);
 
     /**
-     * Reads the current leadership information from the specified key.
+     * Writes the value of the specified key, only if it has not been modified since the given index.
      * <p>
-     * This method retrieves the current state of the leadership key,
-     * including information about who holds the lock (if anyone) and
-     * the modify index for change detection.
+     * This check-and-set operation allows concurrent instances to safely update a shared key:
+     * the write fails if another instance modified the key in the meantime.
      * </p>
      *
-     * @param key the Consul KV key to read
-     * @return a Mono containing a list of KeyValue objects with leadership information
+     * @param key         the Consul KV key to write
+     * @param value       the value to store
+     * @param modifyIndex the modify index the key must still have, {@code 0} to only create the key if it does not exist
+     * @return a Mono containing true if the key was written, false otherwise
      */
-    @Get(value = "/kv/{key}", processes = MediaType.APPLICATION_JSON, single = true)
-    Mono<List<KeyValue>> readLeadership(@PathVariable("key") String key);
+    @Put(value = "/kv/{key}", processes = MediaType.APPLICATION_JSON, single = true)
+    Mono<Boolean> compareAndSet(@PathVariable("key") String key, @Body Object value,
+                                @QueryValue("cas") Integer modifyIndex);
 
     /**
-     * Watches for changes to leadership information using Consul's blocking queries.
+     * Deletes the specified key.
      * <p>
-     * This method uses Consul's blocking query feature to efficiently wait for
-     * changes to the leadership key. It will block until the modify index changes
-     * from the provided index value, indicating that leadership has changed.
+     * When a modify index is given, the key is only deleted if it has not been modified since,
+     * making the deletion safe against a concurrent update of the key.
      * </p>
      *
-     * @param key the Consul KV key to watch
-     * @param index the modify index to wait for changes from (null for immediate return)
-     * @return a Mono containing updated leadership information when changes occur
+     * @param key         the Consul KV key to delete
+     * @param modifyIndex the modify index the key must still have to be deleted (null to delete unconditionally)
+     * @return a Mono containing true if the key was deleted, false otherwise
      */
-    @Get(uri = "/kv/{key}", processes = MediaType.APPLICATION_JSON, single = true)
-    Mono<List<KeyValue>> watchLeadership(@PathVariable("key") String key,
-                                         @QueryValue("index") Integer index);
+    @Delete(value = "/kv/{key}", processes = MediaType.APPLICATION_JSON, single = true)
+    Mono<Boolean> deleteKey(@PathVariable("key") String key, @Nullable @QueryValue("cas") Integer modifyIndex);
+
+    /**
+     * Reads the current leadership information from the specified key.
+     * <p>
+     * This method retrieves the current state of the leadership key,
+     * including information about who holds the lock (if anyone) and
+     * the modify index for change detection.
+     * </p>
+     *
+     * @param key        the Consul KV key to read
+     * @param stale      {@code true} to allow any Consul server to answer (null to omit), see {@link ConsistencyMode#stale()}
+     * @param consistent {@code true} to require a strongly consistent read (null to omit), see {@link ConsistencyMode#consistent()}
+     * @return a Mono containing a list of KeyValue objects with leadership information
+     */
+    @Get(value = "/kv/{key}", processes = MediaType.APPLICATION_JSON, single = true)
+    Mono<List<KeyValue>> readLeadership(@PathVariable("key") String key,
+                                        @Nullable @QueryValue("stale") Boolean stale,
+                                        @Nullable @QueryValue("consistent") Boolean consistent);
 }
@@ -0,0 +1,53 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import jakarta.inject.Inject;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.runtime.ApplicationConfiguration;
+
+/**
+ * Configuration of the HTTP client issuing the session and lock operations, see {@link ConsulLeadershipClient}.
+ * <p>
+ * These operations are short and latency critical, a late session renewal leading to the loss of the leadership:
+ * they use their own connection pool, never shared with the long-running blocking queries of {@link ConsulWatchClient}.
+ * Setting the {@code pool.acquire-timeout} bounds the time a request may wait for a connection.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@ConfigurationProperties(ConsulLeadershipClientConfiguration.PREFIX)
+public class ConsulLeadershipClientConfiguration extends HttpClientConfiguration {
+
+    /**
+     * The configuration prefix of the HTTP client issuing the session and lock operations.
+     */
+    public static final String PREFIX = LeadershipConfiguration.PREFIX + ".http.session";
+
+    private final SessionConnectionPoolConfiguration connectionPoolConfiguration;
+
+    /**
+     * @param applicationConfiguration    the application configuration
+     * @param connectionPoolConfiguration the configuration of the connection pool of the session and lock operations
+     */
+    @Inject
+    public ConsulLeadershipClientConfiguration(final ApplicationConfiguration applicationConfiguration,
+                                               final SessionConnectionPoolConfiguration connectionPoolConfiguration) {
+        super(applicationConfiguration);
+        this.connectionPoolConfiguration = connectionPoolConfiguration;
+    }
+
+    @Override
+    public ConnectionPoolConfiguration getConnectionPoolConfiguration() {
+        return connectionPoolConfiguration;
+    }
+
+    /**
+     * Configuration of the connection pool of the session and lock operations.
+     */
+    @ConfigurationProperties(ConnectionPoolConfiguration.PREFIX)
+    public static class SessionConnectionPoolConfiguration extends ConnectionPoolConfiguration {
+    }
+}
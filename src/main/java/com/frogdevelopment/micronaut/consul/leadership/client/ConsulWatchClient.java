@@ -0,0 +1,81 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import java.util.List;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.discovery.consul.client.v1.ConsulClient;
+import io.micronaut.discovery.consul.client.v1.blockingqueries.BlockedQueries;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.PathVariable;
+import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.client.annotation.Client;
+import reactor.core.publisher.Mono;
+
+/**
+ * HTTP client interface for watching the leadership keys with Consul's blocking queries.
+ * <p>
+ * The blocking queries keep their connection open until a change or the end of the {@code wait}: they are issued
+ * with their own {@link ConsulWatchClientConfiguration connection pool}, isolated from the session and lock
+ * operations of {@link ConsulLeadershipClient}.
+ * </p>
+ *
+ * @see <a href="https://developer.hashicorp.com/consul/api-docs/features/blocking">Consul - Blocking Queries</a>
+ * @since 1.0.0
+ */
+@BlockedQueries
+@ConsulLeadershipAuth
+@Requires(beans = LeadershipConfiguration.class)
+@Client(id = ConsulClient.SERVICE_ID, path = "/v1", configuration = ConsulWatchClientConfiguration.class)
+public interface ConsulWatchClient {
+
+    /**
+     * Watches for changes to leadership information using Consul's blocking queries.
+     * <p>
+     * This method uses Consul's blocking query feature to efficiently wait for
+     * changes to the leadership key. It will block until the modify index changes
+     * from the provided index value, indicating that leadership has changed.
+     * </p>
+     *
+     * @param key the Consul KV key to watch
+     * @param index the modify index to wait for changes from (null for immediate return)
+     * @param wait  the maximum duration of the blocking query, e.g. {@code 5m} (null for Consul's default)
+     * @param stale      {@code true} to allow any Consul server to answer (null to omit), see {@link ConsistencyMode#stale()}
+     * @param consistent {@code true} to require a strongly consistent read (null to omit), see {@link ConsistencyMode#consistent()}
+     * @return a Mono containing updated leadership information when changes occur
+     */
+    @Get(uri = "/kv/{key}", processes = MediaType.APPLICATION_JSON, single = true)
+    Mono<List<KeyValue>> watchLeadership(@PathVariable("key") String key,
+                                         @QueryValue("index") Integer index,
+                                         @Nullable @QueryValue("wait") String wait,
+                                         @Nullable @QueryValue("stale") Boolean stale,
+                                         @Nullable @QueryValue("consistent") Boolean consistent);
+
+    /**
+     * Watches for changes on all the keys under a prefix using a single recursive blocking query.
+     * <p>
+     * The whole response is returned so that the caller can read the {@code X-Consul-Index} header,
+     * which is the index to use for the next blocking query on the prefix. When no key exists under
+     * the prefix, Consul answers with a {@code 404} status.
+     * </p>
+     *
+     * @param prefix  the Consul KV prefix to watch
+     * @param recurse must be {@code true} to return all the keys under the prefix
+     * @param index   the {@code X-Consul-Index} to wait for changes from (null for immediate return)
+     * @param wait    the maximum duration of the blocking query, e.g. {@code 5m} (null for Consul's default)
+     * @param stale      {@code true} to allow any Consul server to answer (null to omit), see {@link ConsistencyMode#stale()}
+     * @param consistent {@code true} to require a strongly consistent read (null to omit), see {@link ConsistencyMode#consistent()}
+     * @return a Mono containing the response with the keys under the prefix when changes occur
+     */
+    @Get(uri = "/kv/{prefix}", processes = MediaType.APPLICATION_JSON, single = true)
+    Mono<HttpResponse<List<KeyValue>>> watchLeadershipPrefix(@PathVariable("prefix") String prefix,
+                                                             @QueryValue("recurse") boolean recurse,
+                                                             @Nullable @QueryValue("index") Long index,
+                                                             @Nullable @QueryValue("wait") String wait,
+                                                             @Nullable @QueryValue("stale") Boolean stale,
+                                                             @Nullable @QueryValue("consistent") Boolean consistent);
+}
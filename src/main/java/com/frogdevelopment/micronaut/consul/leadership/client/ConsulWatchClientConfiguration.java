@@ -0,0 +1,62 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.runtime.ApplicationConfiguration;
+
+/**
+ * Configuration of the HTTP client issuing the blocking queries, see {@link ConsulWatchClient}.
+ * <p>
+ * The blocking queries keep their connection open up to the {@link LeadershipConfiguration.WatchConfiguration#getWait() wait},
+ * so they use their own connection pool: the session and lock operations of {@link ConsulLeadershipClient} never wait
+ * behind them. The read timeout defaults to {@value #DEFAULT_READ_TIMEOUT_MINUTES} minutes, above the default wait
+ * and its jitter.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@ConfigurationProperties(ConsulWatchClientConfiguration.PREFIX)
+public class ConsulWatchClientConfiguration extends HttpClientConfiguration {
+
+    /**
+     * The configuration prefix of the HTTP client issuing the blocking queries.
+     */
+    public static final String PREFIX = LeadershipConfiguration.PREFIX + ".http.watch";
+
+    /**
+     * The default read timeout in minutes.
+     */
+    public static final long DEFAULT_READ_TIMEOUT_MINUTES = 6;
+
+    private final WatchConnectionPoolConfiguration connectionPoolConfiguration;
+
+    /**
+     * @param applicationConfiguration    the application configuration
+     * @param connectionPoolConfiguration the configuration of the connection pool of the blocking queries
+     */
+    @Inject
+    public ConsulWatchClientConfiguration(final ApplicationConfiguration applicationConfiguration,
+                                          final WatchConnectionPoolConfiguration connectionPoolConfiguration) {
+        super(applicationConfiguration);
+        this.connectionPoolConfiguration = connectionPoolConfiguration;
+        setReadTimeout(Duration.ofMinutes(DEFAULT_READ_TIMEOUT_MINUTES));
+    }
+
+    @Override
+    public ConnectionPoolConfiguration getConnectionPoolConfiguration() {
+        return connectionPoolConfiguration;
+    }
+
+    /**
+     * Configuration of the connection pool of the blocking queries.
+     */
+    @ConfigurationProperties(ConnectionPoolConfiguration.PREFIX)
+    public static class WatchConnectionPoolConfiguration extends ConnectionPoolConfiguration {
+    }
+}
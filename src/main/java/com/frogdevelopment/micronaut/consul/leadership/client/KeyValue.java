@@ -19,11 +19,8 @@ import lombok.Getter;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.serde.annotation.Serdeable;
 
 /**
@@ -32,10 +29,8 @@ import io.micronaut.serde.annotation.Serdeable;
  * @author graemerocher
  * @since 1.0
  */
-@JsonNaming(PropertyNamingStrategies.UpperCamelCaseStrategy.class)
 @Getter
 @Serdeable
-@ReflectiveAccess
 public class KeyValue {
 
     private final Integer modifyIndex;
@@ -2,8 +2,8 @@ package com.frogdevelopment.micronaut.consul.leadership.details;
 
 import lombok.Builder;
 import lombok.Value;
-import lombok.extern.jackson.Jacksonized;
 
+import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.serde.annotation.Serdeable;
 
@@ -14,13 +14,16 @@ import io.micronaut.serde.annotation.Serdeable;
  * leadership election scenario. It includes identification details (hostname, cluster name)
  * and temporal information (when leadership was acquired).
  * </p>
+ * <p>
+ * It is deserialized through its builder, introspected at compile time.
+ * </p>
  *
  * @since 1.0.0
  */
 @Value
 @Builder
 @Serdeable
-@Jacksonized
+@Introspected(builder = @Introspected.IntrospectionBuilder(builderClass = LeadershipDetailsDefault.LeadershipDetailsDefaultBuilder.class))
 public class LeadershipDetailsDefault implements LeadershipDetails {
 
     /**
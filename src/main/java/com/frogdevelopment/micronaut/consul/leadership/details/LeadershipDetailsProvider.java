@@ -1,5 +1,8 @@
 package com.frogdevelopment.micronaut.consul.leadership.details;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import io.micronaut.context.annotation.DefaultImplementation;
 
 /**
@@ -15,11 +18,16 @@ import io.micronaut.context.annotation.DefaultImplementation;
  * The default implementation provides standard leadership details based on
  * the current application instance and runtime environment.
  * </p>
+ * <p>
+ * The details are serialized and deserialized by Micronaut Serde: a custom details type must be annotated with
+ * {@code @Serdeable}, so that it round-trips through Consul from its compile-time introspection, without reflection.
+ * </p>
  *
+ * @param <T> the type of the leadership details
  * @since 1.0.0
  */
 @DefaultImplementation(LeadershipDetailsProviderDefaultImpl.class)
-public interface LeadershipDetailsProvider {
+public interface LeadershipDetailsProvider<T extends LeadershipDetails> {
 
     /**
      * Creates leadership information for the current instance.
@@ -34,7 +42,28 @@ public interface LeadershipDetailsProvider {
      *                  {@code false} if this is for releasing leadership
      * @return the leadership information object to store in Consul
      */
-    LeadershipDetails getLeadershipInfo(boolean isAcquire);
+    T getLeadershipInfo(boolean isAcquire);
+
+    /**
+     * Converts leadership information as stored in Consul's key-value store.
+     *
+     * @param value the JSON representation of leadership information
+     * @return the leadership information
+     */
+    T convertValue(String value);
 
-    LeadershipDetails convertValue(String encodedValue);
+    /**
+     * Decodes leadership information as read from Consul's key-value store.
+     * <p>
+     * The default implementation decodes the value into a UTF-8 string converted by {@link #convertValue(String)}:
+     * implementations may parse the decoded bytes directly instead.
+     * </p>
+     *
+     * @param base64Value the base64-encoded JSON representation of leadership information
+     * @return the leadership information
+     * @throws IllegalArgumentException if the value is not valid base64
+     */
+    default T decodeValue(final String base64Value) {
+        return convertValue(new String(Base64.getDecoder().decode(base64Value), StandardCharsets.UTF_8));
+    }
 }
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Optional;
 
 import jakarta.inject.Singleton;
@@ -43,12 +44,14 @@ import io.micronaut.serde.ObjectMapper;
 @Singleton
 @RequiredArgsConstructor
 @Requires(missingBeans = LeadershipDetailsProvider.class)
-final class LeadershipDetailsProviderDefaultImpl implements LeadershipDetailsProvider {
+final class LeadershipDetailsProviderDefaultImpl implements LeadershipDetailsProvider<LeadershipDetailsDefault> {
 
     private final Optional<KubernetesInfoResolver> kubernetesInfoResolver;
     private final Environment environment;
     private final ObjectMapper objectMapper;
 
+    private final Base64.Decoder base64Decoder = Base64.getDecoder();
+
     /**
      * Creates leadership information for the current application instance.
      * <p>
@@ -65,7 +68,7 @@ final class LeadershipDetailsProviderDefaultImpl implements LeadershipDetailsPro
      * @return a {@link LeadershipDetails} object containing hostname, cluster name, and appropriate timestamp
      */
     @Override
-    public LeadershipDetails getLeadershipInfo(final boolean isAcquire) {
+    public LeadershipDetailsDefault getLeadershipInfo(final boolean isAcquire) {
         final var builder = LeadershipDetailsDefault.builder()
                 .podName(kubernetesInfoResolver.flatMap(KubernetesInfoResolver::resolvePodName)
                         .or(() -> environment.getProperty("hostname", String.class))
@@ -94,7 +97,7 @@ final class LeadershipDetailsProviderDefaultImpl implements LeadershipDetailsPro
      * @throws NonRecoverableElectionException if the JSON cannot be parsed or is malformed
      */
     @Override
-    public LeadershipDetails convertValue(final String leadershipInfoValue) {
+    public LeadershipDetailsDefault convertValue(final String leadershipInfoValue) {
         try {
             log.debug("Current leader information: {}", leadershipInfoValue);
             return objectMapper.readValue(leadershipInfoValue, LeadershipDetailsDefault.class);
@@ -102,4 +105,26 @@ final class LeadershipDetailsProviderDefaultImpl implements LeadershipDetailsPro
             throw new NonRecoverableElectionException("Unable to process leadershipDetails value " + leadershipInfoValue, e);
         }
     }
+
+    /**
+     * Decodes the base64 value read from Consul's key-value store into a {@link LeadershipDetails} object.
+     * <p>
+     * The decoded bytes, UTF-8 JSON, are parsed in place: no intermediate string is built.
+     * </p>
+     *
+     * @param base64Value the base64-encoded JSON representation of leadership information
+     * @return a {@link LeadershipDetails} object deserialized from the decoded JSON
+     * @throws IllegalArgumentException        if the value is not valid base64
+     * @throws NonRecoverableElectionException if the JSON cannot be parsed or is malformed
+     */
+    @Override
+    public LeadershipDetailsDefault decodeValue(final String base64Value) {
+        try {
+            final var leadershipDetails = objectMapper.readValue(base64Decoder.decode(base64Value), LeadershipDetailsDefault.class);
+            log.debug("Current leader information: {}", leadershipDetails);
+            return leadershipDetails;
+        } catch (final IOException e) {
+            throw new NonRecoverableElectionException("Unable to process leadershipDetails value " + base64Value, e);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import java.time.Duration;
+import java.util.Map;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Weights the candidates to the leadership of an {@link Election} by their configured priority.
+ * <p>
+ * Each candidate registers its priority, so that, when the leadership is free, the candidates of lower priority give
+ * a head start to the ones of higher priority. In preemptive mode, a candidate of higher priority also reclaims the
+ * leadership from a leader of lower priority, by asking it to step down.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public interface CandidatePriority {
+
+    /**
+     * Registers the priority of this instance with its session.
+     *
+     * @param sessionId the session of this instance
+     * @return a Mono completing when done
+     */
+    Mono<Void> register(String sessionId);
+
+    /**
+     * Reads the priorities of the live candidates.
+     *
+     * @return a Mono containing the priority of each live candidate by its session, empty if no priority is configured
+     */
+    Mono<Map<String, Integer>> readPriorities();
+
+    /**
+     * Computes how long this instance waits before applying for a free leadership.
+     *
+     * @return the {@link Duration} to wait, {@link Duration#ZERO} if no live candidate has a higher priority
+     */
+    Mono<Duration> applicationDelay();
+
+    /**
+     * @return {@code true} if this instance reclaims the leadership from leaders of lower priority
+     */
+    boolean isPreemptive();
+
+    /**
+     * Asks the given leader to step down if its priority is lower than the one of this instance.
+     * <p>
+     * The request is written under the priorities of the election, locked by the session of this instance. The leader
+     * {@link #awaitPreemption(String) waiting for it} steps down and releases its lock itself: this instance then
+     * applies as for any free leadership, the candidates of lower priority giving it a head start.
+     * </p>
+     *
+     * @param sessionId       the session of this instance
+     * @param leaderSessionId the session holding the lock
+     * @return a Mono containing {@code true} if the leader was asked to step down, {@code false} otherwise
+     */
+    Mono<Boolean> preempt(String sessionId, String leaderSessionId);
+
+    /**
+     * Waits for a candidate of higher priority to ask the leader holding the lock with the given session to step down.
+     *
+     * @param sessionId the session with which this instance holds the lock
+     * @return a Mono completing once this instance is asked to step down, never completing if it has no priority
+     */
+    Mono<Void> awaitPreemption(String sessionId);
+
+    /**
+     * Deletes the request to step down addressed to the given session, once stepped down.
+     *
+     * @param sessionId the session with which this instance held the lock
+     * @return a Mono completing when done
+     */
+    Mono<Void> clearPreemption(String sessionId);
+}
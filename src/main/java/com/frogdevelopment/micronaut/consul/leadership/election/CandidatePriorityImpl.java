@@ -0,0 +1,250 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Default implementation of {@link CandidatePriority}, storing the priority of each candidate in Consul KV under
+ * {@code <election path>.priorities/<session>}, locked by the session of the candidate.
+ * <p>
+ * A preemptive candidate asks a leader of lower priority to step down with a request stored under
+ * {@code <election path>.priorities/preemptions/<leader session>}, locked by the session of the candidate, and
+ * watched by the leader with a blocking query. The lock is only ever released by the leader itself, with its own
+ * session, once it no longer acts as the leader.
+ * </p>
+ * <p>
+ * A candidate only waits for the live candidates of higher priority: when all of them are gone, the remaining
+ * candidates apply at once. Each step is best effort: on failure, the candidates compete equally.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@EachBean(Election.class)
+public class CandidatePriorityImpl implements CandidatePriority {
+
+    static final String PREEMPTIONS = "preemptions/";
+
+    private final Election election;
+    private final ConsulLeadershipClient client;
+    private final ConsulWatchClient watchClient;
+    private final LeadershipConfiguration configuration;
+    private final BlockingQueryPolicy blockingQueryPolicy;
+    private final ConsistencyMode readConsistency;
+    private final Base64.Decoder base64Decoder = Base64.getDecoder();
+
+    private final AtomicReference<String> registeredSessionRef = new AtomicReference<>();
+
+    public CandidatePriorityImpl(final Election election,
+                                 final ConsulLeadershipClient client,
+                                 final ConsulWatchClient watchClient,
+                                 final LeadershipConfiguration configuration,
+                                 final BlockingQueryPolicy blockingQueryPolicy) {
+        this.election = election;
+        this.client = client;
+        this.watchClient = watchClient;
+        this.configuration = configuration;
+        this.blockingQueryPolicy = blockingQueryPolicy;
+        this.readConsistency = configuration.getConsistency().getRead();
+    }
+
+    @Override
+    public Mono<Void> register(final String sessionId) {
+        val priority = configuration.getElection().getPriority();
+        if (priority == null || sessionId.equals(registeredSessionRef.get())) {
+            return Mono.empty();
+        }
+        log.debug("[{}] Registering priority={} with session={}", election.name(), priority, sessionId);
+        return client.acquireLeadership(priorityKey(sessionId), priority, sessionId)
+                .doOnNext(registered -> {
+                    if (Boolean.TRUE.equals(registered)) {
+                        registeredSessionRef.set(sessionId);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to register the priority", election.name(), error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Map<String, Integer>> readPriorities() {
+        if (configuration.getElection().getPriority() == null) {
+            return Mono.just(Map.of());
+        }
+        return watchClient.watchLeadershipPrefix(prioritiesPath(), true, null, null, readConsistency.stale(), readConsistency.consistent())
+                .map(response -> response.getBody().orElseGet(List::of))
+                .onErrorResume(HttpClientResponseException.class, exception -> exception.getStatus() == HttpStatus.NOT_FOUND
+                        ? Mono.just(List.of())
+                        : Mono.error(exception))
+                .map(keyValues -> {
+                    val priorities = new HashMap<String, Integer>();
+                    for (val keyValue : keyValues) {
+                        // a candidate whose session is gone does not count anymore
+                        if (keyValue.getSession() != null && !keyValue.getKey().startsWith(preemptionsPath())) {
+                            decodePriority(keyValue).ifPresent(priority -> priorities.put(keyValue.getSession(), priority));
+                        }
+                    }
+                    return priorities;
+                });
+    }
+
+    @Override
+    public Mono<Duration> applicationDelay() {
+        val electionConfiguration = configuration.getElection();
+        val priority = electionConfiguration.getPriority();
+        if (priority == null) {
+            return Mono.just(Duration.ZERO);
+        }
+        return readPriorities()
+                .map(priorities -> priorities.values().stream()
+                        .filter(other -> other > priority)
+                        .distinct()
+                        .count())
+                .map(higherPriorities -> {
+                    if (higherPriorities > 0) {
+                        log.debug("[{}] {} higher priorities among the candidates, waiting for them", election.name(), higherPriorities);
+                    }
+                    return electionConfiguration.getPriorityDelay().multipliedBy(higherPriorities);
+                })
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to read the priorities, applying at once", election.name(), error);
+                    return Mono.just(Duration.ZERO);
+                });
+    }
+
+    @Override
+    public boolean isPreemptive() {
+        val electionConfiguration = configuration.getElection();
+        return electionConfiguration.isPreemptive() && electionConfiguration.getPriority() != null;
+    }
+
+    @Override
+    public Mono<Boolean> preempt(final String sessionId, final String leaderSessionId) {
+        if (!isPreemptive()) {
+            return Mono.just(false);
+        }
+        val priority = configuration.getElection().getPriority();
+        return client.readLeadership(priorityKey(leaderSessionId), readConsistency.stale(), readConsistency.consistent())
+                .flatMap(keyValues -> Mono.justOrEmpty(keyValues.stream().findFirst()))
+                .flatMap(keyValue -> Mono.justOrEmpty(decodePriority(keyValue)))
+                // a leader without a known priority is never preempted
+                .filter(leaderPriority -> leaderPriority < priority)
+                .flatMap(leaderPriority -> {
+                    log.info("[{}] Asking the leader session={} of priority={} to step down", election.name(), leaderSessionId, leaderPriority);
+                    // locked, so that the request is ignored once this instance is gone
+                    return client.acquireLeadership(preemptionKey(leaderSessionId), priority, sessionId);
+                })
+                .defaultIfEmpty(false)
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to ask the leader to step down", election.name(), error);
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public Mono<Void> awaitPreemption(final String sessionId) {
+        if (configuration.getElection().getPriority() == null) {
+            // a leader without a known priority is never preempted
+            return Mono.never();
+        }
+        return awaitPreemption(preemptionKey(sessionId), 0);
+    }
+
+    private Mono<Void> awaitPreemption(final String key, final long index) {
+        val consistency = blockingQueryPolicy.getConsistency();
+        // recursive on the key alone, so that its absence is answered with the index to block on
+        return watchClient.watchLeadershipPrefix(key, true, index == 0 ? null : index, blockingQueryPolicy.getWait(),
+                        consistency.stale(), consistency.consistent())
+                .map(response -> toPreemptionPoll(key, response, response.getBody().orElseGet(List::of)))
+                .onErrorResume(HttpClientResponseException.class, exception -> exception.getStatus() == HttpStatus.NOT_FOUND
+                        ? Mono.just(toPreemptionPoll(key, exception.getResponse(), List.of()))
+                        : Mono.error(exception))
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to watch the preemption requests, watching again", election.name(), error);
+                    return Mono.delay(Duration.ofMillis(configuration.getElection().getRetryDelayMs()))
+                            .thenReturn(new PreemptionPoll(0, false));
+                })
+                .flatMap(poll -> {
+                    if (poll.requested()) {
+                        return Mono.<Void>empty();
+                    }
+                    val nextIndex = ConsulIndex.next(index, poll.index());
+                    // rate limited in case Consul answers without blocking
+                    val delay = nextIndex == index ? blockingQueryPolicy.getRateLimitDelay() : Duration.ZERO;
+                    return Mono.delay(delay).then(Mono.defer(() -> awaitPreemption(key, nextIndex)));
+                });
+    }
+
+    private static PreemptionPoll toPreemptionPoll(final String key, final HttpResponse<?> response, final List<KeyValue> keyValues) {
+        // a request whose candidate is gone does not count
+        val requested = keyValues.stream()
+                .anyMatch(keyValue -> key.equals(keyValue.getKey()) && keyValue.getSession() != null);
+        return new PreemptionPoll(ConsulIndex.of(response, keyValues), requested);
+    }
+
+    @Override
+    public Mono<Void> clearPreemption(final String sessionId) {
+        return client.deleteKey(preemptionKey(sessionId), null)
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to delete the preemption request", election.name(), error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Optional<Integer> decodePriority(final KeyValue keyValue) {
+        if (keyValue.getValue() == null || keyValue.getValue().isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.valueOf(new String(base64Decoder.decode(keyValue.getValue()), StandardCharsets.UTF_8).trim()));
+        } catch (final IllegalArgumentException e) {
+            log.warn("[{}] Unable to read the priority of key={}", election.name(), keyValue.getKey(), e);
+            return Optional.empty();
+        }
+    }
+
+    private String prioritiesPath() {
+        return election.path() + ".priorities/";
+    }
+
+    private String priorityKey(final String sessionId) {
+        return prioritiesPath() + sessionId;
+    }
+
+    private String preemptionsPath() {
+        return prioritiesPath() + PREEMPTIONS;
+    }
+
+    private String preemptionKey(final String leaderSessionId) {
+        return preemptionsPath() + leaderSessionId;
+    }
+
+    private record PreemptionPoll(long index, boolean requested) {
+    }
+}
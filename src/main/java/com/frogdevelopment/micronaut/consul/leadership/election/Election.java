@@ -0,0 +1,70 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Identifies a leadership election run by this instance.
+ * <p>
+ * An instance always runs the {@link #DEFAULT_NAME default} election, bound to
+ * {@code consul.leadership.path}, and may run additional named elections declared under
+ * {@code consul.leadership.elections.<name>}. Each election has its own orchestrator,
+ * handler, events publisher and status, all qualified with the election's name.
+ * </p>
+ * <p>
+ * An election with a {@link #parent() parent} is only contended while this instance leads the
+ * parent election, see {@link HierarchicalElectionCoordinator}.
+ * </p>
+ *
+ * @param name   the name of the election, used as bean qualifier
+ * @param path   the Consul KV path contended by this election
+ * @param parent the name of the election to win before contending this one, or {@code null}
+ * @see ElectionFactory
+ * @since 1.0.0
+ */
+public record Election(String name, String path, @Nullable String parent) {
+
+    /**
+     * The name of the election configured by {@code consul.leadership.path}.
+     */
+    public static final String DEFAULT_NAME = "default";
+
+    /**
+     * The name of the cluster-local election, when the hierarchical mode is enabled.
+     */
+    public static final String CLUSTER_NAME = "cluster";
+
+    /**
+     * Creates an election contended on its own.
+     *
+     * @param name the name of the election, used as bean qualifier
+     * @param path the Consul KV path contended by this election
+     */
+    public Election(final String name, final String path) {
+        this(name, path, null);
+    }
+
+    /**
+     * Checks whether a name is reserved to the elections created by the library, and so cannot be given to a named
+     * election.
+     *
+     * @param name the name of an election
+     * @return {@code true} if the name is {@link #DEFAULT_NAME} or {@link #CLUSTER_NAME}
+     */
+    public static boolean isReserved(final String name) {
+        return DEFAULT_NAME.equals(name) || CLUSTER_NAME.equals(name);
+    }
+
+    /**
+     * @return {@code true} if this election is the default one
+     */
+    public boolean isDefault() {
+        return DEFAULT_NAME.equals(name);
+    }
+
+    /**
+     * @return {@code true} if this election is only contended while leading its parent election
+     */
+    public boolean hasParent() {
+        return parent != null;
+    }
+}
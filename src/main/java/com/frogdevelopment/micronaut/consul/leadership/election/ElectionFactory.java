@@ -0,0 +1,76 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.NamedElectionConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
+import com.frogdevelopment.micronaut.consul.leadership.kubernetes.KubernetesInfoResolver;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+
+/**
+ * Creates one {@link Election} bean per election run by this instance.
+ * <p>
+ * The default election is always created from {@link LeadershipConfiguration#getPath()} and is
+ * marked as {@link Primary}, so that unqualified injection points (e.g. {@code LeadershipStatus})
+ * keep resolving to it. Every {@link NamedElectionConfiguration} adds an election qualified by its name, which
+ * must not be one of the {@link Election#isReserved(String) reserved} names.
+ * </p>
+ * <p>
+ * When the hierarchical mode is enabled, a {@link Election#CLUSTER_NAME cluster} election is added on
+ * {@code <path>/clusters/<cluster-name>}, and becomes the parent of the default election.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Factory
+@Requires(beans = LeadershipConfiguration.class)
+class ElectionFactory {
+
+    static final String HIERARCHICAL_ENABLED = LeadershipConfiguration.PREFIX + ".hierarchical.enabled";
+
+    // cluster names resolved from Kubernetes are API server URLs
+    private static final Pattern INVALID_KEY_CHARACTERS = Pattern.compile("[^A-Za-z0-9_.-]+");
+
+    @Primary
+    @Singleton
+    @Named(Election.DEFAULT_NAME)
+    Election defaultElection(final LeadershipConfiguration configuration) {
+        final var parent = configuration.getHierarchical().isEnabled() ? Election.CLUSTER_NAME : null;
+        return new Election(Election.DEFAULT_NAME, configuration.getPath(), parent);
+    }
+
+    @Singleton
+    @Named(Election.CLUSTER_NAME)
+    @Requires(property = HIERARCHICAL_ENABLED, value = StringUtils.TRUE)
+    Election clusterElection(final LeadershipConfiguration configuration,
+                             final Optional<KubernetesInfoResolver> kubernetesInfoResolver) {
+        final var clusterName = configuration.getHierarchical().getClusterName()
+                .or(() -> kubernetesInfoResolver.flatMap(KubernetesInfoResolver::resolveClusterName))
+                .map(name -> INVALID_KEY_CHARACTERS.matcher(name).replaceAll("_"))
+                .orElseThrow(() -> new NonRecoverableElectionException(
+                        "Hierarchical election requires a cluster name, set consul.leadership.hierarchical.cluster-name"));
+        return new Election(Election.CLUSTER_NAME, configuration.getPath() + "/clusters/" + clusterName);
+    }
+
+    @EachBean(NamedElectionConfiguration.class)
+    Election namedElection(final NamedElectionConfiguration namedElection, final LeadershipConfiguration configuration) {
+        if (Election.isReserved(namedElection.getName())) {
+            // would share the KV path and the bean qualifier of the internal election
+            throw new NonRecoverableElectionException(
+                    "The election name '" + namedElection.getName() + "' is reserved, rename consul.leadership.elections." + namedElection.getName());
+        }
+        final var path = Optional.ofNullable(namedElection.getPath())
+                .orElseGet(() -> configuration.getPath() + "/" + namedElection.getName());
+        return new Election(namedElection.getName(), path);
+    }
+}
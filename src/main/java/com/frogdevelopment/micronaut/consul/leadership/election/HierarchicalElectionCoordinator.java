@@ -0,0 +1,78 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.inject.Singleton;
+
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipChangeEvent;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.runtime.event.annotation.EventListener;
+import io.micronaut.scheduling.annotation.Async;
+
+/**
+ * Runs the elections having a {@link Election#parent() parent} only while this instance leads the parent.
+ * <p>
+ * In hierarchical mode, the instances of a cluster contend for the {@link Election#CLUSTER_NAME cluster}
+ * election, and only its winner contends for the default election: when the cluster leadership is acquired
+ * the orchestrators of the child elections are started, and when it is lost they are stopped, releasing
+ * the child leaderships.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = ElectionFactory.HIERARCHICAL_ENABLED, value = StringUtils.TRUE)
+public class HierarchicalElectionCoordinator {
+
+    private final BeanLocator beanLocator;
+
+    // guarded by this
+    private final Set<String> ledElections = new HashSet<>();
+
+    /**
+     * Starts or stops the child elections of the election whose leadership changed.
+     * <p>
+     * Executed asynchronously, as stopping an election blocks until its leadership is released.
+     * </p>
+     *
+     * @param event the leadership change event
+     */
+    @Async
+    @EventListener
+    synchronized void onLeadershipChange(final LeadershipChangeEvent event) {
+        final var parent = event.electionName();
+        // the same status may be published at each application for leadership
+        final var changed = event.isLeader() ? ledElections.add(parent) : ledElections.remove(parent);
+        if (!changed) {
+            return;
+        }
+
+        for (final var child : childrenOf(parent)) {
+            final var orchestrator = beanLocator.getBean(LeaderElectionOrchestrator.class, Qualifiers.byName(child.name()));
+            if (event.isLeader()) {
+                log.info("[{}] Leading election={}, contending for it", child.name(), parent);
+                orchestrator.start();
+            } else {
+                log.info("[{}] No longer leading election={}, withdrawing from it", child.name(), parent);
+                orchestrator.stop();
+            }
+        }
+    }
+
+    private List<Election> childrenOf(final String parent) {
+        return beanLocator.getBeansOfType(Election.class).stream()
+                .filter(election -> parent.equals(election.parent()))
+                .toList();
+    }
+}
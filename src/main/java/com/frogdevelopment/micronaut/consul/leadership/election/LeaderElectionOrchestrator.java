@@ -30,8 +30,21 @@ public interface LeaderElectionOrchestrator {
      * If this instance is currently the leader, it will gracefully release the
      * leadership and clean up associated resources (sessions, watchers, etc.).
      * After calling this method, the instance will no longer participate in
-     * the election process.
+     * the election process. Does nothing if the election is not started.
      * </p>
      */
     void stop();
+
+    /**
+     * Whether this election is started with the application.
+     * <p>
+     * An election depending on another one is instead started and stopped by it, see
+     * {@link HierarchicalElectionCoordinator}.
+     * </p>
+     *
+     * @return {@code true} if started on application startup
+     */
+    default boolean isAutoStartup() {
+        return true;
+    }
 }
@@ -1,6 +1,5 @@
 package com.frogdevelopment.micronaut.consul.leadership.election;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -11,24 +10,26 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
-
-import jakarta.inject.Singleton;
 
 import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
-import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
 import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
 import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsPublisher;
 import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
 import com.frogdevelopment.micronaut.consul.leadership.session.SessionHandler;
+import com.frogdevelopment.micronaut.consul.leadership.watch.LeadershipWatcher;
 
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Blocking;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.http.client.exceptions.ReadTimeoutException;
 import io.micronaut.scheduling.annotation.Async;
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 /**
  * Default implementation of {@link LeaderElectionOrchestrator} using Consul for distributed leadership election.
@@ -39,7 +40,7 @@ import reactor.core.scheduler.Schedulers;
  * <ul>
  *   <li>Session creation and management with automatic renewal</li>
  *   <li>Leadership acquisition and release using Consul KV locks</li>
- *   <li>Monitoring for leadership changes using Consul's blocking queries</li>
+ *   <li>Monitoring for leadership changes using Consul's blocking queries, in a single long-lived loop</li>
  *   <li>Automatic cleanup and failover handling</li>
  *   <li>Error recovery and retry logic</li>
  * </ul>
@@ -50,54 +51,206 @@ import reactor.core.scheduler.Schedulers;
  * all associated resources are cleaned up properly.
  * </p>
  * <p>
+ * A follower keeps its session, renewed like the leader's one, instead of destroying it after each failed
+ * application: at failover, applying again is then a single KV write instead of a session creation. If Consul
+ * invalidated the kept session before its renewal noticed it, the failed application is retried at once with a new
+ * session, a failed application never being taken for a leadership held by another instance.
+ * </p>
+ * <p>
+ * When stopping, the leader {@link LeadershipHandoff hands its leadership off} to a designated follower before
+ * releasing its lock: the successor applies at once, while the other followers wait for it.
+ * </p>
+ * <p>
+ * When the leadership is free, a candidate of lower {@link CandidatePriority priority} waits for the candidates of
+ * higher priority to apply first. A preemptive candidate also reclaims the leadership from a leader of lower priority,
+ * by {@link CandidatePriority#preempt(String, String) asking it to step down}: the preempted leader publishes that it is
+ * not the leader anymore, then releases its lock with its own session, and only then does the challenger acquire it.
+ * The lock is thus never released from under a leader still acting as such.
+ * </p>
+ * <p>
  * This bean is only created when Consul is available and leadership election
- * is enabled via configuration.
+ * is enabled via configuration. One orchestrator is created per {@link Election},
+ * all of them sharing the same {@link SessionHandler}.
  * </p>
  *
  * @see <a href="https://developer.hashicorp.com/consul/docs/automate/application-leader-election">Consul Application Leader Election</a>
  * @since 1.0.0
  */
 @Slf4j
-@Singleton
-@RequiredArgsConstructor
+@EachBean(Election.class)
 public class LeaderElectionOrchestratorImpl implements LeaderElectionOrchestrator {
 
-    private final ConsulLeadershipClient client;
+    private final Election election;
+    private final LeadershipWatcher leadershipWatcher;
     private final LeadershipConfiguration configuration;
     private final SessionHandler sessionHandler;
     private final LeadershipHandler leadershipHandler;
+    private final LeadershipHandoff leadershipHandoff;
+    private final CandidatePriority candidatePriority;
     private final LeadershipEventsPublisher leadershipEventsPublisher;
 
     private final AtomicReference<Integer> modifyIndexRef = new AtomicReference<>();
+    // the session with which this instance holds the lock
+    private final AtomicReference<String> lockSessionRef = new AtomicReference<>();
+    // the index of the key when last seen locked, before its release
+    private final AtomicReference<Integer> releasedIndexRef = new AtomicReference<>();
+    // the last session seen holding the lock, and the one to preempt at the next application
+    private final AtomicReference<String> seenLeaderRef = new AtomicReference<>();
+    private final AtomicReference<String> leaderToPreemptRef = new AtomicReference<>();
     private final AtomicReference<Disposable> listenerRef = new AtomicReference<>();
+    // the wait for a request to step down, while leader
+    private final AtomicReference<Disposable> preemptionRef = new AtomicReference<>();
+    private final AtomicBoolean startedRef = new AtomicBoolean(false);
     private final AtomicBoolean closingRef = new AtomicBoolean(false);
+    private final AtomicBoolean applyingRef = new AtomicBoolean(false);
     private final AtomicLong retryCount = new AtomicLong();
 
+    public LeaderElectionOrchestratorImpl(final Election election,
+                                          final LeadershipWatcher leadershipWatcher,
+                                          final LeadershipConfiguration configuration,
+                                          final SessionHandler sessionHandler,
+                                          @Parameter final LeadershipHandler leadershipHandler,
+                                          @Parameter final LeadershipHandoff leadershipHandoff,
+                                          @Parameter final CandidatePriority candidatePriority,
+                                          @Parameter final LeadershipEventsPublisher leadershipEventsPublisher) {
+        this.election = election;
+        this.leadershipWatcher = leadershipWatcher;
+        this.configuration = configuration;
+        this.sessionHandler = sessionHandler;
+        this.leadershipHandler = leadershipHandler;
+        this.leadershipHandoff = leadershipHandoff;
+        this.candidatePriority = candidatePriority;
+        this.leadershipEventsPublisher = leadershipEventsPublisher;
+    }
+
     @Async
     @Override
     public void start() {
-        log.debug("Starting Leader Election");
+        log.debug("[{}] Starting Leader Election", election.name());
+        this.startedRef.set(true);
         this.closingRef.set(false);
         this.retryCount.set(0);
-        applyForLeadership();
+        this.applyingRef.set(true);
+
+        // a single subscription for the whole election: each cycle applies for leadership if needed,
+        // then waits for the next change of the key, carrying the index forward
+        val disposable = Mono.defer(this::electionCycle)
+                .repeat(() -> !closingRef.get())
+                .retryWhen(Retry.from(signals -> signals.concatMap(this::onCycleError)))
+                .subscribeOn(Schedulers.single())
+                .subscribe(null, ignored -> immediateStop());
+
+        val previousListener = listenerRef.getAndSet(disposable);
+        if (previousListener != null && !previousListener.isDisposed()) {
+            previousListener.dispose();
+        }
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        // started by the parent election once won
+        return !election.hasParent();
+    }
+
+    // @VisibleForTesting
+    Mono<Void> electionCycle() {
+        if (applyingRef.get()) {
+            return applyForLeadership()
+                    .then(Mono.defer(this::watchForLeadershipInfoChanges));
+        }
+        return watchForLeadershipInfoChanges();
+    }
+
+    private Mono<Void> applyForLeadership() {
+        log.debug("[{}] Applying as leader", election.name());
+        return applyWithSession(true)
+                .doOnSuccess(ignored -> applyingRef.set(false))
+                .doOnError(throwable -> log.error("[{}] Leadership application failed", election.name(), throwable))
+                .then();
+    }
+
+    private Mono<Integer> applyWithSession(final boolean retryOnInvalidSession) {
+        return sessionHandler.createNewSession(election.name())
+                .flatMap(sessionId -> candidatePriority.register(sessionId)
+                        .then(Mono.defer(() -> contendForLeadership(sessionId)))
+                        .flatMap(result -> Boolean.TRUE.equals(result) ? handleIsLeader(sessionId) : handleIsNotLeader(sessionId))
+                        .onErrorResume(error -> retryOnInvalidSession && !(error instanceof NonRecoverableElectionException),
+                                error -> onApplicationError(sessionId, error)));
     }
 
-    private void applyForLeadership() {
-        log.debug("Applying as leader");
-        val mono = sessionHandler.createNewSession()
-                .flatMap(leadershipHandler::acquireLeadership)
-                .flatMap(result -> Boolean.TRUE.equals(result) ? handleIsLeader() : handleIsNotLeader())
-                .doOnError(this::onApplyForLeadershipError);
+    private Mono<Integer> onApplicationError(final String sessionId, final Throwable error) {
+        // the session kept by a follower may have been invalidated by Consul before its renewal noticed it
+        return sessionHandler.checkSession(sessionId)
+                .flatMap(valid -> {
+                    if (Boolean.TRUE.equals(valid)) {
+                        return Mono.error(error);
+                    }
+                    log.warn("[{}] Session={} invalidated, applying again with a new session", election.name(), sessionId);
+                    return applyWithSession(false);
+                });
+    }
 
-        watchForLeadershipInfoChanges(mono);
+    private Mono<Boolean> contendForLeadership(final String sessionId) {
+        val leaderToPreempt = leaderToPreemptRef.getAndSet(null);
+        if (leaderToPreempt != null) {
+            // the leader releases its lock itself once stepped down: this instance applies again when seeing it free
+            return candidatePriority.preempt(sessionId, leaderToPreempt)
+                    .thenReturn(false);
+        }
+        return waitBeforeApplying(sessionId)
+                .then(Mono.defer(() -> leadershipHandler.acquireLeadership(sessionId)));
+    }
+
+    private Mono<Void> waitBeforeApplying(final String sessionId) {
+        val releasedIndex = releasedIndexRef.getAndSet(null);
+        if (releasedIndex == null) {
+            return Mono.empty();
+        }
+        // the leadership may have been handed off to another follower, otherwise the candidates of higher priority
+        // get a head start
+        return leadershipHandoff.applicationDelay(sessionId, releasedIndex)
+                .switchIfEmpty(Mono.defer(candidatePriority::applicationDelay))
+                .flatMap(delay -> delay.isZero() ? Mono.<Long>empty() : Mono.delay(delay))
+                .then();
     }
 
-    private Mono<Integer> handleIsLeader() {
-        log.info("Leadership acquired successfully");
+    private Mono<Integer> handleIsLeader(final String sessionId) {
+        log.info("[{}] Leadership acquired successfully", election.name());
+        lockSessionRef.set(sessionId);
         // when leader, periodically renew the session to avoid expiration
-        return sessionHandler.scheduleSessionRenewal()
+        return sessionHandler.scheduleSessionRenewal(election.name())
                 // when acquiring leadership, we updated the KV => index has changed
-                .then(Mono.defer(this::readLeadershipInfo));
+                .then(Mono.defer(this::readLeadershipInfo))
+                .doOnNext(ignored -> awaitPreemption(sessionId));
+    }
+
+    private void awaitPreemption(final String sessionId) {
+        val disposable = candidatePriority.awaitPreemption(sessionId)
+                .then(Mono.defer(() -> stepDown(sessionId)))
+                .subscribe(null, error -> log.warn("[{}] Failed to step down", election.name(), error));
+        val previous = preemptionRef.getAndSet(disposable);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    private void cancelPreemptionWait() {
+        val preemption = preemptionRef.getAndSet(null);
+        if (preemption != null) {
+            preemption.dispose();
+        }
+    }
+
+    private Mono<Void> stepDown(final String sessionId) {
+        if (closingRef.get() || !lockSessionRef.compareAndSet(sessionId, null)) {
+            // stopping, or the leadership was lost meanwhile
+            return Mono.empty();
+        }
+        log.info("[{}] Preempted by a candidate of higher priority, stepping down", election.name());
+        // not the leader anymore, its leader tasks being cancelled on the transition, before the lock is released
+        leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+        return leadershipHandler.releaseLeadership(sessionId)
+                .then(Mono.defer(() -> candidatePriority.clearPreemption(sessionId)));
     }
 
     private Mono<Integer> readLeadershipInfo() {
@@ -105,100 +258,112 @@ public class LeaderElectionOrchestratorImpl implements LeaderElectionOrchestrato
                 .doOnNext(modifyIndexRef::set);
     }
 
-    private Mono<Integer> handleIsNotLeader() {
-        log.info("Leadership acquisition failed, another leader exists");
-        return sessionHandler.destroySession()
+    private Mono<Integer> handleIsNotLeader(final String sessionId) {
+        log.info("[{}] Leadership acquisition failed, another leader exists", election.name());
+        lockSessionRef.set(null);
+        // keep the session alive for the next applications, instead of creating a new one at each failover
+        return sessionHandler.scheduleSessionRenewal(election.name())
+                .then(Mono.defer(() -> leadershipHandoff.registerCandidate(sessionId)))
                 .then(Mono.defer(() -> Optional.ofNullable(modifyIndexRef.get())
                         .map(Mono::just)
                         .orElse(readLeadershipInfo())));
     }
 
-    private void onApplyForLeadershipError(final Throwable throwable) {
-        log.error("Leadership application failed", throwable);
-        onError(throwable, delayed -> delayed.then(Mono.fromRunnable(this::applyForLeadership))
-                .subscribeOn(Schedulers.immediate())
-                .subscribe());
+    private Mono<Void> watchForLeadershipInfoChanges() {
+        val path = election.path();
+        val currentIndex = modifyIndexRef.get();
+        log.debug("[{}] Watching for leadership changes on path={} with index={}", election.name(), path, currentIndex);
+        return leadershipWatcher.watchLeadership(path, currentIndex)
+                // same as no leadership values
+                .defaultIfEmpty(List.of())
+                .flatMap(keyValues -> isUnchanged(currentIndex, keyValues) ? onWaitElapsed() : Mono.<Void>fromRunnable(() -> onLeadershipChanges(keyValues)))
+                .onErrorResume(ReadTimeoutException.class, this::onWatchTimeout)
+                .doOnError(throwable -> log.error("[{}] Leadership watch failed", election.name(), throwable))
+                .then();
     }
 
-    // @VisibleForTesting
-    void watchForLeadershipInfoChanges(final Mono<Integer> mono) {
-        // Ensure we clean up any previous listener
-        val previousListener = listenerRef.get();
-        if (previousListener != null && !previousListener.isDisposed()) {
-            previousListener.dispose();
-        }
-
-        val disposable = mono
-                .flatMap(currentIndex -> {
-                    val path = configuration.getPath();
-                    log.debug("Watching for leadership changes on path={} with index={}", path, currentIndex);
-                    return client.watchLeadership(path, currentIndex)
-                            .doOnError(ReadTimeoutException.class, this::onWatchTimeout)
-                            .doOnError(this::onWatchError)
-                            .doOnSuccess(this::onLeadershipChanges);
-                })
-                .subscribeOn(Schedulers.single())
-                .subscribe();
-
-        listenerRef.set(disposable);
+    private static boolean isUnchanged(@Nullable final Integer currentIndex, final List<KeyValue> keyValues) {
+        return currentIndex != null && !keyValues.isEmpty() && currentIndex.equals(keyValues.getFirst().getModifyIndex());
     }
 
-    private void onWatchTimeout(final Throwable ignored) {
-        log.debug("Leadership watch timeout, renewing watcher");
-        watchForLeadershipInfoChanges(Mono.just(this.modifyIndexRef.get()));
+    private Mono<Void> onWaitElapsed() {
+        log.debug("[{}] No leadership changes during the wait, renewing watcher", election.name());
+        // rate limited in case Consul answers without blocking
+        return Mono.delay(configuration.getWatch().getRateLimitDelay()).then();
     }
 
-    private void onWatchError(final Throwable throwable) {
-        log.error("Leadership watch failed", throwable);
-        onError(throwable, delayed -> watchForLeadershipInfoChanges(delayed.thenReturn(this.modifyIndexRef.get())));
+    private Mono<Void> onWatchTimeout(final ReadTimeoutException ignored) {
+        // the wait is shorter than the read timeout, so Consul did not answer in time
+        log.warn("[{}] Leadership watch timeout, renewing watcher", election.name());
+        return Mono.empty();
     }
 
     // @VisibleForTesting
     void onLeadershipChanges(final List<KeyValue> keyValues) {
         if (this.closingRef.get()) {
-            log.info("Leadership election is stopping, skipping changes");
+            log.info("[{}] Leadership election is stopping, skipping changes", election.name());
             return;
         }
-        log.debug("Leadership information changes detected");
+        log.debug("[{}] Leadership information changes detected", election.name());
 
         if (CollectionUtils.isEmpty(keyValues)) {
-            log.warn("No leadership values found, attempting to apply for leadership");
-            applyForLeadership();
+            log.warn("[{}] No leadership values found, attempting to apply for leadership", election.name());
+            applyingRef.set(true);
             return;
         }
 
         val kv = keyValues.getFirst();
-        this.modifyIndexRef.set(kv.getModifyIndex());
+        val lockedIndex = this.modifyIndexRef.get();
+        this.modifyIndexRef.set(nextIndex(kv.getModifyIndex()));
+        val lockSession = lockSessionRef.get();
+        if (lockSession != null && !lockSession.equals(kv.getSession())) {
+            log.warn("[{}] Leadership lost, the lock is not held by session={} anymore", election.name(), lockSession);
+            lockSessionRef.set(null);
+            cancelPreemptionWait();
+            leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+        }
+        onLeaderSeen(kv.getSession(), lockSession);
 
-        // If no lock (== no session returned), try to acquire leadership
+        // If no lock (== no session returned), try to acquire leadership at the next cycle
         if (kv.getSession() == null) {
-            log.debug("No active session found, attempting to acquire leadership");
-            applyForLeadership();
-        } else {
-            // Continue watching for changes
-            watchForLeadershipInfoChanges(Mono.just(kv.getModifyIndex()));
+            log.debug("[{}] No active session found, attempting to acquire leadership", election.name());
+            releasedIndexRef.set(lockedIndex);
+            applyingRef.set(true);
         }
 
-        leadershipEventsPublisher.publishLeadershipDetailsChange(kv.getValue());
+        leadershipEventsPublisher.publishLeadershipDetailsChange(kv.getModifyIndex(), kv.getValue());
     }
 
-    private void onError(final Throwable throwable, final Consumer<Mono<Void>> consumer) {
+    private Integer nextIndex(@Nullable final Integer modifyIndex) {
+        val previousIndex = modifyIndexRef.get();
+        if (previousIndex == null || modifyIndex == null) {
+            return modifyIndex;
+        }
+        val nextIndex = (int) ConsulIndex.next(previousIndex, modifyIndex);
+        if (nextIndex == 0) {
+            log.warn("[{}] Leadership index went backwards, resetting it", election.name());
+        }
+        return nextIndex;
+    }
+
+    // @VisibleForTesting
+    Mono<Long> onCycleError(final Retry.RetrySignal signal) {
+        final var throwable = signal.failure();
         if (throwable instanceof NonRecoverableElectionException) {
-            log.error("Non-recoverable error in leadership watch, stopping election participation");
-            immediateStop();
-        } else {
-            final var maxRetries = configuration.getElection().getMaxRetryAttempts();
-            final var retry = this.retryCount.incrementAndGet();
-            if (retry <= maxRetries) {
-                final var duration = calculateRetryDelay(retry);
-                log.warn("Recoverable error detected, retrying watch ({}/{}) after delay={}ms", retry, maxRetries, duration.toMillis());
-                // Add delay before retrying to avoid hammering the server
-                consumer.accept(Mono.delay(duration).then());
-            } else {
-                log.error("Max retry attempts {} reached, stopping election participation", maxRetries);
-                immediateStop();
-            }
+            log.error("[{}] Non-recoverable error in leadership election, stopping election participation", election.name());
+            return Mono.error(throwable);
         }
+
+        final var maxRetries = configuration.getElection().getMaxRetryAttempts();
+        final var retry = this.retryCount.incrementAndGet();
+        if (retry <= maxRetries) {
+            final var duration = calculateRetryDelay(retry);
+            log.warn("[{}] Recoverable error detected, retrying ({}/{}) after delay={}ms", election.name(), retry, maxRetries, duration.toMillis());
+            // Add delay before retrying to avoid hammering the server
+            return Mono.delay(duration);
+        }
+        log.error("[{}] Max retry attempts {} reached, stopping election participation", election.name(), maxRetries);
+        return Mono.error(throwable);
     }
 
     /**
@@ -243,32 +408,77 @@ public class LeaderElectionOrchestratorImpl implements LeaderElectionOrchestrato
     }
 
     private Mono<Void> doStop() {
-        log.info("Stopping Leader Election");
+        if (!startedRef.getAndSet(false)) {
+            // never started, or already stopped: nothing to release
+            log.debug("[{}] Leader Election not started, nothing to stop", election.name());
+            return Mono.empty();
+        }
+        log.info("[{}] Stopping Leader Election", election.name());
         this.closingRef.set(true);
+        cancelPreemptionWait();
+        val leaderSession = lockSessionRef.getAndSet(null);
 
         return Mono.justOrEmpty(listenerRef.get())
                 .doOnNext(listener -> {
-                    log.debug("Stopping leadership watcher");
+                    log.debug("[{}] Stopping leadership watcher", election.name());
                     if (!listener.isDisposed()) {
                         listener.dispose();
                     }
                 })
-                .then(Mono.defer(sessionHandler::cancelSessionRenewal))
-                .flatMap(leadershipHandler::releaseLeadership)
-                .then(Mono.defer(sessionHandler::destroySession))
+                .then(Mono.defer(() -> sessionHandler.cancelSessionRenewal(election.name())))
+                // only the leader has a lock to release and a successor to designate, a follower only destroys its session
+                .filter(sessionId -> sessionId.equals(leaderSession))
+                .flatMap(sessionId -> leadershipHandoff.designateSuccessor(sessionId)
+                        .then(leadershipHandler.releaseLeadership(sessionId)))
+                .then(Mono.defer(() -> sessionHandler.destroySession(election.name())))
                 .timeout(Duration.ofMillis(configuration.getElection().getTimeoutMs()))// Add timeout to prevent hanging
                 .onErrorResume(throwable -> {
-                    log.error("Error during leadership election shutdown", throwable);
+                    log.error("[{}] Error during leadership election shutdown", election.name(), throwable);
 
                     return Mono.empty();
                 })
-                .doOnSuccess(ignored -> log.debug("Leader Election shutdown completed"))
+                // once the lock is released, not to delay the successor
+                .then(Mono.defer(() -> cleanUpHandoff(leaderSession)))
+                .doOnSuccess(ignored -> log.debug("[{}] Leader Election shutdown completed", election.name()))
                 .doFinally(ignored -> {
                     listenerRef.set(null);
                     modifyIndexRef.set(null);
+                    releasedIndexRef.set(null);
+                    seenLeaderRef.set(null);
+                    leaderToPreemptRef.set(null);
+                });
+    }
+
+    private void onLeaderSeen(@Nullable final String leaderSession, @Nullable final String lockSession) {
+        val previousLeader = seenLeaderRef.getAndSet(leaderSession);
+        // checking each new leader once for preemption
+        if (leaderSession != null
+            && !leaderSession.equals(previousLeader)
+            && !leaderSession.equals(lockSession)
+            && candidatePriority.isPreemptive()) {
+            leaderToPreemptRef.set(leaderSession);
+            applyingRef.set(true);
+        }
+    }
+
+    private Mono<Void> cleanUpHandoff(@Nullable final String leaderSession) {
+        if (leaderSession == null) {
+            return Mono.empty();
+        }
+        // best effort: the stale candidates are ignored when designating a successor
+        return leadershipHandoff.cleanUpCandidates()
+                .timeout(Duration.ofMillis(configuration.getElection().getTimeoutMs()))
+                .onErrorResume(throwable -> {
+                    log.warn("[{}] Failed to clean up the handoff candidates", election.name(), throwable);
+                    return Mono.empty();
                 });
     }
 
+    // @VisibleForTesting
+    Disposable getPreemption() {
+        return this.preemptionRef.get();
+    }
+
     // @VisibleForTesting
     Disposable getListener() {
         return this.listenerRef.get();
@@ -289,6 +499,56 @@ public class LeaderElectionOrchestratorImpl implements LeaderElectionOrchestrato
         this.modifyIndexRef.set(modifyIndex);
     }
 
+    // @VisibleForTesting
+    String getLockSession() {
+        return this.lockSessionRef.get();
+    }
+
+    // @VisibleForTesting
+    void setLockSession(final String sessionId) {
+        this.lockSessionRef.set(sessionId);
+    }
+
+    // @VisibleForTesting
+    Integer getReleasedIndex() {
+        return this.releasedIndexRef.get();
+    }
+
+    // @VisibleForTesting
+    void setReleasedIndex(final Integer releasedIndex) {
+        this.releasedIndexRef.set(releasedIndex);
+    }
+
+    // @VisibleForTesting
+    String getLeaderToPreempt() {
+        return this.leaderToPreemptRef.get();
+    }
+
+    // @VisibleForTesting
+    void setLeaderToPreempt(final String sessionId) {
+        this.leaderToPreemptRef.set(sessionId);
+    }
+
+    // @VisibleForTesting
+    boolean isApplying() {
+        return this.applyingRef.get();
+    }
+
+    // @VisibleForTesting
+    void setApplying(final boolean applying) {
+        this.applyingRef.set(applying);
+    }
+
+    // @VisibleForTesting
+    boolean isStarted() {
+        return this.startedRef.get();
+    }
+
+    // @VisibleForTesting
+    void setStarted(final boolean started) {
+        this.startedRef.set(started);
+    }
+
     // @VisibleForTesting
     boolean getClosing() {
         return this.closingRef.get();
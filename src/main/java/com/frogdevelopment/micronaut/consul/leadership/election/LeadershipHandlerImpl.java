@@ -1,67 +1,114 @@
 package com.frogdevelopment.micronaut.consul.leadership.election;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
-import jakarta.inject.Singleton;
-
 import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
 import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
 import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsPublisher;
 import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
 
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import reactor.core.publisher.Mono;
 
 @Slf4j
-@Singleton
-@RequiredArgsConstructor
+@EachBean(Election.class)
 public class LeadershipHandlerImpl implements LeadershipHandler {
 
+    private final Election election;
     private final ConsulLeadershipClient client;
-    private final LeadershipConfiguration configuration;
-    private final LeadershipDetailsProvider leadershipDetailsProvider;
+    private final LeadershipDetailsProvider<?> leadershipDetailsProvider;
     private final LeadershipEventsPublisher leadershipEventsPublisher;
+    private final ConsistencyMode readConsistency;
+
+    // the session of the last acquisition, until the lock it acquired is read and published with its fencing token
+    private final AtomicReference<String> acquiringSessionRef = new AtomicReference<>();
+
+    public LeadershipHandlerImpl(final Election election,
+                                 final ConsulLeadershipClient client,
+                                 final LeadershipConfiguration configuration,
+                                 final LeadershipDetailsProvider<?> leadershipDetailsProvider,
+                                 @Parameter final LeadershipEventsPublisher leadershipEventsPublisher) {
+        this.election = election;
+        this.client = client;
+        this.readConsistency = configuration.getConsistency().getRead();
+        this.leadershipDetailsProvider = leadershipDetailsProvider;
+        this.leadershipEventsPublisher = leadershipEventsPublisher;
+    }
 
     @Override
     public Mono<Boolean> acquireLeadership(final String sessionId) {
-        log.debug("Attempting to acquire leadership");
+        log.debug("[{}] Attempting to acquire leadership", election.name());
 
         return Mono.fromCallable(() -> leadershipDetailsProvider.getLeadershipInfo(true))
                 .onErrorResume(error -> Mono.error(new NonRecoverableElectionException("LeadershipDetails creation failed", error)))
-                .flatMap(leadershipInfo -> client.acquireLeadership(configuration.getPath(), leadershipInfo, sessionId)
-                        .onErrorResume(error -> {
-                            log.error("Leadership acquisition failed", error);
-                            return Mono.just(false);
-                        }))
-                .doOnNext(leadershipEventsPublisher::publishLeadershipChangeEvent);
+                // a failure is not a lost application, e.g. the session may have been invalidated: left to the orchestrator
+                .flatMap(leadershipInfo -> client.acquireLeadership(election.path(), leadershipInfo, sessionId)
+                        .doOnError(error -> log.error("[{}] Leadership acquisition failed", election.name(), error)))
+                .doOnNext(acquired -> {
+                    if (Boolean.TRUE.equals(acquired)) {
+                        // published once the lock is read, along with the fencing token of the term
+                        acquiringSessionRef.set(sessionId);
+                    } else {
+                        acquiringSessionRef.set(null);
+                        leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+                    }
+                });
     }
 
     @Override
     public Mono<Integer> readLeadershipInfo() {
-        log.debug("Reading leadership information from path: {}", configuration.getPath());
-        return client.readLeadership(configuration.getPath())
+        return Mono.defer(() -> {
+            // the lock just acquired is always verified from the Consul leader confirmed by a quorum, as a stale read
+            // could miss the acquisition, or report a term already lost
+            val consistency = acquiringSessionRef.get() != null ? ConsistencyMode.CONSISTENT : readConsistency;
+            log.debug("[{}] Reading leadership information from path: {}", election.name(), election.path());
+            return client.readLeadership(election.path(), consistency.stale(), consistency.consistent());
+        })
                 .onErrorResume(error -> Mono.error(new NonRecoverableElectionException("Failed to retrieve leadership information", error)))
                 .filter(Predicate.not(List::isEmpty))
                 .switchIfEmpty(Mono.error(new NonRecoverableElectionException("No leadership found")))
                 .map(List::getFirst)
+                // the index is the fencing token of the term: a key read without it is not a leadership
+                .filter(keyValue -> keyValue.getModifyIndex() != null)
+                .switchIfEmpty(Mono.error(new NonRecoverableElectionException("Leadership read without ModifyIndex")))
                 .map(keyValue -> {
-                    leadershipEventsPublisher.publishLeadershipDetailsChange(keyValue.getValue());
+                    publishAcquiredLeadership(keyValue);
+                    leadershipEventsPublisher.publishLeadershipDetailsChange(keyValue.getModifyIndex(), keyValue.getValue());
 
                     return keyValue.getModifyIndex();
                 });
     }
 
+    private void publishAcquiredLeadership(final KeyValue keyValue) {
+        val acquiringSession = acquiringSessionRef.getAndSet(null);
+        if (acquiringSession == null) {
+            return;
+        }
+        if (acquiringSession.equals(keyValue.getSession())) {
+            // first read of the lock acquired by this instance: its index identifies the leadership term
+            leadershipEventsPublisher.publishLeadershipAcquired(keyValue.getModifyIndex());
+        } else {
+            log.warn("[{}] Leadership lost before being read, now locked by session={}", election.name(), keyValue.getSession());
+            leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+        }
+    }
+
     @Override
     public Mono<Void> releaseLeadership(final String sessionId) {
-        log.debug("Releasing leadership");
+        log.debug("[{}] Releasing leadership", election.name());
         return Mono.fromCallable(() -> leadershipDetailsProvider.getLeadershipInfo(false))
-                .flatMap(leadershipInfo -> client.releaseLeadership(configuration.getPath(), leadershipInfo, sessionId))
+                .flatMap(leadershipInfo -> client.releaseLeadership(election.path(), leadershipInfo, sessionId))
                 .onErrorResume(error -> {
-                    log.error("Failed to release leadership gracefully", error);
+                    log.error("[{}] Failed to release leadership gracefully", election.name(), error);
                     return Mono.empty(); // Continue cleanup despite release failure
                 })
                 .then();
@@ -0,0 +1,52 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import java.time.Duration;
+
+import io.micronaut.core.annotation.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hands the leadership of an {@link Election} off to a designated successor when the leader stops.
+ * <p>
+ * Without handoff, all the followers race to acquire the released lock. With it, the followers register as
+ * candidates, the stopping leader designates one of them before releasing the lock, and only the designated
+ * successor applies at once.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public interface LeadershipHandoff {
+
+    /**
+     * Registers the session of this follower as a candidate to succeed the leader.
+     *
+     * @param sessionId the session of this follower
+     * @return a Mono completing when done
+     */
+    Mono<Void> registerCandidate(String sessionId);
+
+    /**
+     * Designates the successor of this leader, before its lock is released.
+     *
+     * @param sessionId the session holding the lock
+     * @return a Mono completing when done
+     */
+    Mono<Void> designateSuccessor(String sessionId);
+
+    /**
+     * Deletes the candidates whose session is gone, once the lock of this leader is released.
+     *
+     * @return a Mono completing when done
+     */
+    Mono<Void> cleanUpCandidates();
+
+    /**
+     * Computes how long this follower waits before applying for a released leadership.
+     *
+     * @param sessionId   the session of this follower
+     * @param lockedIndex the modify index of the leadership key when last seen locked, if known
+     * @return {@link Duration#ZERO} if this follower is the designated successor, the handoff timeout otherwise,
+     * or an empty Mono if no successor was designated since the given index
+     */
+    Mono<Duration> applicationDelay(String sessionId, @Nullable Integer lockedIndex);
+}
@@ -0,0 +1,217 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.serde.ObjectMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Default implementation of {@link LeadershipHandoff}, storing the candidates and the successor hint in Consul KV.
+ * <p>
+ * The Consul KV layout under {@code <election path>.handoff} is:
+ * </p>
+ * <ul>
+ *   <li>{@code candidates/<session>} - one key per follower, locked by its session</li>
+ *   <li>{@code successor} - the {@link SuccessorHint} written by the last stopping leader</li>
+ * </ul>
+ * <p>
+ * The candidate of highest {@link CandidatePriority priority} is designated, then the longest-standing one, as the most
+ * likely to stay up during a rolling deployment.
+ * Each step is best effort: on failure, the followers race for the lock as without handoff.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@EachBean(Election.class)
+public class LeadershipHandoffImpl implements LeadershipHandoff {
+
+    static final String CANDIDATES = "candidates/";
+    static final String SUCCESSOR = "successor";
+
+    private final Election election;
+    private final ConsulLeadershipClient client;
+    private final ConsulWatchClient watchClient;
+    private final LeadershipConfiguration configuration;
+    private final LeadershipDetailsProvider<?> leadershipDetailsProvider;
+    private final CandidatePriority candidatePriority;
+    private final ObjectMapper objectMapper;
+    private final ConsistencyMode readConsistency;
+    private final Base64.Decoder base64Decoder = Base64.getDecoder();
+
+    private final AtomicReference<String> candidateSessionRef = new AtomicReference<>();
+
+    public LeadershipHandoffImpl(final Election election,
+                                 final ConsulLeadershipClient client,
+                                 final ConsulWatchClient watchClient,
+                                 final LeadershipConfiguration configuration,
+                                 final LeadershipDetailsProvider<?> leadershipDetailsProvider,
+                                 final CandidatePriority candidatePriority,
+                                 final ObjectMapper objectMapper) {
+        this.election = election;
+        this.client = client;
+        this.watchClient = watchClient;
+        this.configuration = configuration;
+        this.leadershipDetailsProvider = leadershipDetailsProvider;
+        this.candidatePriority = candidatePriority;
+        this.objectMapper = objectMapper;
+        this.readConsistency = configuration.getConsistency().getRead();
+    }
+
+    @Override
+    public Mono<Void> registerCandidate(final String sessionId) {
+        if (!configuration.getElection().isHandoffEnabled() || sessionId.equals(candidateSessionRef.get())) {
+            return Mono.empty();
+        }
+        log.debug("[{}] Registering as candidate with session={}", election.name(), sessionId);
+        return Mono.fromCallable(() -> leadershipDetailsProvider.getLeadershipInfo(false))
+                .flatMap(details -> client.acquireLeadership(candidateKey(sessionId), details, sessionId))
+                .doOnNext(registered -> {
+                    if (Boolean.TRUE.equals(registered)) {
+                        candidateSessionRef.set(sessionId);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to register as candidate", election.name(), error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> designateSuccessor(final String sessionId) {
+        if (!configuration.getElection().isHandoffEnabled()) {
+            return Mono.empty();
+        }
+        return Mono.zip(readHandoff(), candidatePriority.readPriorities())
+                .flatMap(tuple -> {
+                    val keyValues = tuple.getT1();
+                    val priorities = tuple.getT2();
+                    val successor = keyValues.stream()
+                            .filter(keyValue -> keyValue.getKey().startsWith(handoffPath() + CANDIDATES))
+                            .filter(keyValue -> keyValue.getSession() != null && !sessionId.equals(keyValue.getSession()))
+                            .min(Comparator.<KeyValue, Integer>comparing(keyValue -> priorities.getOrDefault(keyValue.getSession(), Integer.MIN_VALUE), Comparator.reverseOrder())
+                                    .thenComparing(KeyValue::getModifyIndex, Comparator.nullsLast(Comparator.naturalOrder())))
+                            .map(KeyValue::getSession);
+                    if (successor.isEmpty()) {
+                        log.debug("[{}] No candidate to hand the leadership off to", election.name());
+                        return Mono.<Void>empty();
+                    }
+                    log.info("[{}] Handing the leadership off to session={}", election.name(), successor.get());
+                    val modifyIndex = keyValues.stream()
+                            .filter(keyValue -> successorKey().equals(keyValue.getKey()))
+                            .findFirst()
+                            .map(KeyValue::getModifyIndex)
+                            .orElse(0);
+                    return client.compareAndSet(successorKey(), new SuccessorHint(sessionId, successor.get()), modifyIndex)
+                            .then();
+                })
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to designate a successor", election.name(), error);
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Void> cleanUpCandidates() {
+        if (!configuration.getElection().isHandoffEnabled()) {
+            return Mono.empty();
+        }
+        return readHandoff()
+                .flatMap(this::deleteStaleCandidates)
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to clean up the stale candidates", election.name(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<List<KeyValue>> readHandoff() {
+        return watchClient.watchLeadershipPrefix(handoffPath(), true, null, null, readConsistency.stale(), readConsistency.consistent())
+                .map(response -> response.getBody().orElseGet(List::of))
+                .onErrorResume(HttpClientResponseException.class, exception -> exception.getStatus() == HttpStatus.NOT_FOUND
+                        ? Mono.just(List.of())
+                        : Mono.error(exception));
+    }
+
+    private Mono<Void> deleteStaleCandidates(final List<KeyValue> keyValues) {
+        // candidates whose session is gone: compare-and-set, in case the key was re-acquired meanwhile
+        return Flux.fromIterable(keyValues)
+                .filter(keyValue -> keyValue.getKey().startsWith(handoffPath() + CANDIDATES) && keyValue.getSession() == null)
+                .concatMap(candidate -> client.deleteKey(candidate.getKey(), candidate.getModifyIndex())
+                        .onErrorResume(error -> Mono.empty()))
+                .then();
+    }
+
+    @Override
+    public Mono<Duration> applicationDelay(final String sessionId, @Nullable final Integer lockedIndex) {
+        val electionConfiguration = configuration.getElection();
+        if (!electionConfiguration.isHandoffEnabled() || lockedIndex == null) {
+            return Mono.empty();
+        }
+        return client.readLeadership(successorKey(), readConsistency.stale(), readConsistency.consistent())
+                .flatMap(keyValues -> Mono.justOrEmpty(keyValues.stream().findFirst()))
+                // a hint left by a previous handoff, written before the lock was last seen, does not apply
+                .filter(keyValue -> keyValue.getModifyIndex() != null && keyValue.getModifyIndex() > lockedIndex)
+                .flatMap(keyValue -> Mono.justOrEmpty(decodeHint(keyValue)))
+                .map(hint -> {
+                    if (sessionId.equals(hint.successor())) {
+                        log.debug("[{}] Designated as successor, applying at once", election.name());
+                        return Duration.ZERO;
+                    }
+                    log.debug("[{}] Leadership handed off by session={} to session={}, waiting for it", election.name(), hint.leader(), hint.successor());
+                    return electionConfiguration.getHandoffTimeout();
+                })
+                .onErrorResume(error -> {
+                    log.warn("[{}] Failed to read the successor hint", election.name(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Optional<SuccessorHint> decodeHint(final KeyValue keyValue) {
+        if (keyValue.getValue() == null || keyValue.getValue().isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            val decoded = new String(base64Decoder.decode(keyValue.getValue()), StandardCharsets.UTF_8);
+            return Optional.ofNullable(objectMapper.readValue(decoded, SuccessorHint.class))
+                    .filter(hint -> Objects.nonNull(hint.leader()) && Objects.nonNull(hint.successor()));
+        } catch (final Exception e) {
+            log.warn("[{}] Unable to read the successor hint", election.name(), e);
+            return Optional.empty();
+        }
+    }
+
+    private String handoffPath() {
+        return election.path() + ".handoff/";
+    }
+
+    private String candidateKey(final String sessionId) {
+        return handoffPath() + CANDIDATES + sessionId;
+    }
+
+    private String successorKey() {
+        return handoffPath() + SUCCESSOR;
+    }
+}
@@ -0,0 +1,21 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Content of the {@code successor} key of an election, written by a stopping leader before releasing its lock.
+ * <p>
+ * The hint only applies to the release following it: a hint written before the lock was last seen acquired,
+ * left by a previous handoff, is ignored.
+ * </p>
+ *
+ * @param leader    the session of the stopping leader
+ * @param successor the session of the designated successor
+ * @since 1.0.0
+ */
+@Serdeable
+public record SuccessorHint(@JsonProperty("Leader") String leader,
+                            @JsonProperty("Successor") String successor) {
+}
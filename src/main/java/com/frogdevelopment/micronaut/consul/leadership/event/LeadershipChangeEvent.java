@@ -1,5 +1,9 @@
 package com.frogdevelopment.micronaut.consul.leadership.event;
 
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+
+import io.micronaut.core.annotation.Nullable;
+
 /**
  * Event published when this instance's leadership status changes.
  * <p>
@@ -13,17 +17,68 @@ package com.frogdevelopment.micronaut.consul.leadership.event;
  * <pre>{@code
  * @EventListener
  * void onLeadershipChange(LeadershipChangeEvent event) {
- *     if (event.isLeader()) {
+ *     if (event.isDefaultElection() && event.isLeader()) {
  *         // This instance became the leader
  *     } else {
  *         // This instance lost leadership
  *     }
  * }
  * }</pre>
+ * <p>
+ * Only the transitions are published: the first decision of the election, then each time this instance becomes the
+ * leader or stops being the leader. The failed applications of a follower do not publish anything.
+ * </p>
  *
- * @param isLeader {@code true} if this instance has become the leader,
- *                 {@code false} if this instance has lost leadership
+ * @param electionName the name of the election whose status changed
+ * @param isLeader     {@code true} if this instance has become the leader,
+ *                     {@code false} if this instance has lost leadership
+ * @param wasLeader    the leadership status of this instance before this event, {@code false} for the first event
+ * @param sequence     the number of this event among the ones published for the election, starting at 1: a gap
+ *                     reveals transitions coalesced before their delivery
  * @since 1.0.0
  */
-public record LeadershipChangeEvent(boolean isLeader) {
+public record LeadershipChangeEvent(String electionName, boolean isLeader, boolean wasLeader, long sequence) {
+
+    /**
+     * Creates an event for a transition of unknown sequence.
+     *
+     * @param electionName the name of the election whose status changed
+     * @param isLeader     {@code true} if this instance has become the leader,
+     *                     {@code false} if this instance has lost leadership
+     */
+    public LeadershipChangeEvent(final String electionName, final boolean isLeader) {
+        this(electionName, isLeader, !isLeader, 0);
+    }
+
+    /**
+     * Creates an event for the {@link Election#DEFAULT_NAME default} election.
+     *
+     * @param isLeader {@code true} if this instance has become the leader,
+     *                 {@code false} if this instance has lost leadership
+     */
+    public LeadershipChangeEvent(final boolean isLeader) {
+        this(Election.DEFAULT_NAME, isLeader);
+    }
+
+    /**
+     * @return {@code true} if this event concerns the default election
+     */
+    public boolean isDefaultElection() {
+        return Election.DEFAULT_NAME.equals(electionName);
+    }
+
+    /**
+     * Merges this event with the previous one, still pending delivery.
+     *
+     * @param previous the previous event, not delivered yet
+     * @return the event of the transition from the status before the previous event, or {@code null} if both events
+     * cancel out. The first event of the election is never cancelled out, the listeners not knowing the status yet.
+     */
+    @Nullable
+    LeadershipChangeEvent coalesce(final LeadershipChangeEvent previous) {
+        if (isLeader == previous.wasLeader && previous.sequence > 1) {
+            return null;
+        }
+        return new LeadershipChangeEvent(electionName, isLeader, previous.wasLeader, sequence);
+    }
 }
@@ -1,6 +1,7 @@
 package com.frogdevelopment.micronaut.consul.leadership.event;
 
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
 
 /**
  * Event published when the current leader's details changes.
@@ -15,14 +16,37 @@ import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails
  * </p>
  * <pre>{@code
  * @EventListener
- * void onLeadershipDetailsChange(LeadershipDetailsChangeEvent event) {
- *     LeadershipDetails details = event.leadershipDetails();
+ * void onLeadershipDetailsChange(LeadershipDetailsChangeEvent<MyLeadershipDetails> event) {
+ *     MyLeadershipDetails details = event.leadershipDetails();
  *     // Access leader details like hostname, cluster name, etc.
  * }
  * }</pre>
+ * <p>
+ * The details are of the type decoded by the
+ * {@link com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider LeadershipDetailsProvider}
+ * of the application.
+ * </p>
  *
+ * @param electionName      the name of the election whose leader details changed
  * @param leadershipDetails the updated leadership details containing information about the current leader
+ * @param <T>               the type of the leadership details
  * @since 1.0.0
  */
-public record LeadershipDetailsChangeEvent(LeadershipDetails leadershipDetails) {
+public record LeadershipDetailsChangeEvent<T extends LeadershipDetails>(String electionName, T leadershipDetails) {
+
+    /**
+     * Creates an event for the {@link Election#DEFAULT_NAME default} election.
+     *
+     * @param leadershipDetails the updated leadership details containing information about the current leader
+     */
+    public LeadershipDetailsChangeEvent(final T leadershipDetails) {
+        this(Election.DEFAULT_NAME, leadershipDetails);
+    }
+
+    /**
+     * @return {@code true} if this event concerns the default election
+     */
+    public boolean isDefaultElection() {
+        return Election.DEFAULT_NAME.equals(electionName);
+    }
 }
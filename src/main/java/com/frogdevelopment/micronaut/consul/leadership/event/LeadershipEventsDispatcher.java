@@ -0,0 +1,177 @@
+package com.frogdevelopment.micronaut.consul.leadership.event;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Delivers the leadership events of an {@link Election} to the application listeners, off the threads of the election.
+ * <p>
+ * The events are queued and delivered in order by a thread dedicated to the election, so that neither the Consul watch
+ * nor the applications for leadership wait on listener code. The queue holds at most one pending event per event type:
+ * an event replaces the pending event of the same type, the listeners only being notified of the latest state, and is
+ * queued behind the other pending events. A {@link LeadershipChangeEvent} is merged with the pending one instead,
+ * reporting the transition from the status before the pending event, and both are dropped if they cancel out.
+ * </p>
+ * <p>
+ * The {@link #getQueueDepth() queue depth}, the {@link #getDispatchLag() dispatch lag} and the number of
+ * {@link #getCoalescedEvents() coalesced events} are exposed by the {@code leadership} management endpoint.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@EachBean(Election.class)
+public final class LeadershipEventsDispatcher {
+
+    private final Election election;
+    private final ApplicationEventPublisher<Object> eventPublisher;
+    private final Executor executor;
+
+    // guarded by itself, along with draining
+    private final Map<Class<?>, PendingEvent> pendingEvents = new LinkedHashMap<>();
+    private boolean draining;
+
+    private final AtomicLong coalescedEvents = new AtomicLong();
+    private volatile long dispatchLagNanos;
+
+    /**
+     * @param election       the election whose events are dispatched
+     * @param eventPublisher the publisher notifying the application listeners
+     */
+    @Inject
+    public LeadershipEventsDispatcher(final Election election, final ApplicationEventPublisher<Object> eventPublisher) {
+        this(election, eventPublisher, Executors.newSingleThreadExecutor(runnable -> {
+            val thread = new Thread(runnable, "leadership-events-" + election.name());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    // @VisibleForTesting
+    LeadershipEventsDispatcher(final Election election,
+                               final ApplicationEventPublisher<Object> eventPublisher,
+                               final Executor executor) {
+        this.election = election;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+    }
+
+    @PreDestroy
+    void close() {
+        if (executor instanceof final ExecutorService executorService) {
+            // the events already queued are still delivered
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Queues an event, replacing the pending event of the same type, and returns without waiting for its delivery.
+     *
+     * @param event the event to deliver to the application listeners
+     */
+    public void dispatch(final Object event) {
+        final boolean schedule;
+        synchronized (pendingEvents) {
+            var eventToQueue = event;
+            val pendingEvent = pendingEvents.remove(event.getClass());
+            if (pendingEvent != null) {
+                coalescedEvents.incrementAndGet();
+                log.trace("[{}] Coalescing pending {}", election.name(), event.getClass().getSimpleName());
+                eventToQueue = coalesce(pendingEvent.event(), event);
+            }
+            if (eventToQueue == null) {
+                // cancelled out: nothing left to deliver for this type
+                return;
+            }
+            pendingEvents.put(event.getClass(), new PendingEvent(eventToQueue, System.nanoTime()));
+            schedule = !draining;
+            draining = true;
+        }
+
+        if (schedule) {
+            try {
+                executor.execute(this::drain);
+            } catch (final RejectedExecutionException e) {
+                log.warn("[{}] Dispatcher closed, dropping {}", election.name(), event);
+                synchronized (pendingEvents) {
+                    pendingEvents.clear();
+                    draining = false;
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static Object coalesce(final Object pendingEvent, final Object event) {
+        if (event instanceof final LeadershipChangeEvent changeEvent) {
+            return changeEvent.coalesce((LeadershipChangeEvent) pendingEvent);
+        }
+        return event;
+    }
+
+    private void drain() {
+        while (true) {
+            final PendingEvent pendingEvent;
+            synchronized (pendingEvents) {
+                val iterator = pendingEvents.values().iterator();
+                if (!iterator.hasNext()) {
+                    draining = false;
+                    return;
+                }
+                pendingEvent = iterator.next();
+                iterator.remove();
+            }
+
+            dispatchLagNanos = System.nanoTime() - pendingEvent.queuedAt();
+            try {
+                eventPublisher.publishEvent(pendingEvent.event());
+            } catch (final RuntimeException e) {
+                log.error("[{}] Failed to deliver {}", election.name(), pendingEvent.event(), e);
+            }
+        }
+    }
+
+    /**
+     * @return the number of events waiting to be delivered
+     */
+    public int getQueueDepth() {
+        synchronized (pendingEvents) {
+            return pendingEvents.size();
+        }
+    }
+
+    /**
+     * @return how long the last delivered event waited in the queue
+     */
+    public Duration getDispatchLag() {
+        return Duration.ofNanos(dispatchLagNanos);
+    }
+
+    /**
+     * @return the number of events replaced by a later event of the same type before being delivered
+     */
+    public long getCoalescedEvents() {
+        return coalescedEvents.get();
+    }
+
+    private record PendingEvent(Object event, long queuedAt) {
+    }
+}
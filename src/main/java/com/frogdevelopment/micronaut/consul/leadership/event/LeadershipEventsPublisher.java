@@ -1,15 +1,20 @@
 package com.frogdevelopment.micronaut.consul.leadership.event;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
-import java.util.Base64;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatusImpl;
 
-import io.micronaut.context.annotation.Prototype;
-import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.runtime.event.annotation.EventListener;
 
 /**
  * Publisher for leadership-related application events.
@@ -26,33 +31,138 @@ import io.micronaut.context.event.ApplicationEventPublisher;
  *   <li>{@link LeadershipChangeEvent} - when this instance acquires or loses leadership</li>
  *   <li>{@link LeadershipDetailsChangeEvent} - when the current leader's information changes</li>
  * </ul>
+ * <p>
+ * One publisher exists per {@link Election}: events are tagged with the election's name, and the
+ * election's {@link LeadershipStatusImpl status} is updated before the listeners are notified.
+ * </p>
+ * <p>
+ * The status is updated synchronously, the listeners being notified asynchronously by the
+ * {@link LeadershipEventsDispatcher dispatcher} of the election: publishing never waits on listener code, nor on the
+ * subscribers of the {@link LeadershipStatus#states() states} and the pod label update, both handled once the events
+ * are delivered.
+ * </p>
+ * <p>
+ * A {@link LeadershipChangeEvent} is only published on a transition of the leadership status of this instance, the
+ * first decision of the election included: a follower failing again to acquire the leadership publishes nothing.
+ * </p>
+ * <p>
+ * The leadership details are only decoded and published when they changed since the last publication,
+ * the same value being read again on each watch reset and each application for leadership.
+ * </p>
+ * <p>
+ * When the {@link SessionLeaseEvent lease of the session} is about to expire, a led election steps down by
+ * publishing a {@link LeadershipChangeEvent} with {@code isLeader=false}, then publishes its leadership again if
+ * the lease is restored.
+ * </p>
+ * <p>
+ * An acquired leadership is only published with the fencing token of its term, so that the status never reports this
+ * instance as the leader without the token of the term.
+ * </p>
  *
  * @since 1.0.0
  */
 @Slf4j
-@Prototype
-@RequiredArgsConstructor
+@EachBean(Election.class)
 public final class LeadershipEventsPublisher {
 
-    private final LeadershipDetailsProvider leadershipDetailsProvider;
-    private final ApplicationEventPublisher<LeadershipChangeEvent> leadershipChangeEventPublisher;
-    private final ApplicationEventPublisher<LeadershipDetailsChangeEvent> leadershipDetailsChangeEventPublisher;
+    private final Election election;
+    private final LeadershipStatusImpl leadershipStatus;
+    private final LeadershipDetailsProvider<?> leadershipDetailsProvider;
+    private final LeadershipEventsDispatcher leadershipEventsDispatcher;
 
-    private final Base64.Decoder base64Decoder = Base64.getDecoder();
+    private final AtomicReference<PublishedDetails> publishedRef = new AtomicReference<>();
+    private final AtomicBoolean steppedDownRef = new AtomicBoolean(false);
+    // guarded by this, publishedLeader being null until the first decision of the election
+    private Boolean publishedLeader;
+    private long sequence;
+
+    /**
+     * @param election                   the election this publisher belongs to
+     * @param leadershipStatus           the status of the same election
+     * @param leadershipDetailsProvider  the provider used to decode leadership details
+     * @param leadershipEventsDispatcher the dispatcher of the events of the same election
+     */
+    public LeadershipEventsPublisher(final Election election,
+                                     @Parameter final LeadershipStatusImpl leadershipStatus,
+                                     final LeadershipDetailsProvider<?> leadershipDetailsProvider,
+                                     @Parameter final LeadershipEventsDispatcher leadershipEventsDispatcher) {
+        this.election = election;
+        this.leadershipStatus = leadershipStatus;
+        this.leadershipDetailsProvider = leadershipDetailsProvider;
+        this.leadershipEventsDispatcher = leadershipEventsDispatcher;
+    }
 
     /**
      * Publishes a leadership change event.
      * <p>
      * This method is called when this instance's leadership status changes,
      * either when acquiring leadership (becoming the leader) or losing leadership.
-     * Listeners can subscribe to {@link LeadershipChangeEvent} to react to these changes.
+     * Listeners can subscribe to {@link LeadershipChangeEvent} to react to these changes. Nothing is published if the
+     * status is the same as the last published one.
+     * </p>
+     * <p>
+     * An acquired leadership should rather be published with its fencing token by
+     * {@link #publishLeadershipAcquired(long)}.
      * </p>
      *
      * @param isLeader {@code true} if this instance has become the leader,
      *                 {@code false} if this instance has lost leadership
      */
     public void publishLeadershipChangeEvent(final boolean isLeader) {
-        leadershipChangeEventPublisher.publishEvent(new LeadershipChangeEvent(isLeader));
+        if (isLeader) {
+            publishLeadershipAcquired(LeadershipStatus.NO_FENCING_TOKEN);
+            return;
+        }
+        // the election decided again: no more stepped down
+        steppedDownRef.set(false);
+        doPublishLeadershipChangeEvent(false);
+        // reset once not leader anymore, the token of the term never being read as unknown while leader
+        leadershipStatus.onFencingToken(LeadershipStatus.NO_FENCING_TOKEN);
+    }
+
+    /**
+     * Publishes the leadership acquired by this instance, along with the fencing token of its term.
+     * <p>
+     * The token is recorded before the status changes, so that a reader seeing this instance as the leader,
+     * e.g. a listener of the {@link LeadershipChangeEvent}, also sees the token of the term.
+     * </p>
+     *
+     * @param fencingToken the Consul {@code ModifyIndex} of the leadership key locked by this instance
+     */
+    public void publishLeadershipAcquired(final long fencingToken) {
+        // the election decided again: no more stepped down, and a new term
+        steppedDownRef.set(false);
+        leadershipStatus.onFencingToken(fencingToken);
+        doPublishLeadershipChangeEvent(true);
+    }
+
+    private synchronized void doPublishLeadershipChangeEvent(final boolean isLeader) {
+        if (publishedLeader != null && publishedLeader == isLeader) {
+            log.trace("[{}] Leadership unchanged, skipping event publishing", election.name());
+            return;
+        }
+
+        val wasLeader = Boolean.TRUE.equals(publishedLeader);
+        publishedLeader = isLeader;
+        val event = new LeadershipChangeEvent(election.name(), isLeader, wasLeader, ++sequence);
+        leadershipStatus.onLeadershipChanged(event);
+        leadershipEventsDispatcher.dispatch(event);
+    }
+
+    /**
+     * Steps down while the lease of the session is about to expire, and publishes the leadership again once restored.
+     *
+     * @param event the session lease event
+     */
+    @EventListener
+    void onSessionLease(final SessionLeaseEvent event) {
+        if (!event.valid() && leadershipStatus.isLeader() && steppedDownRef.compareAndSet(false, true)) {
+            log.warn("[{}] Session lease about to expire, stepping down", election.name());
+            doPublishLeadershipChangeEvent(false);
+        } else if (event.valid() && steppedDownRef.compareAndSet(true, false)) {
+            log.info("[{}] Session lease restored, leadership resumed", election.name());
+            doPublishLeadershipChangeEvent(true);
+        }
     }
 
     /**
@@ -63,23 +173,48 @@ public final class LeadershipEventsPublisher {
      * This allows listeners to track changes in leader information, such as when
      * a different instance becomes the leader or when the leader's metadata changes.
      * </p>
+     * <p>
+     * Nothing is published if the key has the same {@code ModifyIndex}, or the same value, as the last
+     * published one.
+     * </p>
      *
+     * @param modifyIndex  the {@code ModifyIndex} of the leadership key, or {@code null} if unknown
      * @param encodedValue the base64-encoded leadership information from Consul
      */
-    public void publishLeadershipDetailsChange(final String encodedValue) {
+    public void publishLeadershipDetailsChange(@Nullable final Integer modifyIndex, final String encodedValue) {
         if (encodedValue == null || encodedValue.isBlank()) {
             log.warn("Received null or empty encoded value, skipping event publishing");
             return;
         }
 
+        val published = publishedRef.get();
+        if (published != null && published.isSame(modifyIndex, encodedValue)) {
+            log.trace("[{}] Leadership details unchanged, skipping event publishing", election.name());
+            return;
+        }
+
         try {
-            val decodedValue = new String(base64Decoder.decode(encodedValue));
-            val leadershipInfo = leadershipDetailsProvider.convertValue(decodedValue);
-            leadershipDetailsChangeEventPublisher.publishEvent(new LeadershipDetailsChangeEvent(leadershipInfo));
+            final LeadershipDetailsChangeEvent<?> event = new LeadershipDetailsChangeEvent<>(election.name(),
+                    leadershipDetailsProvider.decodeValue(encodedValue));
+            leadershipStatus.onLeadershipInfoChanged(event);
+            leadershipEventsDispatcher.dispatch(event);
+            publishedRef.set(new PublishedDetails(modifyIndex, encodedValue));
         } catch (final IllegalArgumentException e) {
             log.error("Failed to decode base64 value: {}", encodedValue, e);
         } catch (final Exception e) {
             log.error("Failed to process leadership details change", e);
         }
     }
+
+    private record PublishedDetails(@Nullable Integer modifyIndex, String encodedValue) {
+
+        boolean isSame(@Nullable final Integer otherModifyIndex, final String otherEncodedValue) {
+            if (modifyIndex != null && modifyIndex.equals(otherModifyIndex)) {
+                // the key has not been modified since
+                return true;
+            }
+            // modified, e.g. re-acquired, but maybe with the same value
+            return encodedValue.equals(otherEncodedValue);
+        }
+    }
 }
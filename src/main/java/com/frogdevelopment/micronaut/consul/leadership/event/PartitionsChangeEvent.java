@@ -0,0 +1,29 @@
+package com.frogdevelopment.micronaut.consul.leadership.event;
+
+import java.util.Set;
+
+/**
+ * Event published when the partitions owned by this instance change.
+ * <p>
+ * This event is fired by the partition ownership mode after each rebalancing that changed
+ * the partitions owned by this instance. Applications can listen for this event to start the work
+ * of the newly acquired partitions and stop the work of the released ones.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * @EventListener
+ * void onPartitionsChange(PartitionsChangeEvent event) {
+ *     event.released().forEach(this::stopWorker);
+ *     event.acquired().forEach(this::startWorker);
+ * }
+ * }</pre>
+ *
+ * @param acquired the partitions acquired by this instance since the previous rebalancing
+ * @param released the partitions released by this instance, or lost with its session, since the previous rebalancing
+ * @param owned    all the partitions owned by this instance after the rebalancing
+ * @since 1.0.0
+ */
+public record PartitionsChangeEvent(Set<Integer> acquired, Set<Integer> released, Set<Integer> owned) {
+}
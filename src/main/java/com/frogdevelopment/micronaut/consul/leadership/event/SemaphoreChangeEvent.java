@@ -0,0 +1,23 @@
+package com.frogdevelopment.micronaut.consul.leadership.event;
+
+/**
+ * Event published when this instance acquires or loses a permit of a named semaphore.
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * @EventListener
+ * void onSemaphoreChange(SemaphoreChangeEvent event) {
+ *     if ("quota-pullers".equals(event.semaphoreName()) && event.holdsPermit()) {
+ *         // This instance is allowed to pull
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param semaphoreName the name of the semaphore
+ * @param holdsPermit   {@code true} if this instance has acquired a permit,
+ *                      {@code false} if this instance has lost its permit
+ * @since 1.0.0
+ */
+public record SemaphoreChangeEvent(String semaphoreName, boolean holdsPermit) {
+}
@@ -0,0 +1,18 @@
+package com.frogdevelopment.micronaut.consul.leadership.event;
+
+/**
+ * Event published when the lease of the Consul session of this instance is about to expire, or is restored.
+ * <p>
+ * The lease is extended by each successful session renewal. When the session has not been renewed in time,
+ * its locks may be released by Consul at any moment: the elections led by this instance step down,
+ * publishing a {@link LeadershipChangeEvent} with {@code isLeader=false}, so that two instances never do the
+ * leader work at the same time. If a later renewal succeeds, the session and its locks are still valid,
+ * and the elections publish their leadership again.
+ * </p>
+ *
+ * @param sessionId the ID of the session
+ * @param valid     {@code false} if the lease is about to expire, {@code true} if it has been restored
+ * @since 1.0.0
+ */
+public record SessionLeaseEvent(String sessionId, boolean valid) {
+}
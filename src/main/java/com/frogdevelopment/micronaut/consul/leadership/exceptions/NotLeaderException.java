@@ -0,0 +1,28 @@
+package com.frogdevelopment.micronaut.consul.leadership.exceptions;
+
+/**
+ * Exception thrown when a method restricted to the leader is invoked on a follower.
+ *
+ * @since 1.0.0
+ */
+public class NotLeaderException extends RuntimeException {
+
+    private final String electionName;
+
+    /**
+     * Constructs a new exception for the given election.
+     *
+     * @param electionName the name of the election this instance is not the leader of
+     */
+    public NotLeaderException(final String electionName) {
+        super("This instance is not the leader of election=" + electionName);
+        this.electionName = electionName;
+    }
+
+    /**
+     * @return the name of the election this instance is not the leader of
+     */
+    public String getElectionName() {
+        return electionName;
+    }
+}
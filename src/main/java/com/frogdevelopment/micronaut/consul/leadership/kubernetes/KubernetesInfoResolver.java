@@ -15,6 +15,7 @@ import io.micronaut.kubernetes.client.openapi.resolver.PodNameResolver;
 
 @Singleton
 @Requires(env = Environment.KUBERNETES)
+@Requires(classes = {PodNameResolver.class, NamespaceResolver.class, KubeConfig.class})
 @RequiredArgsConstructor
 public class KubernetesInfoResolver {
 
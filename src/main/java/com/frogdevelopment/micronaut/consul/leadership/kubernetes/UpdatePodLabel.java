@@ -23,6 +23,7 @@ import io.micronaut.kubernetes.client.openapi.api.CoreV1Api;
 @Slf4j
 @Singleton
 @Requires(env = Environment.KUBERNETES)
+@Requires(classes = CoreV1Api.class)
 @Requires(property = LeadershipPodLabelConfiguration.PREFIX + ".enabled",
           notEquals = StringUtils.FALSE,
           defaultValue = StringUtils.TRUE)
@@ -0,0 +1,342 @@
+package com.frogdevelopment.micronaut.consul.leadership.partition;
+
+import static java.time.Duration.ZERO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Singleton;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+import com.frogdevelopment.micronaut.consul.leadership.election.LeaderElectionOrchestrator;
+import com.frogdevelopment.micronaut.consul.leadership.event.PartitionsChangeEvent;
+import com.frogdevelopment.micronaut.consul.leadership.session.SessionHandler;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Blocking;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.scheduling.TaskScheduler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Partition ownership mode: spreads N partitions among all the live instances, each partition being owned
+ * by exactly one instance through a Consul KV lock.
+ * <p>
+ * The Consul KV layout under {@code <path>/partitions} is:
+ * </p>
+ * <ul>
+ *   <li>{@code members/<session>} - one key per live instance, locked by its session</li>
+ *   <li>{@code <id>} - one key per partition, locked by the session of its owner</li>
+ * </ul>
+ * <p>
+ * At each rebalancing, the instance registers itself as member, then computes its fair share
+ * ({@code ceil(partitions / live members)}): free partitions are acquired up to the fair share, while
+ * the partitions above it are released so that newly joined instances can acquire them. The locks use the
+ * session shared with the elections, so all the partitions of an instance are released if it dies.
+ * </p>
+ * <p>
+ * The timeout applies to each Consul request rather than to the whole round, whose length grows with the number of
+ * partitions: a partition failing to be acquired or released is retried at the next round, while the ones already
+ * acquired or released are recorded and published.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = LeadershipConfiguration.PREFIX + ".partitions.enabled", value = StringUtils.TRUE)
+public class PartitionOrchestrator implements LeaderElectionOrchestrator, PartitionOwnership {
+
+    static final String SESSION_HOLDER = "partitions";
+    private static final String MEMBERS = "members/";
+
+    private final ConsulLeadershipClient client;
+    private final ConsulWatchClient watchClient;
+    private final LeadershipConfiguration configuration;
+    private final SessionHandler sessionHandler;
+    private final LeadershipDetailsProvider<?> leadershipDetailsProvider;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher<PartitionsChangeEvent> partitionsChangeEventPublisher;
+
+    private final AtomicReference<Set<Integer>> ownedRef = new AtomicReference<>(Set.of());
+    private final AtomicReference<ScheduledFuture<?>> scheduleRef = new AtomicReference<>();
+    private final AtomicBoolean rebalancingRef = new AtomicBoolean(false);
+
+    @Override
+    public Set<Integer> getOwnedPartitions() {
+        return ownedRef.get();
+    }
+
+    @Override
+    public void start() {
+        val rebalanceDelay = configuration.getPartitions().getRebalanceDelay();
+        log.debug("Starting partition ownership with {} partitions, rebalancing every {}", partitionCount(), rebalanceDelay);
+        val scheduledFuture = taskScheduler.scheduleWithFixedDelay(ZERO, rebalanceDelay, this::onRebalance);
+        scheduleRef.set(scheduledFuture);
+    }
+
+    private void onRebalance() {
+        // skip the round if the previous one is still running
+        if (rebalancingRef.compareAndSet(false, true)) {
+            rebalance()
+                    .doFinally(ignored -> rebalancingRef.set(false))
+                    .subscribeOn(Schedulers.immediate())
+                    .subscribe();
+        }
+    }
+
+    // @VisibleForTesting
+    Mono<Void> rebalance() {
+        return sessionHandler.createNewSession(SESSION_HOLDER)
+                .timeout(requestTimeout())
+                .flatMap(sessionId -> registerMember(sessionId)
+                        .then(Mono.defer(this::readPartitions))
+                        .flatMap(state -> balance(sessionId, state)))
+                .onErrorResume(error -> {
+                    log.error("Partitions rebalancing failed", error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> registerMember(final String sessionId) {
+        return Mono.fromCallable(() -> leadershipDetailsProvider.getLeadershipInfo(true))
+                .flatMap(details -> client.acquireLeadership(memberKey(sessionId), details, sessionId)
+                        .timeout(requestTimeout()))
+                // the member key is locked by the session: keep it alive
+                .then(Mono.defer(() -> sessionHandler.scheduleSessionRenewal(SESSION_HOLDER)));
+    }
+
+    private Mono<PartitionsState> readPartitions() {
+        val consistency = configuration.getConsistency().getWatch();
+        return watchClient.watchLeadershipPrefix(partitionsPath(), true, null, null, consistency.stale(), consistency.consistent())
+                .timeout(requestTimeout())
+                .map(response -> response.getBody().orElseGet(List::of))
+                .onErrorResume(HttpClientResponseException.class, exception -> exception.getStatus() == HttpStatus.NOT_FOUND
+                        ? Mono.just(List.of())
+                        : Mono.error(exception))
+                .map(this::toPartitionsState);
+    }
+
+    private PartitionsState toPartitionsState(final List<KeyValue> keyValues) {
+        val prefix = partitionsPath() + "/";
+        final Set<String> liveMembers = new HashSet<>();
+        final List<KeyValue> staleMembers = new ArrayList<>();
+        final Map<Integer, String> owners = new HashMap<>();
+        for (val keyValue : keyValues) {
+            if (!keyValue.getKey().startsWith(prefix)) {
+                continue;
+            }
+            val name = keyValue.getKey().substring(prefix.length());
+            if (name.startsWith(MEMBERS)) {
+                if (keyValue.getSession() != null) {
+                    liveMembers.add(keyValue.getSession());
+                } else {
+                    staleMembers.add(keyValue);
+                }
+            } else if (keyValue.getSession() != null) {
+                toPartition(name).ifPresent(partition -> owners.put(partition, keyValue.getSession()));
+            }
+        }
+        return new PartitionsState(liveMembers, staleMembers, owners);
+    }
+
+    private OptionalInt toPartition(final String name) {
+        try {
+            val partition = Integer.parseInt(name);
+            return partition >= 0 && partition < partitionCount() ? OptionalInt.of(partition) : OptionalInt.empty();
+        } catch (final NumberFormatException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    private Mono<Void> balance(final String sessionId, final PartitionsState state) {
+        val owned = state.owners().entrySet().stream()
+                .filter(entry -> sessionId.equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+        // this instance is a live member, even if its registration is not visible yet
+        val members = Math.max(1, state.liveMembers().size() + (state.liveMembers().contains(sessionId) ? 0 : 1));
+        val fairShare = fairShare(partitionCount(), members);
+        log.debug("Owning {} partitions, fair share is {} for {} live members", owned.size(), fairShare, members);
+
+        final Mono<Set<Integer>> acquired;
+        final Mono<Set<Integer>> released;
+        if (owned.size() > fairShare) {
+            acquired = Mono.just(Set.of());
+            released = release(sessionId, surplus(owned, owned.size() - fairShare));
+        } else if (owned.size() < fairShare) {
+            acquired = acquire(sessionId, freePartitions(state), fairShare - owned.size());
+            released = Mono.just(Set.of());
+        } else {
+            acquired = Mono.just(Set.of());
+            released = Mono.just(Set.of());
+        }
+
+        return Mono.zip(acquired, released)
+                .doOnNext(result -> {
+                    owned.addAll(result.getT1());
+                    owned.removeAll(result.getT2());
+                    updateOwnedPartitions(owned);
+                })
+                .then(Mono.defer(() -> deleteStaleMembers(state.staleMembers())));
+    }
+
+    /**
+     * Computes the number of partitions each live member should own.
+     *
+     * @param partitions the number of partitions
+     * @param members    the number of live members
+     * @return the fair share, rounded up so that all the partitions can be owned
+     */
+    static int fairShare(final int partitions, final int members) {
+        return (partitions + members - 1) / members;
+    }
+
+    private static Set<Integer> surplus(final Set<Integer> owned, final int count) {
+        val shuffled = new ArrayList<>(owned);
+        Collections.shuffle(shuffled);
+        return Set.copyOf(shuffled.subList(0, count));
+    }
+
+    private List<Integer> freePartitions(final PartitionsState state) {
+        // shuffled to limit the contention between instances acquiring at the same time
+        val free = IntStream.range(0, partitionCount())
+                .filter(partition -> !state.owners().containsKey(partition))
+                .boxed()
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(free);
+        return free;
+    }
+
+    private Mono<Set<Integer>> acquire(final String sessionId, final List<Integer> freePartitions, final int count) {
+        return Mono.fromCallable(() -> leadershipDetailsProvider.getLeadershipInfo(true))
+                .flatMapMany(details -> Flux.fromIterable(freePartitions)
+                        .concatMap(partition -> client.acquireLeadership(partitionKey(partition), details, sessionId)
+                                .timeout(requestTimeout())
+                                .filter(Boolean.TRUE::equals)
+                                .map(ignored -> partition)
+                                .onErrorResume(error -> {
+                                    log.warn("Failed to acquire partition {}", partition, error);
+                                    return Mono.empty();
+                                }))
+                        .take(count))
+                .collect(Collectors.toSet());
+    }
+
+    private Mono<Set<Integer>> release(final String sessionId, final Set<Integer> partitions) {
+        return Mono.fromCallable(() -> leadershipDetailsProvider.getLeadershipInfo(false))
+                .flatMapMany(details -> Flux.fromIterable(partitions)
+                        .concatMap(partition -> client.releaseLeadership(partitionKey(partition), details, sessionId)
+                                .timeout(requestTimeout())
+                                .thenReturn(partition)
+                                .onErrorResume(error -> {
+                                    log.warn("Failed to release partition {}", partition, error);
+                                    return Mono.empty();
+                                })))
+                .collect(Collectors.toSet());
+    }
+
+    private void updateOwnedPartitions(final Set<Integer> owned) {
+        val previous = ownedRef.getAndSet(Set.copyOf(owned));
+
+        // compared with the previous round, as partitions may also have been lost with the session
+        final Set<Integer> lost = new HashSet<>(previous);
+        lost.removeAll(owned);
+        final Set<Integer> gained = new HashSet<>(owned);
+        gained.removeAll(previous);
+
+        if (!lost.isEmpty() || !gained.isEmpty()) {
+            log.info("Partitions ownership changed: acquired={}, released={}, owning {} partitions", gained, lost, owned.size());
+            partitionsChangeEventPublisher.publishEvent(new PartitionsChangeEvent(Set.copyOf(gained), Set.copyOf(lost), ownedRef.get()));
+        }
+    }
+
+    private Mono<Void> deleteStaleMembers(final List<KeyValue> staleMembers) {
+        // members whose session is gone: compare-and-set, in case the key was re-acquired meanwhile
+        return Flux.fromIterable(staleMembers)
+                .concatMap(member -> client.deleteKey(member.getKey(), member.getModifyIndex())
+                        .timeout(requestTimeout())
+                        .onErrorResume(error -> Mono.empty()))
+                .then();
+    }
+
+    @Blocking
+    @Override
+    public void stop() {
+        log.info("Stopping partition ownership");
+        val scheduledFuture = scheduleRef.getAndSet(null);
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(true);
+        }
+
+        sessionHandler.cancelSessionRenewal(SESSION_HOLDER)
+                .flatMap(sessionId -> release(sessionId, ownedRef.get())
+                        .doOnNext(ignored -> updateOwnedPartitions(Set.of()))
+                        .then(Mono.defer(() -> client.deleteKey(memberKey(sessionId), null).timeout(requestTimeout()))))
+                .then(Mono.defer(() -> sessionHandler.destroySession(SESSION_HOLDER).timeout(requestTimeout())))
+                .onErrorResume(throwable -> {
+                    log.error("Error during partition ownership shutdown", throwable);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    private Duration requestTimeout() {
+        return Duration.ofMillis(configuration.getElection().getTimeoutMs());
+    }
+
+    private int partitionCount() {
+        return configuration.getPartitions().getCount();
+    }
+
+    private String partitionsPath() {
+        return configuration.getPath() + "/partitions";
+    }
+
+    private String partitionKey(final int partition) {
+        return partitionsPath() + "/" + partition;
+    }
+
+    private String memberKey(final String sessionId) {
+        return partitionsPath() + "/" + MEMBERS + sessionId;
+    }
+
+    // @VisibleForTesting
+    void setOwnedPartitions(final Set<Integer> owned) {
+        ownedRef.set(owned);
+    }
+
+    // @VisibleForTesting
+    ScheduledFuture<?> getScheduledFuture() {
+        return scheduleRef.get();
+    }
+
+    private record PartitionsState(Set<String> liveMembers, List<KeyValue> staleMembers, Map<Integer, String> owners) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.frogdevelopment.micronaut.consul.leadership.partition;
+
+import java.util.Set;
+
+/**
+ * Provides the partitions currently owned by this instance when the partition ownership mode is enabled.
+ * <p>
+ * Each partition is owned by at most one instance at a time, so that the work of a partition can be
+ * executed by its owner only, spreading the leader-only work among all the instances.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public interface PartitionOwnership {
+
+    /**
+     * @return the identifiers of the partitions owned by this instance
+     */
+    Set<Integer> getOwnedPartitions();
+
+    /**
+     * @param partition the identifier of the partition
+     * @return {@code true} if this instance currently owns the partition
+     */
+    default boolean isOwner(final int partition) {
+        return getOwnedPartitions().contains(partition);
+    }
+}
@@ -0,0 +1,22 @@
+package com.frogdevelopment.micronaut.consul.leadership.semaphore;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Content of the {@code .lock} key of a semaphore, listing the sessions holding a permit.
+ * <p>
+ * The key is always updated with a check-and-set, so that concurrent instances cannot exceed the limit.
+ * </p>
+ *
+ * @param limit   the maximum number of holders
+ * @param holders the sessions holding a permit
+ * @since 1.0.0
+ */
+@Serdeable
+public record SemaphoreLock(@JsonProperty("Limit") int limit,
+                            @JsonProperty("Holders") List<String> holders) {
+}
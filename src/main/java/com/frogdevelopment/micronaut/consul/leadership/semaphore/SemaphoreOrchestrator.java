@@ -0,0 +1,347 @@
+package com.frogdevelopment.micronaut.consul.leadership.semaphore;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.NamedSemaphoreConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+import com.frogdevelopment.micronaut.consul.leadership.election.LeaderElectionOrchestrator;
+import com.frogdevelopment.micronaut.consul.leadership.event.SemaphoreChangeEvent;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
+import com.frogdevelopment.micronaut.consul.leadership.session.SessionHandler;
+
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.core.annotation.Blocking;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.client.exceptions.ReadTimeoutException;
+import io.micronaut.serde.ObjectMapper;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Semaphore mode: allows up to {@link NamedSemaphoreConfiguration#getLimit() limit} instances to hold a permit
+ * at the same time, following Consul's semaphore recipe.
+ * <p>
+ * The Consul KV layout under the semaphore prefix is:
+ * </p>
+ * <ul>
+ *   <li>{@code <session>} - one contender key per instance, locked by its session</li>
+ *   <li>{@code .lock} - the {@link SemaphoreLock} listing the sessions holding a permit, updated with check-and-set</li>
+ * </ul>
+ * <p>
+ * At each round, the holders whose contender key is not locked anymore are pruned, and this instance adds
+ * itself to the holders if the limit is not reached. The prefix is then watched with a blocking query until
+ * the next change. The session is the one shared with the elections, renewed as long as the instance contends.
+ * </p>
+ *
+ * @see <a href="https://developer.hashicorp.com/consul/docs/automate/semaphore">Consul - Semaphore</a>
+ * @since 1.0.0
+ */
+@Slf4j
+@EachBean(NamedSemaphoreConfiguration.class)
+public class SemaphoreOrchestrator implements LeaderElectionOrchestrator, SemaphoreStatus {
+
+    static final String LOCK_KEY = ".lock";
+
+    private final NamedSemaphoreConfiguration semaphore;
+    private final ConsulLeadershipClient client;
+    private final ConsulWatchClient watchClient;
+    private final LeadershipConfiguration configuration;
+    private final SessionHandler sessionHandler;
+    private final LeadershipDetailsProvider<?> leadershipDetailsProvider;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher<SemaphoreChangeEvent> semaphoreChangeEventPublisher;
+
+    private final String path;
+    private final String wait;
+    private final Duration rateLimitDelay;
+    private final ConsistencyMode consistency;
+    private final Base64.Decoder base64Decoder = Base64.getDecoder();
+
+    private final AtomicReference<String> contenderSessionRef = new AtomicReference<>();
+    private final AtomicReference<Long> indexRef = new AtomicReference<>();
+    private final AtomicReference<Disposable> loopRef = new AtomicReference<>();
+    private final AtomicBoolean permitRef = new AtomicBoolean(false);
+    private final AtomicBoolean closingRef = new AtomicBoolean(false);
+
+    public SemaphoreOrchestrator(final NamedSemaphoreConfiguration semaphore,
+                                 final ConsulLeadershipClient client,
+                                 final ConsulWatchClient watchClient,
+                                 final LeadershipConfiguration configuration,
+                                 final SessionHandler sessionHandler,
+                                 final LeadershipDetailsProvider<?> leadershipDetailsProvider,
+                                 final ObjectMapper objectMapper,
+                                 final BlockingQueryPolicy blockingQueryPolicy,
+                                 final ApplicationEventPublisher<SemaphoreChangeEvent> semaphoreChangeEventPublisher) {
+        this.semaphore = semaphore;
+        this.client = client;
+        this.watchClient = watchClient;
+        this.configuration = configuration;
+        this.sessionHandler = sessionHandler;
+        this.leadershipDetailsProvider = leadershipDetailsProvider;
+        this.objectMapper = objectMapper;
+        this.semaphoreChangeEventPublisher = semaphoreChangeEventPublisher;
+        this.path = Optional.ofNullable(semaphore.getPath())
+                .orElseGet(() -> configuration.getPath() + "/semaphores/" + semaphore.getName());
+        this.wait = blockingQueryPolicy.getWait();
+        this.rateLimitDelay = blockingQueryPolicy.getRateLimitDelay();
+        this.consistency = blockingQueryPolicy.getConsistency();
+    }
+
+    @Override
+    public boolean holdsPermit() {
+        return permitRef.get();
+    }
+
+    @Override
+    public void start() {
+        log.debug("[{}] Starting semaphore with limit={}", semaphore.getName(), semaphore.getLimit());
+        closingRef.set(false);
+        indexRef.set(null);
+
+        val electionConfiguration = configuration.getElection();
+        val disposable = Mono.defer(this::round)
+                .repeat(() -> !closingRef.get())
+                .retryWhen(Retry.backoff(electionConfiguration.getMaxRetryAttempts(), Duration.ofMillis(electionConfiguration.getRetryDelayMs()))
+                        .filter(throwable -> !(throwable instanceof NonRecoverableElectionException))
+                        .doBeforeRetry(signal -> log.warn("[{}] Semaphore round failed, retrying ({})", semaphore.getName(), signal.totalRetriesInARow() + 1, signal.failure()))
+                        // the retries count is reset after each successful round
+                        .transientErrors(true))
+                .subscribe(ignored -> {
+                }, throwable -> {
+                    log.error("[{}] Semaphore failed, stopping participation", semaphore.getName(), throwable);
+                    onPermitChanged(false);
+                });
+        loopRef.set(disposable);
+    }
+
+    // @VisibleForTesting
+    // one round: ensures the contender key, waits for the next change of the semaphore then evaluates the holders
+    Mono<Boolean> round() {
+        return sessionHandler.createNewSession(sessionHolder())
+                .flatMap(sessionId -> registerContender(sessionId)
+                        .then(Mono.defer(() -> readSemaphore(indexRef.get())))
+                        .flatMap(state -> evaluate(sessionId, state)))
+                .onErrorResume(ReadTimeoutException.class, ignored -> {
+                    log.debug("[{}] Semaphore watch timeout, renewing watcher", semaphore.getName());
+                    return Mono.just(permitRef.get());
+                });
+    }
+
+    private Mono<Void> registerContender(final String sessionId) {
+        val previousSession = contenderSessionRef.get();
+        if (sessionId.equals(previousSession)) {
+            return Mono.empty();
+        }
+
+        log.debug("[{}] Registering contender with session={}", semaphore.getName(), sessionId);
+        // a new session means that the previous one, and so its contender key, is gone
+        val cleanPrevious = previousSession == null
+                ? Mono.<Boolean>empty()
+                : client.deleteKey(contenderKey(previousSession), null).onErrorResume(error -> Mono.empty());
+        return cleanPrevious
+                .then(Mono.fromCallable(() -> leadershipDetailsProvider.getLeadershipInfo(true)))
+                .flatMap(details -> client.acquireLeadership(contenderKey(sessionId), details, sessionId))
+                .flatMap(acquired -> Boolean.TRUE.equals(acquired)
+                        ? sessionHandler.scheduleSessionRenewal(sessionHolder())
+                        : Mono.error(new IllegalStateException("Unable to lock the contender key of session " + sessionId)))
+                .doOnSuccess(ignored -> {
+                    contenderSessionRef.set(sessionId);
+                    indexRef.set(null);
+                });
+    }
+
+    private Mono<SemaphoreState> readSemaphore(@Nullable final Long index) {
+        return watchClient.watchLeadershipPrefix(path, true, index, wait, consistency.stale(), consistency.consistent())
+                .map(response -> {
+                    val keyValues = response.getBody().orElseGet(List::of);
+                    return toSemaphoreState(ConsulIndex.of(response, keyValues), keyValues);
+                })
+                .onErrorResume(HttpClientResponseException.class, exception -> exception.getStatus() == HttpStatus.NOT_FOUND
+                        ? Mono.just(toSemaphoreState(ConsulIndex.of(exception.getResponse(), List.of()), List.of()))
+                        : Mono.error(exception));
+    }
+
+    private SemaphoreState toSemaphoreState(final long index, final List<KeyValue> keyValues) {
+        val lockKey = path + "/" + LOCK_KEY;
+        final Set<String> liveContenders = new HashSet<>();
+        final List<KeyValue> staleContenders = new ArrayList<>();
+        KeyValue lock = null;
+        for (val keyValue : keyValues) {
+            if (lockKey.equals(keyValue.getKey())) {
+                lock = keyValue;
+            } else if (keyValue.getSession() != null) {
+                liveContenders.add(keyValue.getSession());
+            } else {
+                staleContenders.add(keyValue);
+            }
+        }
+        return new SemaphoreState(index, liveContenders, staleContenders, lock);
+    }
+
+    private Mono<Boolean> evaluate(final String sessionId, final SemaphoreState state) {
+        val limit = semaphore.getLimit();
+        val currentLock = decodeLock(state.lock());
+        if (currentLock.limit() != limit) {
+            log.warn("[{}] Semaphore limit={} differs from the one stored in Consul={}, all the instances must use the same limit",
+                    semaphore.getName(), limit, currentLock.limit());
+        }
+
+        // holders without a live contender key have lost their session
+        val holders = currentLock.holders().stream()
+                .filter(state.liveContenders()::contains)
+                .toList();
+
+        val previousIndex = indexRef.get();
+        val nextIndex = ConsulIndex.next(previousIndex == null ? 0 : previousIndex, state.index());
+        indexRef.set(nextIndex);
+        val unchanged = previousIndex != null && previousIndex == nextIndex;
+
+        final Mono<Boolean> permit;
+        if (holders.contains(sessionId)) {
+            permit = Mono.just(true);
+        } else if (holders.size() < limit) {
+            final List<String> newHolders = new ArrayList<>(holders);
+            newHolders.add(sessionId);
+            final Integer modifyIndex = state.lock() == null ? Integer.valueOf(0) : state.lock().getModifyIndex();
+            permit = client.compareAndSet(lockKey(), new SemaphoreLock(limit, newHolders), modifyIndex)
+                    .defaultIfEmpty(false)
+                    .doOnNext(acquired -> {
+                        if (!Boolean.TRUE.equals(acquired)) {
+                            log.debug("[{}] Semaphore lock modified concurrently, retrying", semaphore.getName());
+                            // read again without waiting for the next change
+                            indexRef.set(null);
+                        }
+                    });
+        } else {
+            permit = Mono.just(false);
+        }
+
+        val evaluation = permit
+                .doOnNext(this::onPermitChanged)
+                .flatMap(holdsPermit -> deleteStaleContenders(state.staleContenders()).thenReturn(holdsPermit));
+        // the wait elapsed without change: rate limited in case Consul answers without blocking
+        return unchanged ? evaluation.delayElement(rateLimitDelay) : evaluation;
+    }
+
+    private SemaphoreLock decodeLock(@Nullable final KeyValue lock) {
+        if (lock == null || lock.getValue() == null || lock.getValue().isBlank()) {
+            return new SemaphoreLock(semaphore.getLimit(), List.of());
+        }
+        try {
+            val decoded = new String(base64Decoder.decode(lock.getValue()), StandardCharsets.UTF_8);
+            val semaphoreLock = objectMapper.readValue(decoded, SemaphoreLock.class);
+            return semaphoreLock.holders() == null ? new SemaphoreLock(semaphoreLock.limit(), List.of()) : semaphoreLock;
+        } catch (final Exception e) {
+            throw new NonRecoverableElectionException("Unable to read the semaphore lock " + lock.getKey(), e);
+        }
+    }
+
+    private Mono<Void> deleteStaleContenders(final List<KeyValue> staleContenders) {
+        // compare-and-set, in case the key was re-acquired meanwhile
+        return Flux.fromIterable(staleContenders)
+                .concatMap(contender -> client.deleteKey(contender.getKey(), contender.getModifyIndex())
+                        .onErrorResume(error -> Mono.empty()))
+                .then();
+    }
+
+    private void onPermitChanged(final boolean holdsPermit) {
+        if (permitRef.getAndSet(holdsPermit) != holdsPermit) {
+            log.info("[{}] Semaphore permit {}", semaphore.getName(), holdsPermit ? "acquired" : "lost");
+            semaphoreChangeEventPublisher.publishEvent(new SemaphoreChangeEvent(semaphore.getName(), holdsPermit));
+        }
+    }
+
+    @Blocking
+    @Override
+    public void stop() {
+        log.info("[{}] Stopping semaphore", semaphore.getName());
+        closingRef.set(true);
+        val loop = loopRef.getAndSet(null);
+        if (loop != null && !loop.isDisposed()) {
+            loop.dispose();
+        }
+
+        Mono.justOrEmpty(contenderSessionRef.getAndSet(null))
+                .flatMap(sessionId -> releasePermit(sessionId)
+                        .then(client.deleteKey(contenderKey(sessionId), null)))
+                .then(Mono.defer(() -> sessionHandler.cancelSessionRenewal(sessionHolder())))
+                .then(Mono.defer(() -> sessionHandler.destroySession(sessionHolder())))
+                .timeout(Duration.ofMillis(configuration.getElection().getTimeoutMs()))
+                .onErrorResume(throwable -> {
+                    log.error("[{}] Error during semaphore shutdown", semaphore.getName(), throwable);
+                    return Mono.empty();
+                })
+                .doFinally(ignored -> onPermitChanged(false))
+                .block();
+    }
+
+    private Mono<Boolean> releasePermit(final String sessionId) {
+        return readSemaphore(null)
+                .filter(state -> state.lock() != null)
+                .flatMap(state -> {
+                    val currentLock = decodeLock(state.lock());
+                    if (!currentLock.holders().contains(sessionId)) {
+                        return Mono.just(false);
+                    }
+                    val holders = currentLock.holders().stream()
+                            .filter(holder -> !holder.equals(sessionId))
+                            .toList();
+                    // best effort: if the lock is modified concurrently, the holder is pruned once the contender key is deleted
+                    return client.compareAndSet(lockKey(), new SemaphoreLock(currentLock.limit(), holders), state.lock().getModifyIndex());
+                });
+    }
+
+    private String sessionHolder() {
+        return "semaphore-" + semaphore.getName();
+    }
+
+    private String lockKey() {
+        return path + "/" + LOCK_KEY;
+    }
+
+    private String contenderKey(final String sessionId) {
+        return path + "/" + sessionId;
+    }
+
+    // @VisibleForTesting
+    Long getIndex() {
+        return indexRef.get();
+    }
+
+    // @VisibleForTesting
+    void setIndex(final Long index) {
+        indexRef.set(index);
+    }
+
+    // @VisibleForTesting
+    void setContenderSession(final String sessionId) {
+        contenderSessionRef.set(sessionId);
+    }
+
+    private record SemaphoreState(long index, Set<String> liveContenders, List<KeyValue> staleContenders, @Nullable KeyValue lock) {
+    }
+}
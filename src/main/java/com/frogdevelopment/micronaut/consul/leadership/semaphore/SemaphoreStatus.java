@@ -0,0 +1,25 @@
+package com.frogdevelopment.micronaut.consul.leadership.semaphore;
+
+/**
+ * Provides the status of this instance in a named semaphore.
+ * <p>
+ * Where {@link com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus} tells whether this
+ * instance is the single leader, a semaphore allows up to a configured number of instances to hold a permit
+ * at the same time. Inject it using the name of the semaphore as qualifier:
+ * </p>
+ * <pre>{@code
+ * @Inject
+ * @Named("quota-pullers")
+ * private SemaphoreStatus semaphoreStatus;
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public interface SemaphoreStatus {
+
+    /**
+     * @return {@code true} if this instance currently holds a permit of the semaphore
+     */
+    boolean holdsPermit();
+
+}
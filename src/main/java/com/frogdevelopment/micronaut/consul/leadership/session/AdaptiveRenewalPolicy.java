@@ -0,0 +1,127 @@
+package com.frogdevelopment.micronaut.consul.leadership.session;
+
+import lombok.val;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Computes the delay before the next session renewal, from the TTL returned by Consul and the observed
+ * round-trip latencies of the renewals.
+ * <p>
+ * The session is renewed before its TTL elapses, keeping a margin of a quarter of the TTL, or of 3 times the
+ * p99 latency of the last {@value #SAMPLES} renewals when Consul is slow. A healthy Consul, or a TTL raised by
+ * Consul, therefore leads to fewer renewals, while a slow Consul leads to earlier ones.
+ * </p>
+ */
+final class AdaptiveRenewalPolicy {
+
+    static final int SAMPLES = 64;
+
+    private static final Pattern DURATION = Pattern.compile("((\\d+(\\.\\d+)?)(ns|us|µs|ms|s|m|h))+");
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ns|us|µs|ms|s|m|h)");
+    private static final Map<String, Long> UNIT_NANOS = Map.of(
+            "ns", 1L,
+            "us", 1_000L,
+            "µs", 1_000L,
+            "ms", 1_000_000L,
+            "s", 1_000_000_000L,
+            "m", 60_000_000_000L,
+            "h", 3_600_000_000_000L);
+
+    // guarded by this
+    private final long[] latencies = new long[SAMPLES];
+    // guarded by this
+    private int count;
+    // guarded by this
+    private int next;
+    // guarded by this
+    private Duration returnedTtl;
+
+    /**
+     * Records a successful renewal.
+     *
+     * @param ttl     the TTL returned by Consul, or {@code null} if none
+     * @param latency the round-trip latency of the renewal
+     */
+    synchronized void onRenewed(@Nullable final Duration ttl, final Duration latency) {
+        if (ttl != null) {
+            returnedTtl = ttl;
+        }
+        record(latency);
+    }
+
+    /**
+     * Records a failed renewal.
+     *
+     * @param latency the time spent until the failure
+     */
+    synchronized void onFailed(final Duration latency) {
+        record(latency);
+    }
+
+    private void record(final Duration latency) {
+        latencies[next] = latency.toNanos();
+        next = (next + 1) % SAMPLES;
+        count = Math.min(count + 1, SAMPLES);
+    }
+
+    /**
+     * @return the last TTL returned by Consul, or {@code null} if none yet
+     */
+    @Nullable
+    synchronized Duration getReturnedTtl() {
+        return returnedTtl;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 1
+     * @return the latency of the last renewals at the given percentile, {@link Duration#ZERO} if none yet
+     */
+    synchronized Duration latency(final double percentile) {
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        val sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        val index = (int) Math.ceil(percentile * count) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, index)]);
+    }
+
+    /**
+     * @param ttl the TTL of the session
+     * @return the delay before the next renewal
+     */
+    Duration nextDelay(final Duration ttl) {
+        val quarter = ttl.dividedBy(4);
+        val slowMargin = latency(0.99).multipliedBy(3);
+        val delay = ttl.minus(slowMargin.compareTo(quarter) > 0 ? slowMargin : quarter);
+        // a very slow Consul must not lead to renewing continuously
+        val minDelay = ttl.dividedBy(10);
+        return delay.compareTo(minDelay) < 0 ? minDelay : delay;
+    }
+
+    /**
+     * Parses a TTL as formatted by Consul, e.g. {@code 15s} or {@code 1m30s}.
+     *
+     * @param ttl the TTL to parse
+     * @return the parsed TTL, or {@code null} if blank or invalid
+     */
+    @Nullable
+    static Duration parseTtl(@Nullable final String ttl) {
+        if (ttl == null || !DURATION.matcher(ttl).matches()) {
+            return null;
+        }
+        var nanos = BigDecimal.ZERO;
+        val matcher = DURATION_PART.matcher(ttl);
+        while (matcher.find()) {
+            nanos = nanos.add(new BigDecimal(matcher.group(1)).multiply(BigDecimal.valueOf(UNIT_NANOS.get(matcher.group(2)))));
+        }
+        return Duration.ofNanos(nanos.longValue());
+    }
+}
@@ -1,13 +1,10 @@
 package com.frogdevelopment.micronaut.consul.leadership.session;
 
 import lombok.Builder;
-import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
 import io.micronaut.serde.annotation.Serdeable;
 
@@ -15,24 +12,23 @@ import io.micronaut.serde.annotation.Serdeable;
  * Represents a Consul session used for distributed locking and leadership election.
  * <p>
  * Sessions in Consul provide a mechanism to associate locks with a specific client.
- * They have a time-to-live (TTL) and must be periodically renewed. When a session
- * expires or is destroyed, all locks held by that session are automatically released
- * according to the configured behavior.
+ * They have a time-to-live (TTL) and must be periodically renewed, or are only bound to health
+ * checks. When a session expires, is invalidated by a failing check or is destroyed, all locks held
+ * by that session are automatically released according to the configured behavior.
  * </p>
  *
- * @param id         the unique identifier of the session assigned by Consul
- * @param name       the human-readable name for the session
- * @param node       the Consul node this session is associated with
- * @param lockDelay  the time that must pass before locks can be re-acquired after session destruction
- * @param behavior   the behavior when the session is invalidated (release or delete locks)
- * @param ttl        the time-to-live for the session before automatic expiration
- * @param nodeChecks the list of health checks associated with this session
+ * @param id            the unique identifier of the session assigned by Consul
+ * @param name          the human-readable name for the session
+ * @param node          the Consul node this session is associated with
+ * @param lockDelay     the time that must pass before locks can be re-acquired after session destruction
+ * @param behavior      the behavior when the session is invalidated (release or delete locks)
+ * @param ttl           the time-to-live for the session before automatic expiration, if any
+ * @param nodeChecks    the IDs of the node health checks associated with this session
+ * @param serviceChecks the service health checks associated with this session
  * @since 1.0.0
  */
 @Builder
 @Serdeable
-@Jacksonized
-@JsonNaming(PropertyNamingStrategies.UpperCamelCaseStrategy.class)
 public record Session(
         @JsonProperty("ID") String id,
         @JsonProperty("Name") String name,
@@ -40,7 +36,17 @@ public record Session(
         @JsonProperty("LockDelay") String lockDelay,
         @JsonProperty("Behavior") Behavior behavior,
         @JsonProperty("TTL") String ttl,
-        @JsonProperty("NodeChecks") List<String> nodeChecks) {
+        @JsonProperty("NodeChecks") List<String> nodeChecks,
+        @JsonProperty("ServiceChecks") List<ServiceCheck> serviceChecks) {
+
+    /**
+     * A service health check the session is bound to.
+     *
+     * @param id the ID of the service health check
+     */
+    @Serdeable
+    public record ServiceCheck(@JsonProperty("ID") String id) {
+    }
 
     /**
      * Defines the behavior of locks when a session is invalidated.
@@ -2,14 +2,58 @@ package com.frogdevelopment.micronaut.consul.leadership.session;
 
 import reactor.core.publisher.Mono;
 
+/**
+ * Manages the Consul session shared by all the elections of this instance.
+ * <p>
+ * Each election registers itself as a holder of the session, identified by its name:
+ * the session is created by the first holder, and destroyed when the last holder leaves.
+ * Likewise, a single renewal task is scheduled as long as at least one election holds a lock.
+ * </p>
+ *
+ * @since 1.0.0
+ */
 public interface SessionHandler {
 
-    Mono<String> createNewSession();
+    /**
+     * Registers the election as a holder of the session, creating the session if none exists yet.
+     *
+     * @param holder the name of the election using the session
+     * @return the ID of the shared session
+     */
+    Mono<String> createNewSession(String holder);
 
-    Mono<Void> destroySession();
+    /**
+     * Checks that the session still exists, e.g. after a failed lock operation, forgetting it otherwise so that the
+     * next election applying creates a new one.
+     *
+     * @param sessionId the ID of the session to check
+     * @return {@code false} if the session has been invalidated by Consul, {@code true} otherwise, including when
+     * the check failed
+     */
+    Mono<Boolean> checkSession(String sessionId);
 
-    Mono<Void> scheduleSessionRenewal();
+    /**
+     * Unregisters the election as a holder of the session, destroying the session if no other election uses it.
+     *
+     * @param holder the name of the election releasing the session
+     * @return a Mono completing when done
+     */
+    Mono<Void> destroySession(String holder);
 
-    Mono<String> cancelSessionRenewal();
+    /**
+     * Registers the election as needing the session to be renewed, starting the renewal task if not running yet.
+     *
+     * @param holder the name of the election holding a lock
+     * @return a Mono completing when done
+     */
+    Mono<Void> scheduleSessionRenewal(String holder);
+
+    /**
+     * Unregisters the election from the renewal, stopping the renewal task if no other election needs it.
+     *
+     * @param holder the name of the election no longer holding a lock
+     * @return the ID of the session if the election was registered for renewal, empty otherwise
+     */
+    Mono<String> cancelSessionRenewal(String holder);
 
 }
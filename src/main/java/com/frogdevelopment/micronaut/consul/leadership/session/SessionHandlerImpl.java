@@ -7,16 +7,24 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.inject.Singleton;
 
 import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
 import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.event.SessionLeaseEvent;
 import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
 
+import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.scheduling.TaskScheduler;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
@@ -30,9 +38,23 @@ public class SessionHandlerImpl implements SessionHandler {
     private final LeadershipConfiguration configuration;
     private final SessionProvider sessionProvider;
     private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher<SessionLeaseEvent> sessionLeaseEventPublisher;
 
     private final AtomicReference<String> sessionIdRef = new AtomicReference<>();
+    private final AtomicReference<Mono<String>> pendingSessionRef = new AtomicReference<>();
     private final AtomicReference<ScheduledFuture<?>> scheduleRef = new AtomicReference<>();
+    private final AdaptiveRenewalPolicy renewalPolicy = new AdaptiveRenewalPolicy();
+    private final AtomicReference<ScheduledFuture<?>> leaseCheckRef = new AtomicReference<>();
+    private final AtomicBoolean leaseExpiringRef = new AtomicBoolean(false);
+    // monotonic time the lease of the current session started at, by its creation or its last renewal
+    private final AtomicLong leaseStartRef = new AtomicLong();
+    // guarded by itself
+    private final Set<String> sessionHolders = new HashSet<>();
+    // guarded by itself
+    private final Set<String> renewalHolders = new HashSet<>();
+    // guarded by renewalHolders: identifies the current renewal chain, so that a renewal completing after its chain
+    // was cancelled, or replaced by a new one, does not schedule a second chain
+    private long renewalGeneration;
 
     // @VisibleForTesting
     String getSessionId() {
@@ -54,75 +76,333 @@ public class SessionHandlerImpl implements SessionHandler {
         this.scheduleRef.set(future);
     }
 
+    // @VisibleForTesting
+    long getRenewalGeneration() {
+        synchronized (renewalHolders) {
+            return renewalGeneration;
+        }
+    }
+
+    // @VisibleForTesting
+    Future<?> getLeaseCheck() {
+        return leaseCheckRef.get();
+    }
+
+    // @VisibleForTesting
+    void setLeaseStart(final long leaseStart) {
+        leaseStartRef.set(leaseStart);
+    }
+
+    // @VisibleForTesting
+    boolean isLeaseExpiring() {
+        return leaseExpiringRef.get();
+    }
+
+    // @VisibleForTesting
+    void setLeaseExpiring(final boolean leaseExpiring) {
+        leaseExpiringRef.set(leaseExpiring);
+    }
+
+    // @VisibleForTesting
+    Set<String> getSessionHolders() {
+        synchronized (sessionHolders) {
+            return Set.copyOf(sessionHolders);
+        }
+    }
+
+    // @VisibleForTesting
+    Set<String> getRenewalHolders() {
+        synchronized (renewalHolders) {
+            return Set.copyOf(renewalHolders);
+        }
+    }
+
     @Override
-    public Mono<String> createNewSession() {
-        return Mono.fromCallable(sessionProvider::createSession)
-                .flatMap(client::createSession)
-                .map(Session::id)
-                .doOnNext(sessionIdRef::set)
-                .onErrorResume(error -> Mono.error(new NonRecoverableElectionException("Session creation failed", error)));
+    public Mono<String> createNewSession(final String holder) {
+        return Mono.defer(() -> {
+            synchronized (sessionHolders) {
+                sessionHolders.add(holder);
+                val sessionId = sessionIdRef.get();
+                if (sessionId != null) {
+                    log.debug("[{}] Sharing existing session {}", holder, sessionId);
+                    return sessionProvider.isBoundToHealthChecks() ? verifySession(holder, sessionId) : Mono.just(sessionId);
+                }
+                // concurrent elections wait for the same creation instead of creating one session each
+                return pendingSessionRef.updateAndGet(pending -> pending != null ? pending : doCreateNewSession());
+            }
+        });
+    }
+
+    private Mono<String> verifySession(final String holder, final String sessionId) {
+        // never renewed, a session bound to health checks is only known to be invalidated when read
+        return client.readSession(sessionId)
+                .defaultIfEmpty(List.of())
+                .flatMap(sessions -> {
+                    if (!sessions.isEmpty()) {
+                        return Mono.just(sessionId);
+                    }
+                    if (sessionIdRef.compareAndSet(sessionId, null)) {
+                        log.warn("Session {} has been invalidated by its health checks, creating a new one", sessionId);
+                    }
+                    return createNewSession(holder);
+                });
     }
 
     @Override
-    public Mono<Void> destroySession() {
-        return Mono.justOrEmpty(sessionIdRef.getAndSet(null))
-                .flatMap(sessionId -> {
-                    log.debug("Destroying session: {}", sessionId);
-                    return client.destroySession(sessionId)
-                            .onErrorResume(error -> {
-                                log.error("Failed to destroy session: {}", sessionId, error);
-                                return Mono.empty(); // Continue despite destroy failure
-                            });
+    public Mono<Boolean> checkSession(final String sessionId) {
+        return client.readSession(sessionId)
+                .defaultIfEmpty(List.of()) // 404 when the session does not exist anymore
+                .map(sessions -> {
+                    if (!sessions.isEmpty()) {
+                        return true;
+                    }
+                    // invalidated by Consul before the renewal noticed it, e.g. after an outage longer than its TTL
+                    if (sessionIdRef.compareAndSet(sessionId, null)) {
+                        log.warn("Session {} has been invalidated, creating a new one", sessionId);
+                    }
+                    return false;
+                })
+                .onErrorResume(error -> {
+                    log.warn("Unable to check session {}", sessionId, error);
+                    return Mono.just(true);
                 });
     }
 
+    private Mono<String> doCreateNewSession() {
+        return Mono.defer(() -> {
+                    // the TTL of the session runs from its creation, measured with a monotonic clock
+                    val start = System.nanoTime();
+                    return Mono.fromCallable(sessionProvider::createSession)
+                            .flatMap(client::createSession)
+                            .map(Session::id)
+                            .doOnNext(sessionId -> {
+                                log.debug("Session {} created", sessionId);
+                                leaseStartRef.set(start);
+                                sessionIdRef.set(sessionId);
+                            });
+                })
+                .onErrorResume(error -> Mono.error(new NonRecoverableElectionException("Session creation failed", error)))
+                .doFinally(ignored -> pendingSessionRef.set(null))
+                .cache();
+    }
+
+    @Override
+    public Mono<Void> destroySession(final String holder) {
+        return Mono.defer(() -> {
+            final String sessionId;
+            synchronized (sessionHolders) {
+                sessionHolders.remove(holder);
+                if (!sessionHolders.isEmpty()) {
+                    log.debug("[{}] Session still used by elections={}, keeping it", holder, sessionHolders);
+                    return Mono.empty();
+                }
+                sessionId = sessionIdRef.getAndSet(null);
+            }
+
+            return Mono.justOrEmpty(sessionId)
+                    .flatMap(id -> {
+                        log.debug("Destroying session: {}", id);
+                        return client.destroySession(id)
+                                .onErrorResume(error -> {
+                                    log.error("Failed to destroy session: {}", id, error);
+                                    return Mono.empty(); // Continue despite destroy failure
+                                });
+                    });
+        });
+    }
+
     @Override
-    public Mono<Void> scheduleSessionRenewal() {
+    public Mono<Void> scheduleSessionRenewal(final String holder) {
         return Mono.fromRunnable(() -> {
-            val sessionRenewalDelay = configuration.getElection().getSessionRenewalDelay();
-            log.debug("Scheduling session renewal with fixed delay={}", sessionRenewalDelay);
-            val scheduledFuture = taskScheduler.scheduleWithFixedDelay(ZERO, sessionRenewalDelay, this::manageSessionRenewal);
-            scheduleRef.set(scheduledFuture);
+            synchronized (renewalHolders) {
+                renewalHolders.add(holder);
+                if (sessionProvider.isBoundToHealthChecks()) {
+                    log.debug("[{}] Session bound to health checks, no renewal needed", holder);
+                    return;
+                }
+                if (scheduleRef.get() != null) {
+                    log.debug("[{}] Session renewal already scheduled", holder);
+                    return;
+                }
+                log.debug("Scheduling session renewal");
+                // each renewal schedules the next one of the same chain, see scheduleNextRenewal
+                val generation = ++renewalGeneration;
+                scheduleRef.set(taskScheduler.schedule(ZERO, () -> manageSessionRenewal(generation)));
+                // armed from the start of the lease, so that the leader steps down even if no renewal ever succeeds
+                val sessionId = sessionIdRef.get();
+                if (sessionId != null) {
+                    armLeaseCheck(sessionId, leaseStartRef.get(), generation);
+                }
+            }
         });
     }
 
     // @VisibleForTesting
-    void manageSessionRenewal() {
+    void manageSessionRenewal(final long generation) {
+        synchronized (renewalHolders) {
+            if (generation != renewalGeneration) {
+                log.debug("Session renewal chain replaced, dropping it");
+                return;
+            }
+        }
         final var sessionId = sessionIdRef.get();
         if (sessionId != null) {
-            renewSession(sessionId);
+            renewSession(sessionId, generation);
         } else {
             doCancelSessionRenewal();
         }
     }
 
-    private void renewSession(final String sessionId) {
+    private void renewSession(final String sessionId, final long generation) {
         log.debug("Renewing session {}", sessionId);
+        val start = System.nanoTime();
         client.renewSession(sessionId)
+                .defaultIfEmpty(List.of()) // 404 when the session does not exist anymore
+                .timeout(Duration.ofMillis(configuration.getElection().getTimeoutMs())) // Add timeout to prevent hanging
+                .doOnNext(sessions -> onSessionRenewed(sessionId, sessions, start, generation))
+                .thenReturn(true)
                 .onErrorResume(throwable -> {
                     log.error("Failed to renew session, this may lead to leadership loss", throwable);
-                    return Mono.empty();
+                    renewalPolicy.onFailed(Duration.ofNanos(System.nanoTime() - start));
+                    return Mono.just(false);
                 })
-                .timeout(Duration.ofMillis(configuration.getElection().getTimeoutMs())) // Add timeout to prevent hanging
                 .subscribeOn(Schedulers.immediate())
-                .subscribe();
+                .subscribe(renewed -> scheduleNextRenewal(renewed, generation));
+    }
+
+    private void onSessionRenewed(final String sessionId, final List<Session> sessions, final long start, final long generation) {
+        if (sessions.isEmpty()) {
+            if (sessionIdRef.compareAndSet(sessionId, null)) {
+                // the session has been invalidated by Consul: forget it, so that the next election applying creates a new one
+                log.warn("Session {} no longer exists, leadership has been lost", sessionId);
+            }
+            return;
+        }
+        val latency = Duration.ofNanos(System.nanoTime() - start);
+        renewalPolicy.onRenewed(AdaptiveRenewalPolicy.parseTtl(sessions.getFirst().ttl()), latency);
+        log.debug("Session {} renewed in {}ms (p50={}ms, p99={}ms)", sessionId, latency.toMillis(),
+                renewalPolicy.latency(0.5).toMillis(), renewalPolicy.latency(0.99).toMillis());
+        // the lease started when the renewal was sent
+        leaseStartRef.set(start);
+        onLeaseExtended(sessionId, start, generation);
+    }
+
+    private void onLeaseExtended(final String sessionId, final long start, final long generation) {
+        if (!armLeaseCheck(sessionId, start, generation)) {
+            return;
+        }
+
+        if (leaseExpiringRef.compareAndSet(true, false)) {
+            log.info("Session {} renewed, its lease is restored", sessionId);
+            sessionLeaseEventPublisher.publishEvent(new SessionLeaseEvent(sessionId, true));
+        }
+    }
+
+    /**
+     * Schedules the step down a margin before the lease started at {@code leaseStart} expires, replacing the
+     * previous check.
+     *
+     * @return {@code false} when the TTL is unknown, or when the renewal chain has been cancelled or replaced
+     */
+    private boolean armLeaseCheck(final String sessionId, final long leaseStart, final long generation) {
+        val electionConfiguration = configuration.getElection();
+        val ttl = Optional.ofNullable(renewalPolicy.getReturnedTtl())
+                .or(() -> Optional.ofNullable(AdaptiveRenewalPolicy.parseTtl(electionConfiguration.getSessionTtl())));
+        if (ttl.isEmpty()) {
+            return false;
+        }
+        val stepDownDelay = Duration.ofNanos(leaseStart + ttl.get().toNanos() - electionConfiguration.getStepDownMargin().toNanos() - System.nanoTime());
+        synchronized (renewalHolders) {
+            if (!isCurrentRenewal(generation)) {
+                // renewal cancelled meanwhile: no more leader to step down, or checked by the new chain
+                return false;
+            }
+            val leaseCheck = taskScheduler.schedule(stepDownDelay.isNegative() ? ZERO : stepDownDelay, () -> onLeaseExpiring(sessionId));
+            val previousLeaseCheck = leaseCheckRef.getAndSet(leaseCheck);
+            if (previousLeaseCheck != null) {
+                previousLeaseCheck.cancel(false);
+            }
+        }
+        return true;
+    }
+
+    // @VisibleForTesting
+    void onLeaseExpiring(final String sessionId) {
+        if (sessionId.equals(sessionIdRef.get()) && leaseExpiringRef.compareAndSet(false, true)) {
+            log.warn("Session {} has not been renewed in time, its lease is about to expire: stepping down", sessionId);
+            sessionLeaseEventPublisher.publishEvent(new SessionLeaseEvent(sessionId, false));
+        }
+    }
+
+    private void scheduleNextRenewal(final boolean renewed, final long generation) {
+        synchronized (renewalHolders) {
+            if (!isCurrentRenewal(generation)) {
+                // cancelled, or cancelled then scheduled again, during the renewal
+                return;
+            }
+            val nextDelay = nextRenewalDelay(renewed);
+            log.debug("Next session renewal in {}", nextDelay);
+            scheduleRef.set(taskScheduler.schedule(nextDelay, () -> manageSessionRenewal(generation)));
+        }
+    }
+
+    // guarded by renewalHolders
+    private boolean isCurrentRenewal(final long generation) {
+        return scheduleRef.get() != null && generation == renewalGeneration;
+    }
+
+    private Duration nextRenewalDelay(final boolean renewed) {
+        val electionConfiguration = configuration.getElection();
+        if (!electionConfiguration.isAdaptiveSessionRenewal()) {
+            return electionConfiguration.getSessionRenewalDelay();
+        }
+        if (!renewed) {
+            // retry soon, the session may be about to expire
+            return Duration.ofMillis(electionConfiguration.getRetryDelayMs());
+        }
+        return Optional.ofNullable(renewalPolicy.getReturnedTtl())
+                .or(() -> Optional.ofNullable(AdaptiveRenewalPolicy.parseTtl(electionConfiguration.getSessionTtl())))
+                .map(renewalPolicy::nextDelay)
+                .orElseGet(electionConfiguration::getSessionRenewalDelay);
     }
 
     @Override
-    public Mono<String> cancelSessionRenewal() {
-        return Mono.fromRunnable(this::doCancelSessionRenewal)
-                .then(Mono.justOrEmpty(sessionIdRef.get()));
+    public Mono<String> cancelSessionRenewal(final String holder) {
+        return Mono.defer(() -> {
+            synchronized (renewalHolders) {
+                if (!renewalHolders.remove(holder)) {
+                    return Mono.empty();
+                }
+                if (renewalHolders.isEmpty()) {
+                    doCancelSessionRenewal();
+                } else {
+                    log.debug("[{}] Session renewal still needed by elections={}", holder, renewalHolders);
+                }
+            }
+            return Mono.justOrEmpty(sessionIdRef.get());
+        });
     }
 
     // @VisibleForTesting
     void doCancelSessionRenewal() {
         log.debug("No more session, cancelling renewal");
-        final ScheduledFuture<?> future = scheduleRef.getAndSet(null);
+        final ScheduledFuture<?> future;
+        synchronized (renewalHolders) {
+            future = scheduleRef.getAndSet(null);
+            // the renewal in flight, if any, must not schedule the next one
+            renewalGeneration++;
+        }
         if (future != null) {
             final boolean cancelled = future.cancel(true);
             if (!cancelled) {
                 log.warn("Failed to cancel session renewal task");
             }
         }
+        // no more leader: nothing to step down from
+        val leaseCheck = leaseCheckRef.getAndSet(null);
+        if (leaseCheck != null) {
+            leaseCheck.cancel(false);
+        }
+        leaseExpiringRef.set(false);
     }
 }
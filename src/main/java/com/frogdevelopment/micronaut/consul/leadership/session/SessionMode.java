@@ -0,0 +1,21 @@
+package com.frogdevelopment.micronaut.consul.leadership.session;
+
+/**
+ * Defines how the Consul session of this instance is kept alive.
+ *
+ * @see <a href="https://developer.hashicorp.com/consul/docs/automate/session">Consul - Sessions</a>
+ * @since 1.0.0
+ */
+public enum SessionMode {
+
+    /**
+     * The session has a TTL, and is periodically renewed as long as an election uses it.
+     */
+    TTL,
+
+    /**
+     * The session has no TTL, and is only bound to health checks: it is invalidated by Consul as soon as one of
+     * them is critical, and is never renewed.
+     */
+    CHECKS
+}
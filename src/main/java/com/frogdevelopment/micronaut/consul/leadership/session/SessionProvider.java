@@ -29,4 +29,14 @@ public interface SessionProvider {
      * @return a new Session configured for leadership election
      */
     Session createSession();
+
+    /**
+     * Whether the created sessions are only bound to health checks, without TTL.
+     * <p>
+     * Such sessions are never renewed: they remain valid as long as their health checks are passing.
+     * </p>
+     *
+     * @return {@code true} if the created sessions are bound to health checks, {@code false} if they must be renewed
+     */
+    boolean isBoundToHealthChecks();
 }
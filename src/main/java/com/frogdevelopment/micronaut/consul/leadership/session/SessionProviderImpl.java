@@ -1,8 +1,8 @@
 package com.frogdevelopment.micronaut.consul.leadership.session;
 
+import lombok.val;
 
-import lombok.RequiredArgsConstructor;
-
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.inject.Singleton;
@@ -11,6 +11,8 @@ import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
 import com.frogdevelopment.micronaut.consul.leadership.kubernetes.KubernetesInfoResolver;
 
 import io.micronaut.context.env.Environment;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.util.CollectionUtils;
 
 /**
  * Default implementation of {@link SessionProvider} that creates Consul sessions
@@ -23,23 +25,45 @@ import io.micronaut.context.env.Environment;
  *   <li>Session behavior - set to RELEASE, meaning locks are released when the session expires</li>
  *   <li>Lock delay - configured from leadership election settings to prevent rapid lock re-acquisition</li>
  *   <li>TTL (Time To Live) - configured from leadership election settings for session expiration</li>
+ *   <li>Health checks - in {@link SessionMode#CHECKS} mode, replacing the TTL</li>
  * </ul>
  * <p>
  * The session configuration is essential for proper leadership election behavior.
  * The lock delay prevents the "thundering herd" problem when leadership changes,
  * while the TTL ensures that failed instances don't hold locks indefinitely.
  * </p>
+ * <p>
+ * In {@link SessionMode#CHECKS} mode, at least one service check is required: the node checks alone, such as
+ * {@code serfHealth}, only fail with the Consul agent of the node, not when the application crashes or hangs.
+ * </p>
  *
  * @since 1.0.0
  */
 @Singleton
-@RequiredArgsConstructor
 final class SessionProviderImpl implements SessionProvider {
 
     private final Optional<KubernetesInfoResolver> kubernetesInfoResolver;
     private final Environment environment;
     private final LeadershipConfiguration configuration;
 
+    /**
+     * @param kubernetesInfoResolver the resolver of the pod name, when running on Kubernetes
+     * @param environment            the environment of the application
+     * @param configuration          the leadership configuration
+     * @throws ConfigurationException in {@link SessionMode#CHECKS} mode without any service check
+     */
+    SessionProviderImpl(final Optional<KubernetesInfoResolver> kubernetesInfoResolver,
+                        final Environment environment,
+                        final LeadershipConfiguration configuration) {
+        this.kubernetesInfoResolver = kubernetesInfoResolver;
+        this.environment = environment;
+        this.configuration = configuration;
+        if (isBoundToHealthChecks() && CollectionUtils.isEmpty(configuration.getElection().getSessionServiceChecks())) {
+            throw new ConfigurationException("consul.leadership.election.session-service-checks is required in CHECKS "
+                                             + "session mode: the node checks alone do not detect a crashed or hung application");
+        }
+    }
+
     /**
      * Creates a new Consul session configured for leadership election.
      * <p>
@@ -50,7 +74,7 @@ final class SessionProviderImpl implements SessionProvider {
      *   <li>Name based on the current hostname for identification</li>
      *   <li>RELEASE behavior to automatically release locks when the session expires</li>
      *   <li>Lock delay from configuration to prevent rapid lock transitions</li>
-     *   <li>TTL from configuration to control session lifetime</li>
+     *   <li>TTL from configuration to control session lifetime, or the health checks it is bound to</li>
      * </ul>
      * <p>
      * The created session can be used to acquire locks in Consul's key-value store
@@ -61,14 +85,30 @@ final class SessionProviderImpl implements SessionProvider {
      */
     @Override
     public Session createSession() {
-        return Session.builder()
+        val electionConfiguration = configuration.getElection();
+        val builder = Session.builder()
                 .name(kubernetesInfoResolver.flatMap(KubernetesInfoResolver::resolvePodName)
                         .or(() -> environment.getProperty("hostname", String.class))
                         .or(() -> environment.getProperty("micronaut.application.name", String.class))
                         .orElseThrow(() -> new IllegalStateException("Neither Pod Name hostname nor application name was resolvable!")))
                 .behavior(Session.Behavior.RELEASE)
-                .lockDelay(configuration.getElection().getSessionLockDelay())
-                .ttl(configuration.getElection().getSessionTtl())
-                .build();
+                .lockDelay(electionConfiguration.getSessionLockDelay());
+        if (isBoundToHealthChecks()) {
+            // no TTL: the session lives as long as its checks are passing
+            builder.nodeChecks(electionConfiguration.getSessionNodeChecks())
+                    .serviceChecks(Optional.ofNullable(electionConfiguration.getSessionServiceChecks())
+                            .orElseGet(List::of)
+                            .stream()
+                            .map(Session.ServiceCheck::new)
+                            .toList());
+        } else {
+            builder.ttl(electionConfiguration.getSessionTtl());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean isBoundToHealthChecks() {
+        return configuration.getElection().getSessionMode() == SessionMode.CHECKS;
     }
 }
@@ -0,0 +1,26 @@
+package com.frogdevelopment.micronaut.consul.leadership.status;
+
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
+
+import io.micronaut.core.annotation.Nullable;
+
+/**
+ * Snapshot of the leadership status of an election, as emitted by {@link LeadershipStatus#states()}.
+ * <p>
+ * Like {@link LeadershipStatus#getLeadershipInfo()}, the details are of the type decoded by the
+ * {@link com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider LeadershipDetailsProvider}
+ * of the application.
+ * </p>
+ *
+ * @param electionName      the name of the election
+ * @param isLeader          {@code true} if this instance is the leader
+ * @param leadershipDetails the details of the current leader, or {@code null} if not known yet
+ * @param fencingToken      the fencing token of the leadership term of this instance, see
+ *                          {@link LeadershipStatus#getFencingToken()}
+ * @since 1.0.0
+ */
+public record LeadershipState(String electionName,
+                              boolean isLeader,
+                              @Nullable LeadershipDetails leadershipDetails,
+                              long fencingToken) {
+}
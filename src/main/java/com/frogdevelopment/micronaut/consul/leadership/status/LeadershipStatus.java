@@ -3,9 +3,15 @@ package com.frogdevelopment.micronaut.consul.leadership.status;
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
 
 import io.micronaut.core.annotation.Nullable;
+import reactor.core.publisher.Flux;
 
 public interface LeadershipStatus {
 
+    /**
+     * The {@link #getFencingToken() fencing token} when this instance is not the leader.
+     */
+    long NO_FENCING_TOKEN = 0L;
+
     /**
      * Checks if the current instance is the leader.
      *
@@ -20,9 +26,41 @@ public interface LeadershipStatus {
      * instance or another instance in the cluster. The information typically includes
      * details such as hostname, cluster name, and leadership acquisition timestamp.
      * </p>
+     * <p>
+     * The information is of the type decoded by the
+     * {@link com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider LeadershipDetailsProvider}
+     * of the application: cast it to that type, or listen to the typed
+     * {@link com.frogdevelopment.micronaut.consul.leadership.event.LeadershipDetailsChangeEvent LeadershipDetailsChangeEvent}.
+     * </p>
      *
      * @return the current leadership information, or {@code null} if no leader information is available yet
      */
     @Nullable
     LeadershipDetails getLeadershipInfo();
+
+    /**
+     * Gets the fencing token of the current leadership term of this instance.
+     * <p>
+     * The token is the Consul {@code ModifyIndex} of the leadership key when its lock was acquired: it is strictly
+     * greater than the token of any previous term of the election, whatever the instance that led it. Attached to
+     * the writes done as leader, it allows the downstream systems to reject the writes carrying a token lower than
+     * the highest one they have seen, such as the ones of a paused former leader.
+     * </p>
+     *
+     * @return the fencing token, or {@link #NO_FENCING_TOKEN} if this instance is not the leader
+     */
+    long getFencingToken();
+
+    /**
+     * Streams the leadership status as snapshots.
+     * <p>
+     * A subscriber first receives the latest snapshot delivered, the initial one before any change, then a new one
+     * each time the leadership, the details of the leader or the fencing token change. The snapshots are emitted once
+     * the events of the change have been delivered, on the thread of the dispatcher of the election shared with the
+     * application listeners: a subscriber doing blocking work should {@code publishOn} its own scheduler.
+     * </p>
+     *
+     * @return a never-ending {@link Flux} of the leadership status, replaying the latest snapshot
+     */
+    Flux<LeadershipState> states();
 }
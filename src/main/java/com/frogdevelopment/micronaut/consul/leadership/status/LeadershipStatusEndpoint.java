@@ -2,12 +2,20 @@ package com.frogdevelopment.micronaut.consul.leadership.status;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsDispatcher;
 
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.management.endpoint.annotation.Endpoint;
 import io.micronaut.management.endpoint.annotation.Read;
+import io.micronaut.management.endpoint.annotation.Selector;
 
 /**
  * Management endpoint for exposing leadership election status information.
@@ -15,6 +23,7 @@ import io.micronaut.management.endpoint.annotation.Read;
  * This endpoint is available at {@code /leadership} and provides real-time information
  * about the current leadership state of the application instance, including whether
  * this instance is the leader and detailed information about the current leader.
+ * The status of a named election is available at {@code /leadership/{election}}.
  * </p>
  * <p>
  * The endpoint is useful for monitoring and health checking purposes, allowing
@@ -26,9 +35,11 @@ import io.micronaut.management.endpoint.annotation.Read;
  */
 @Endpoint(id = "leadership")
 @RequiredArgsConstructor
+@Requires(beans = LeadershipStatus.class)
 public class LeadershipStatusEndpoint {
 
     private final LeadershipStatus leadershipStatus;
+    private final BeanLocator beanLocator;
 
     /**
      * Returns the current leadership status and details.
@@ -39,16 +50,45 @@ public class LeadershipStatusEndpoint {
      *   <li>{@code isLeader} - a boolean indicating if this instance is currently the leader</li>
      *   <li>{@code details} - the {@link LeadershipDetails}
      *       object containing information about the current leader</li>
+     *   <li>{@code fencingToken} - the {@link LeadershipStatus#getFencingToken() fencing token} of the current
+     *       leadership term of this instance</li>
+     *   <li>{@code events} - the {@code queueDepth}, {@code dispatchLagMs} and {@code coalesced} metrics of the
+     *       {@link LeadershipEventsDispatcher dispatcher} of the leadership events</li>
      * </ul>
      *
      * @return a map with leadership status information
      */
     @Read(description = "Return leadership full details")
     public Map<String, Object> leadershipStatus() {
-        return Map.of(
-                "isLeader", leadershipStatus.isLeader(),
-                "details", leadershipStatus.getLeadershipInfo()
-        );
+        return toMap(leadershipStatus, Election.DEFAULT_NAME);
+    }
+
+    /**
+     * Returns the current leadership status and details of a named election.
+     *
+     * @param election the name of the election
+     * @return a map with leadership status information, or {@code null} if the election does not exist
+     */
+    @Nullable
+    @Read(description = "Return leadership full details of the given election")
+    public Map<String, Object> electionStatus(@Selector final String election) {
+        return beanLocator.findBean(LeadershipStatus.class, Qualifiers.byName(election))
+                .map(status -> toMap(status, election))
+                .orElse(null);
+    }
+
+    private Map<String, Object> toMap(final LeadershipStatus status, final String election) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("isLeader", status.isLeader());
+        map.put("details", status.getLeadershipInfo());
+        map.put("fencingToken", status.getFencingToken());
+        beanLocator.findBean(LeadershipEventsDispatcher.class, Qualifiers.byName(election))
+                .ifPresent(dispatcher -> map.put("events", Map.of(
+                        "queueDepth", dispatcher.getQueueDepth(),
+                        "dispatchLagMs", dispatcher.getDispatchLag().toMillis(),
+                        "coalesced", dispatcher.getCoalescedEvents()
+                )));
+        return map;
     }
 
 }
@@ -1,28 +1,36 @@
 package com.frogdevelopment.micronaut.consul.leadership.status;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-
-import jakarta.inject.Singleton;
+import java.util.function.LongConsumer;
 
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
 import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipChangeEvent;
 import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipDetailsChangeEvent;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsPublisher;
 import com.frogdevelopment.micronaut.consul.leadership.kubernetes.UpdatePodLabel;
 
+import io.micronaut.context.annotation.EachBean;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.runtime.event.annotation.EventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
 /**
- * Implementation of {@link LeadershipStatus} that tracks leadership state via event listeners.
+ * Implementation of {@link LeadershipStatus} that tracks leadership state of an {@link Election}.
  * <p>
- * This implementation maintains the current leadership status by listening to
+ * This implementation maintains the current leadership status from the
  * {@link LeadershipChangeEvent} and {@link LeadershipDetailsChangeEvent} published
- * during the leadership election process. It provides a simple way to query the
+ * by the {@link LeadershipEventsPublisher} of the same election, before they are
+ * dispatched to the application listeners. It provides a simple way to query the
  * current leadership state without directly interacting with Consul.
  * </p>
  * <p>
@@ -30,18 +38,47 @@ import io.micronaut.runtime.event.annotation.EventListener;
  * changes occur in the system. This makes it efficient for frequent status checks,
  * such as from management endpoints or application logic.
  * </p>
+ * <p>
+ * Each change is also emitted as a {@link LeadershipState} snapshot in a sink replaying the latest one, so that
+ * reactive consumers get the current status on subscription without polling.
+ * </p>
+ * <p>
+ * The snapshots are emitted, and the pod label updated, once the events have been delivered by the
+ * {@link com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsDispatcher dispatcher} of the
+ * election, on its thread: neither the subscribers nor the Kubernetes API delay the election.
+ * </p>
+ * <p>
+ * Only the status of the default election updates the pod label.
+ * </p>
+ * <p>
+ * The {@link #addTermListener(LongConsumer) term listeners} are, on the contrary, notified synchronously on each
+ * transition, so that the work of a former term can be stopped before the election goes on.
+ * </p>
  *
  * @since 1.0.0
  */
 @Slf4j
-@Singleton
-@RequiredArgsConstructor
+@EachBean(Election.class)
 public class LeadershipStatusImpl implements LeadershipStatus {
 
+    private final Election election;
     private final Optional<UpdatePodLabel> updatePodLabel;
 
     private final AtomicBoolean isLeader = new AtomicBoolean(false);
     private final AtomicReference<LeadershipDetails> leadershipDetails = new AtomicReference<>();
+    private final AtomicLong fencingToken = new AtomicLong(NO_FENCING_TOKEN);
+    private final List<LongConsumer> termListeners = new CopyOnWriteArrayList<>();
+    // guarded by this, to serialize the emissions
+    private final Sinks.Many<LeadershipState> states = Sinks.many().replay().latest();
+    // guarded by this
+    private LeadershipState lastState;
+
+    public LeadershipStatusImpl(final Election election, final Optional<UpdatePodLabel> updatePodLabel) {
+        this.election = election;
+        this.updatePodLabel = updatePodLabel;
+        // seeded with the initial status, replayed to the subscribers until the first change
+        emitState();
+    }
 
     @Override
     public boolean isLeader() {
@@ -53,40 +90,135 @@ public class LeadershipStatusImpl implements LeadershipStatus {
         return leadershipDetails.get();
     }
 
+    @Override
+    public long getFencingToken() {
+        return isLeader.get() ? fencingToken.get() : NO_FENCING_TOKEN;
+    }
+
+    @Override
+    public Flux<LeadershipState> states() {
+        return states.asFlux();
+    }
+
+    /**
+     * Registers a listener of the leadership term.
+     * <p>
+     * The listener is notified with the {@link #getFencingToken() fencing token} on each change of the leadership or
+     * of the token, synchronously from the {@link LeadershipEventsPublisher} of the election: it must not block.
+     * </p>
+     *
+     * @param listener the listener, given {@link #NO_FENCING_TOKEN} when this instance is not the leader
+     */
+    public void addTermListener(@NonNull final LongConsumer listener) {
+        termListeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener of the leadership term.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeTermListener(@NonNull final LongConsumer listener) {
+        termListeners.remove(listener);
+    }
+
     /**
-     * Event listener that updates the leadership status when leadership changes.
+     * Updates the leadership status when leadership changes.
      * <p>
-     * This method is automatically invoked when a {@link LeadershipChangeEvent}
-     * is published, updating the internal state to reflect whether this instance
-     * is currently the leader or not.
+     * This method is invoked by the {@link LeadershipEventsPublisher} of the election when a
+     * {@link LeadershipChangeEvent} is published, updating the internal state to reflect
+     * whether this instance is currently the leader or not.
      * </p>
      *
      * @param event the leadership change event containing the new leadership status
      */
-    @EventListener
     public void onLeadershipChanged(@NonNull final LeadershipChangeEvent event) {
         final var leader = event.isLeader();
         this.isLeader.set(leader);
-        log.debug("Current leader: {}", leader);
+        log.debug("[{}] Current leader: {}", election.name(), leader);
+        notifyTerm();
+    }
+
+    /**
+     * Emits the current status and updates the pod label, once the leadership change has been delivered.
+     *
+     * @param event the leadership change event, possibly coalesced with the previous ones
+     */
+    @EventListener
+    void onLeadershipChangeDelivered(@NonNull final LeadershipChangeEvent event) {
+        if (!election.name().equals(event.electionName())) {
+            return;
+        }
+        emitState();
 
-        updatePodLabel.ifPresent(podLabel -> podLabel.updatePodLabel(leader));
+        if (election.isDefault()) {
+            updatePodLabel.ifPresent(podLabel -> podLabel.updatePodLabel(event.isLeader()));
+        }
     }
 
     /**
-     * Event listener that updates the cached leadership information.
+     * Updates the cached leadership information.
      * <p>
-     * This method is automatically invoked when a {@link LeadershipDetailsChangeEvent}
-     * is published, updating the internal cache with the latest information about
-     * the current leader. This information can then be queried via {@link #getLeadershipInfo()}.
+     * This method is invoked by the {@link LeadershipEventsPublisher} of the election when a
+     * {@link LeadershipDetailsChangeEvent} is published, updating the internal cache with the
+     * latest information about the current leader. This information can then be queried via
+     * {@link #getLeadershipInfo()}.
      * </p>
      *
      * @param event the leadership info change event containing updated leader information
      */
-    @EventListener
-    public void onLeadershipInfoChanged(@NonNull final LeadershipDetailsChangeEvent event) {
+    public void onLeadershipInfoChanged(@NonNull final LeadershipDetailsChangeEvent<?> event) {
         final var details = event.leadershipDetails();
         this.leadershipDetails.set(details);
-        log.debug("Current leader information: {}", details);
+        log.debug("[{}] Current leader information: {}", election.name(), details);
+    }
+
+    /**
+     * Emits the current status once the change of the leadership details has been delivered.
+     *
+     * @param event the leadership info change event
+     */
+    @EventListener
+    void onLeadershipInfoChangeDelivered(@NonNull final LeadershipDetailsChangeEvent<?> event) {
+        if (election.name().equals(event.electionName())) {
+            emitState();
+        }
+    }
+
+    /**
+     * Updates the fencing token of the leadership term.
+     * <p>
+     * This method is invoked by the {@link LeadershipEventsPublisher} of the election with the token of the term
+     * before this instance is reported as the leader, then with {@link #NO_FENCING_TOKEN} once it is not anymore.
+     * </p>
+     *
+     * @param token the fencing token of the leadership term
+     */
+    public void onFencingToken(final long token) {
+        // emitted along with the leadership change, the token being recorded before it
+        this.fencingToken.set(token);
+        log.debug("[{}] Current fencing token: {}", election.name(), token);
+        notifyTerm();
+    }
+
+    private void notifyTerm() {
+        val term = getFencingToken();
+        for (val listener : termListeners) {
+            try {
+                listener.accept(term);
+            } catch (final Exception e) {
+                log.error("[{}] Term listener failed", election.name(), e);
+            }
+        }
+    }
+
+    private synchronized void emitState() {
+        val state = new LeadershipState(election.name(), isLeader(), getLeadershipInfo(), getFencingToken());
+        // only the actual changes are emitted, e.g. not a token reset while not leader
+        if (!state.equals(lastState)) {
+            lastState = state;
+            states.tryEmitNext(state);
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.frogdevelopment.micronaut.consul.leadership.task;
+
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+
+/**
+ * A task run by a {@link LeaderTaskExecutor} while this instance is the leader.
+ *
+ * @param <T> the type of the result of the task
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LeaderTask<T> {
+
+    /**
+     * Runs the task.
+     * <p>
+     * The task is interrupted when the leadership is lost: a long-running task should stop as soon as its thread
+     * is interrupted.
+     * </p>
+     *
+     * @param term the {@link LeadershipStatus#getFencingToken() fencing token} of the leadership term the task was
+     *             submitted in, to attach to its writes
+     * @return the result of the task
+     * @throws Exception if the task fails
+     */
+    T run(long term) throws Exception;
+}
@@ -0,0 +1,41 @@
+package com.frogdevelopment.micronaut.consul.leadership.task;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NotLeaderException;
+
+/**
+ * Runs tasks only while this instance is the leader of an {@link Election}.
+ * <p>
+ * Every task still in flight when its leadership term is over, the leadership being lost or acquired again with another
+ * fencing token, is cancelled and its thread interrupted, bounding the time during which a former leader keeps working
+ * after a failover.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * @EventListener
+ * void onLeadershipChange(LeadershipChangeEvent event) {
+ *     if (event.isDefaultElection() && event.isLeader()) {
+ *         leaderTaskExecutor.submit(term -> reconcile(term));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public interface LeaderTaskExecutor {
+
+    /**
+     * Submits a task, run only if this instance is the leader.
+     *
+     * @param task the task to run
+     * @param <T>  the type of the result of the task
+     * @return a future completed with the result of the task, failed with a {@link NotLeaderException} if this instance
+     * is not the leader or has no fencing token yet, or cancelled when the term is over before the task completes.
+     * Cancelling it interrupts the task.
+     */
+    <T> CompletableFuture<T> submit(LeaderTask<T> task);
+}
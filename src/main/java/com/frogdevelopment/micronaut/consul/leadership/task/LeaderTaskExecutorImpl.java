@@ -0,0 +1,165 @@
+package com.frogdevelopment.micronaut.consul.leadership.task;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NotLeaderException;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatusImpl;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+/**
+ * Default implementation of {@link LeaderTaskExecutor}, running the tasks on the executor named by
+ * {@link LeadershipConfiguration.ElectionConfiguration#getTaskExecutor()}.
+ * <p>
+ * The in-flight tasks are tracked from their submission to their completion, along with the fencing token of the term
+ * they were submitted in. They are cancelled as soon as the term is over, synchronously from the
+ * {@link LeadershipStatusImpl#addTermListener(LongConsumer) transition} of the status: when this instance is not the
+ * leader anymore, including when the leader steps down before the expiry of its session, and when the leadership is
+ * acquired again with another token.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@EachBean(Election.class)
+public class LeaderTaskExecutorImpl implements LeaderTaskExecutor {
+
+    private final Election election;
+    private final LeadershipStatusImpl leadershipStatus;
+    private final LeadershipConfiguration configuration;
+    private final BeanContext beanContext;
+
+    private final Set<InFlightTask<?>> inFlightTasks = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<ExecutorService> executorRef = new AtomicReference<>();
+    private final LongConsumer termListener = this::cancelInFlightTasks;
+
+    public LeaderTaskExecutorImpl(final Election election,
+                                  @Parameter final LeadershipStatusImpl leadershipStatus,
+                                  final LeadershipConfiguration configuration,
+                                  final BeanContext beanContext) {
+        this.election = election;
+        this.leadershipStatus = leadershipStatus;
+        this.configuration = configuration;
+        this.beanContext = beanContext;
+    }
+
+    @PostConstruct
+    void start() {
+        leadershipStatus.addTermListener(termListener);
+    }
+
+    @PreDestroy
+    void close() {
+        leadershipStatus.removeTermListener(termListener);
+        // no task is submitted without a token
+        cancelInFlightTasks(LeadershipStatus.NO_FENCING_TOKEN);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(final LeaderTask<T> task) {
+        // no token when not the leader, nor when the leadership is reported without the token of its term
+        val term = leadershipStatus.getFencingToken();
+        if (term == LeadershipStatus.NO_FENCING_TOKEN) {
+            return CompletableFuture.failedFuture(new NotLeaderException(election.name()));
+        }
+
+        val inFlightTask = new InFlightTask<T>(term);
+        inFlightTasks.add(inFlightTask);
+        inFlightTask.result.whenComplete((ignored, throwable) -> {
+            inFlightTasks.remove(inFlightTask);
+            if (inFlightTask.result.isCancelled()) {
+                inFlightTask.interrupt();
+            }
+        });
+
+        // checked again once tracked: a term over from now on cancels the task
+        if (leadershipStatus.getFencingToken() != term) {
+            inFlightTask.result.cancel(true);
+            return inFlightTask.result;
+        }
+
+        try {
+            inFlightTask.futureRef.set(executor().submit(() -> inFlightTask.run(task)));
+            // cancelled while being submitted
+            if (inFlightTask.result.isCancelled()) {
+                inFlightTask.interrupt();
+            }
+        } catch (final RejectedExecutionException e) {
+            inFlightTask.result.completeExceptionally(e);
+        }
+        return inFlightTask.result;
+    }
+
+    private ExecutorService executor() {
+        var executor = executorRef.get();
+        if (executor == null) {
+            executor = beanContext.getBean(ExecutorService.class, Qualifiers.byName(configuration.getElection().getTaskExecutor()));
+            executorRef.set(executor);
+        }
+        return executor;
+    }
+
+    private void cancelInFlightTasks(final long currentTerm) {
+        val staleTasks = inFlightTasks.stream()
+                .filter(inFlightTask -> inFlightTask.term != currentTerm)
+                .toList();
+        if (staleTasks.isEmpty()) {
+            return;
+        }
+        log.info("[{}] Leadership term over, cancelling {} in-flight tasks", election.name(), staleTasks.size());
+        staleTasks.forEach(inFlightTask -> inFlightTask.result.cancel(true));
+    }
+
+    // @VisibleForTesting
+    int getInFlightTasks() {
+        return inFlightTasks.size();
+    }
+
+    private static final class InFlightTask<T> {
+
+        private final long term;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicReference<Future<?>> futureRef = new AtomicReference<>();
+
+        private InFlightTask(final long term) {
+            this.term = term;
+        }
+
+        private void run(final LeaderTask<T> task) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(task.run(term));
+            } catch (final Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void interrupt() {
+            val future = futureRef.get();
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.frogdevelopment.micronaut.consul.leadership.watch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.List;
+
+import jakarta.inject.Singleton;
+
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Default {@link LeadershipWatcher}, opening one blocking query per watched key.
+ *
+ * @since 1.0.0
+ */
+@Singleton
+@RequiredArgsConstructor
+@Requires(property = PrefixLeadershipWatcher.PREFIX_ENABLED, notEquals = StringUtils.TRUE, defaultValue = StringUtils.FALSE)
+public class KeyLeadershipWatcher implements LeadershipWatcher {
+
+    private final ConsulWatchClient client;
+    private final BlockingQueryPolicy blockingQueryPolicy;
+
+    @Override
+    public Mono<List<KeyValue>> watchLeadership(final String key, final Integer index) {
+        val consistency = blockingQueryPolicy.getConsistency();
+        return client.watchLeadership(key, index, blockingQueryPolicy.getWait(), consistency.stale(), consistency.consistent());
+    }
+}
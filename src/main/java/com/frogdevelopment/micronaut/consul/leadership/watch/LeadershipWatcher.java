@@ -0,0 +1,32 @@
+package com.frogdevelopment.micronaut.consul.leadership.watch;
+
+import java.util.List;
+
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import io.micronaut.core.annotation.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Watches the leadership key of an election for changes.
+ * <p>
+ * Implementations follow the semantic of Consul's blocking queries: the returned Mono completes
+ * once the key has been modified since the given index, or with the unchanged key once the
+ * {@link com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy#getWait() wait} elapsed.
+ * A {@link io.micronaut.http.client.exceptions.ReadTimeoutException} may still occur if Consul does not answer in time.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public interface LeadershipWatcher {
+
+    /**
+     * Waits for the leadership key to change.
+     *
+     * @param key   the Consul KV key to watch
+     * @param index the modify index to wait for changes from (null for immediate return)
+     * @return a Mono containing the updated leadership information, or empty if the key does not exist anymore
+     */
+    Mono<List<KeyValue>> watchLeadership(String key, @Nullable Integer index);
+
+}
@@ -0,0 +1,319 @@
+package com.frogdevelopment.micronaut.consul.leadership.watch;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.http.client.exceptions.ReadTimeoutException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * {@link LeadershipWatcher} sharing a single recursive blocking query between all the watched keys under a prefix.
+ * <p>
+ * Instead of opening one long-poll per election key, the keys under
+ * {@link LeadershipConfiguration.WatchConfiguration#getPrefix() the prefix} are read with one
+ * {@code /kv/{prefix}?recurse&index=N} blocking query. Each response is diffed against the previous
+ * snapshot by {@link KeyValue#getModifyIndex() ModifyIndex}, and only the watchers of the modified
+ * or deleted keys are notified. The query is issued as long as at least one key is watched.
+ * </p>
+ * <p>
+ * The index follows Consul's rules: it is reset when it goes backwards, and the next query is delayed
+ * when it did not advance, to avoid a hot loop against Consul.
+ * </p>
+ * <p>
+ * Keys outside the prefix are watched individually, as done by {@link KeyLeadershipWatcher}. The prefix is matched on
+ * a path segment boundary: {@code a/b} covers {@code a/b} and {@code a/b/c}, but not {@code a/b-c}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@Slf4j
+@Singleton
+@Requires(property = PrefixLeadershipWatcher.PREFIX_ENABLED, value = StringUtils.TRUE)
+public class PrefixLeadershipWatcher implements LeadershipWatcher {
+
+    static final String PREFIX_ENABLED = LeadershipConfiguration.PREFIX + ".watch.prefix-enabled";
+
+    private final ConsulWatchClient client;
+    private final String prefix;
+    private final String wait;
+    private final Duration rateLimitDelay;
+    private final ConsistencyMode consistency;
+
+    private final Object lock = new Object();
+    // guarded by lock
+    private final Map<String, Set<Watch>> watches = new HashMap<>();
+    // guarded by lock
+    private Map<String, KeyValue> snapshot;
+    // guarded by lock
+    private Long index;
+    // guarded by lock
+    private boolean polling;
+
+    private final AtomicReference<Disposable> pollRef = new AtomicReference<>();
+
+    /**
+     * @param client              the Consul client
+     * @param configuration       the leadership configuration, providing the watched prefix
+     * @param blockingQueryPolicy the parameters of the blocking queries
+     */
+    public PrefixLeadershipWatcher(final ConsulWatchClient client,
+                                   final LeadershipConfiguration configuration,
+                                   final BlockingQueryPolicy blockingQueryPolicy) {
+        this.client = client;
+        this.prefix = configuration.getWatch().getPrefix().orElseGet(configuration::getPath);
+        this.wait = blockingQueryPolicy.getWait();
+        this.rateLimitDelay = blockingQueryPolicy.getRateLimitDelay();
+        this.consistency = blockingQueryPolicy.getConsistency();
+    }
+
+    @Override
+    public Mono<List<KeyValue>> watchLeadership(final String key, final Integer index) {
+        if (!isUnderPrefix(key)) {
+            log.debug("Key={} is outside of prefix={}, watching it individually", key, prefix);
+            return client.watchLeadership(key, index, wait, consistency.stale(), consistency.consistent());
+        }
+
+        return Mono.create(sink -> register(new Watch(key, index, sink)));
+    }
+
+    private boolean isUnderPrefix(final String key) {
+        // on a path segment boundary: the prefix a/b covers a/b and a/b/c, but not a/b-c
+        return key.startsWith(prefix)
+               && (key.length() == prefix.length() || prefix.endsWith("/") || key.charAt(prefix.length()) == '/');
+    }
+
+    private void register(final Watch watch) {
+        final KeyValue changed;
+        synchronized (lock) {
+            if (snapshot != null && hasChanged(snapshot.get(watch.key()), watch.index())) {
+                changed = snapshot.get(watch.key());
+            } else {
+                watches.computeIfAbsent(watch.key(), ignored -> new HashSet<>()).add(watch);
+                watch.sink().onDispose(() -> unregister(watch));
+                startPolling();
+                return;
+            }
+        }
+        // the key changed before the watch was registered
+        watch.complete(changed);
+    }
+
+    private void unregister(final Watch watch) {
+        synchronized (lock) {
+            val keyWatches = watches.get(watch.key());
+            if (keyWatches != null) {
+                keyWatches.remove(watch);
+                if (keyWatches.isEmpty()) {
+                    watches.remove(watch.key());
+                }
+            }
+        }
+    }
+
+    private static boolean hasChanged(@Nullable final KeyValue current, @Nullable final Integer index) {
+        return index == null || current == null || !index.equals(current.getModifyIndex());
+    }
+
+    // guarded by lock
+    private void startPolling() {
+        if (!polling) {
+            polling = true;
+            poll(index, Duration.ZERO);
+        }
+    }
+
+    private void poll(@Nullable final Long pollIndex, final Duration delay) {
+        log.debug("Watching for leadership changes on prefix={} with index={}", prefix, pollIndex);
+        val query = client.watchLeadershipPrefix(prefix, true, pollIndex, wait, consistency.stale(), consistency.consistent());
+        val disposable = (delay.isZero() ? query : Mono.delay(delay).then(query))
+                .map(response -> toPrefixSnapshot(response, response.getBody().orElseGet(List::of)))
+                .onErrorResume(HttpClientResponseException.class, this::onNotFound)
+                .subscribe(this::onPrefixChanges, this::onPollError);
+        pollRef.set(disposable);
+    }
+
+    private Mono<PrefixSnapshot> onNotFound(final HttpClientResponseException exception) {
+        if (exception.getStatus() == HttpStatus.NOT_FOUND) {
+            // no key under the prefix
+            return Mono.just(toPrefixSnapshot(exception.getResponse(), List.of()));
+        }
+        return Mono.error(exception);
+    }
+
+    private static PrefixSnapshot toPrefixSnapshot(final HttpResponse<?> response, final List<KeyValue> keyValues) {
+        return new PrefixSnapshot(ConsulIndex.of(response, keyValues), keyValues);
+    }
+
+    // @VisibleForTesting
+    void onPrefixChanges(final PrefixSnapshot prefixSnapshot) {
+        val newSnapshot = prefixSnapshot.keyValues().stream()
+                // the recursive query also returns the sibling keys sharing the prefix, e.g. a/b-c for a/b
+                .filter(keyValue -> isUnderPrefix(keyValue.getKey()))
+                .collect(Collectors.toMap(KeyValue::getKey, Function.identity(), (first, second) -> second));
+
+        final List<Runnable> notifications = new ArrayList<>();
+        synchronized (lock) {
+            if (snapshot == null) {
+                // first load: nothing to diff with, but watches registered before it may already be outdated
+                notifyOutdatedWatches(newSnapshot, notifications);
+            } else {
+                for (val changedKey : diff(snapshot, newSnapshot)) {
+                    val keyWatches = watches.remove(changedKey);
+                    if (keyWatches != null) {
+                        val current = newSnapshot.get(changedKey);
+                        keyWatches.forEach(watch -> notifications.add(() -> watch.complete(current)));
+                    }
+                }
+            }
+            snapshot = newSnapshot;
+            val previousIndex = index == null ? 0 : index;
+            index = ConsulIndex.next(previousIndex, prefixSnapshot.index());
+            if (index == 0) {
+                log.warn("Index of prefix={} went backwards, resetting it", prefix);
+            }
+            polling = !watches.isEmpty();
+            if (polling) {
+                // the wait elapsed without change: rate limited in case Consul answers without blocking
+                poll(index, index == previousIndex ? rateLimitDelay : Duration.ZERO);
+            } else {
+                pollRef.set(null);
+            }
+        }
+
+        log.debug("Leadership changes on prefix={} notified to {} watch(es)", prefix, notifications.size());
+        notifications.forEach(Runnable::run);
+    }
+
+    private static Set<String> diff(final Map<String, KeyValue> previous, final Map<String, KeyValue> current) {
+        final Set<String> changedKeys = new HashSet<>();
+        current.forEach((key, keyValue) -> {
+            val previousKeyValue = previous.get(key);
+            if (previousKeyValue == null || !Objects.equals(previousKeyValue.getModifyIndex(), keyValue.getModifyIndex())) {
+                changedKeys.add(key);
+            }
+        });
+        previous.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(changedKeys::add);
+        return changedKeys;
+    }
+
+    // guarded by lock
+    private void notifyOutdatedWatches(final Map<String, KeyValue> newSnapshot, final List<Runnable> notifications) {
+        val iterator = watches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            val entry = iterator.next();
+            val current = newSnapshot.get(entry.getKey());
+            val outdated = entry.getValue().stream()
+                    .filter(watch -> hasChanged(current, watch.index()))
+                    .toList();
+            outdated.forEach(watch -> notifications.add(() -> watch.complete(current)));
+            entry.getValue().removeAll(outdated);
+            if (entry.getValue().isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // @VisibleForTesting
+    void onPollError(final Throwable throwable) {
+        if (throwable instanceof ReadTimeoutException) {
+            log.debug("Leadership watch timeout on prefix={}, renewing watcher", prefix);
+            synchronized (lock) {
+                poll(index, Duration.ZERO);
+            }
+            return;
+        }
+
+        log.error("Leadership watch failed on prefix={}", prefix, throwable);
+        final List<Watch> failed = new ArrayList<>();
+        synchronized (lock) {
+            watches.values().forEach(failed::addAll);
+            watches.clear();
+            polling = false;
+            pollRef.set(null);
+        }
+        // each election handles the error with its own retry policy, the next watch restarts the polling
+        failed.forEach(watch -> watch.sink().error(throwable));
+    }
+
+    @PreDestroy
+    void close() {
+        val disposable = pollRef.getAndSet(null);
+        if (disposable != null) {
+            disposable.dispose();
+        }
+    }
+
+    // @VisibleForTesting
+    Set<String> getWatchedKeys() {
+        synchronized (lock) {
+            return Set.copyOf(watches.keySet());
+        }
+    }
+
+    // @VisibleForTesting
+    Long getIndex() {
+        synchronized (lock) {
+            return index;
+        }
+    }
+
+    // @VisibleForTesting
+    boolean isPolling() {
+        synchronized (lock) {
+            return polling;
+        }
+    }
+
+    /**
+     * The keys under the prefix, with the index to use for the next blocking query.
+     *
+     * @param index     the {@code X-Consul-Index} of the response
+     * @param keyValues the keys under the prefix
+     */
+    record PrefixSnapshot(long index, List<KeyValue> keyValues) {
+    }
+
+    private record Watch(String key, @Nullable Integer index, MonoSink<List<KeyValue>> sink) {
+
+        void complete(@Nullable final KeyValue current) {
+            if (current == null) {
+                // same as a 404 on the key
+                sink.success();
+            } else {
+                sink.success(List.of(current));
+            }
+        }
+    }
+}
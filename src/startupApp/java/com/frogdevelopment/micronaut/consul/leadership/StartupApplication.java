@@ -0,0 +1,50 @@
+package com.frogdevelopment.micronaut.consul.leadership;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Singleton;
+
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipChangeEvent;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.event.annotation.EventListener;
+
+/**
+ * Application launched by the {@code StartupToFirstElectionTest} as a child process, from the jar of the library or as
+ * a native executable. It prints {@value #FIRST_ELECTION} on its first {@link LeadershipChangeEvent}, then runs until
+ * stopped. The Consul agent and the application name are given as system properties.
+ * <p>
+ * Built from its own source set, on the runtime classpath of the library only: neither the test classes nor their
+ * dependencies are part of the measured application.
+ * </p>
+ */
+public final class StartupApplication {
+
+    static final String FIRST_ELECTION = "FIRST_ELECTION";
+
+    private StartupApplication() {
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final var context = ApplicationContext.builder()
+                .args(args)
+                .start();
+        // on SIGTERM, the leadership is released by the shutdown of the context
+        Runtime.getRuntime().addShutdownHook(new Thread(context::close));
+        Thread.currentThread().join();
+    }
+
+    @Singleton
+    static class FirstElectionPrinter {
+
+        private final AtomicBoolean printed = new AtomicBoolean();
+
+        @EventListener
+        void onLeadershipChange(final LeadershipChangeEvent event) {
+            if (printed.compareAndSet(false, true)) {
+                System.out.println(FIRST_ELECTION + " isLeader=" + event.isLeader());
+                System.out.flush();
+            }
+        }
+    }
+}
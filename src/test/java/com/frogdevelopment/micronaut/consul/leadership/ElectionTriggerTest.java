@@ -3,6 +3,8 @@ package com.frogdevelopment.micronaut.consul.leadership;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,6 +23,10 @@ class ElectionTriggerTest {
     @InjectMocks
     private ElectionTrigger electionTrigger;
 
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
     @Mock
     private StartupEvent startupEvent;
     @Mock
@@ -29,12 +35,18 @@ class ElectionTriggerTest {
     private BeanContext beanContext;
     @Mock
     private LeaderElectionOrchestrator leaderElectionOrchestrator;
+    @Mock
+    private LeaderElectionOrchestrator namedElectionOrchestrator;
 
     @Test
     void onStart_should_start() {
         // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.isAutoStartup()).willReturn(true);
         given(startupEvent.getSource()).willReturn(beanContext);
-        given(beanContext.getBean(LeaderElectionOrchestrator.class)).willReturn(leaderElectionOrchestrator);
+        given(beanContext.getBeansOfType(LeaderElectionOrchestrator.class)).willReturn(List.of(leaderElectionOrchestrator, namedElectionOrchestrator));
+        given(leaderElectionOrchestrator.isAutoStartup()).willReturn(true);
+        given(namedElectionOrchestrator.isAutoStartup()).willReturn(true);
 
         // when
         electionTrigger.onStart(startupEvent);
@@ -42,13 +54,49 @@ class ElectionTriggerTest {
         // then
         then(leaderElectionOrchestrator).should().start();
         then(leaderElectionOrchestrator).shouldHaveNoMoreInteractions();
+        then(namedElectionOrchestrator).should().start();
+        then(namedElectionOrchestrator).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void onStart_should_notStart_when_notAutoStartup() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.isAutoStartup()).willReturn(true);
+        given(startupEvent.getSource()).willReturn(beanContext);
+        given(beanContext.getBeansOfType(LeaderElectionOrchestrator.class)).willReturn(List.of(leaderElectionOrchestrator, namedElectionOrchestrator));
+        given(leaderElectionOrchestrator.isAutoStartup()).willReturn(false);
+        given(namedElectionOrchestrator.isAutoStartup()).willReturn(true);
+
+        // when
+        electionTrigger.onStart(startupEvent);
+
+        // then
+        then(leaderElectionOrchestrator).shouldHaveNoMoreInteractions();
+        then(namedElectionOrchestrator).should().start();
+        then(namedElectionOrchestrator).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void onStart_should_startNothing_when_autoStartupDisabled() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.isAutoStartup()).willReturn(false);
+
+        // when
+        electionTrigger.onStart(startupEvent);
+
+        // then
+        then(startupEvent).shouldHaveNoInteractions();
+        then(leaderElectionOrchestrator).shouldHaveNoInteractions();
+        then(namedElectionOrchestrator).shouldHaveNoInteractions();
     }
 
     @Test
     void onShutdown_should_stop() {
         // given
         given(shutdownEvent.getSource()).willReturn(beanContext);
-        given(beanContext.getBean(LeaderElectionOrchestrator.class)).willReturn(leaderElectionOrchestrator);
+        given(beanContext.getBeansOfType(LeaderElectionOrchestrator.class)).willReturn(List.of(leaderElectionOrchestrator, namedElectionOrchestrator));
 
         // when
         electionTrigger.onShutdown(shutdownEvent);
@@ -56,5 +104,7 @@ class ElectionTriggerTest {
         // then
         then(leaderElectionOrchestrator).should().stop();
         then(leaderElectionOrchestrator).shouldHaveNoMoreInteractions();
+        then(namedElectionOrchestrator).should().stop();
+        then(namedElectionOrchestrator).shouldHaveNoMoreInteractions();
     }
 }
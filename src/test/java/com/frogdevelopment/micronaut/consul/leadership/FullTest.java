@@ -5,6 +5,9 @@ import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.inject.Singleton;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -14,9 +17,12 @@ import org.testcontainers.consul.ConsulContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipChangeEvent;
 import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
 
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.runtime.server.EmbeddedServer;
 
 //@Disabled
@@ -24,7 +30,8 @@ import io.micronaut.runtime.server.EmbeddedServer;
 // - start at least 3 Micronaut servers (same name) who are going to participate to election
 // - assert 1 got elected
 // - restart leader server
-// - assert a new leader is elected
+// - assert a new leader is elected, the leadership being handed off to the longest-standing follower
+// - assert the leaderless gap is well below the session TTL plus the lock-delay, the lock being released on stop
 // - assert that leadership changes were correctly propagated among all servers
 @Testcontainers
 class FullTest {
@@ -36,6 +43,25 @@ class FullTest {
     private EmbeddedServer server2;
     private EmbeddedServer server3;
 
+    // records when this instance became the leader of the default election
+    @Singleton
+    @Requires(property = "mock.namespace", value = "full-test")
+    static class LeadershipRecorder implements ApplicationEventListener<LeadershipChangeEvent> {
+
+        private final AtomicLong electedAtNanos = new AtomicLong();
+
+        @Override
+        public void onApplicationEvent(final LeadershipChangeEvent event) {
+            if (event.isDefaultElection() && event.isLeader()) {
+                electedAtNanos.compareAndSet(0, System.nanoTime());
+            }
+        }
+
+        long electedAtNanos() {
+            return electedAtNanos.get();
+        }
+    }
+
     private static EmbeddedServer createServer(final HashMap<String, Object> properties) {
         return ApplicationContext.run(EmbeddedServer.class, properties);
     }
@@ -102,14 +128,27 @@ class FullTest {
         assertThat(leadershipStatus1.getLeadershipInfo()).isEqualTo(leadershipStatus2.getLeadershipInfo());
         assertThat(leadershipStatus1.getLeadershipInfo()).isEqualTo(leadershipStatus3.getLeadershipInfo());
         final var previousLeadershipStatus = leadershipStatus1.getLeadershipInfo();
+        final var leadershipRecorder2 = server2.getApplicationContext().getBean(LeadershipRecorder.class);
+        final var electionConfiguration = server2.getApplicationContext().getBean(LeadershipConfiguration.class).getElection();
+        final var conversionService = server2.getApplicationContext().getConversionService();
+        final var expirationDelay = conversionService.convertRequired(electionConfiguration.getSessionTtl(), Duration.class)
+                .plus(conversionService.convertRequired(electionConfiguration.getSessionLockDelay(), Duration.class));
 
         // assert that a new leader will be elected
+        final var stoppedAtNanos = System.nanoTime();
         server1.stop();
         await().atMost(Duration.ofSeconds(10))
                 .until(() -> leadershipStatus2.isLeader()
                              || leadershipStatus3.isLeader());
 
-        assertThat(leadershipStatus2.getLeadershipInfo()).isEqualTo(leadershipStatus3.getLeadershipInfo());
+        // the leadership was handed off to the longest-standing follower
+        assertThat(leadershipStatus2.isLeader()).isTrue();
+        await().until(() -> leadershipRecorder2.electedAtNanos() != 0);
+
+        // the lock was released on stop: the successor did not wait for the session of the leader to expire
+        final var leaderlessGap = Duration.ofNanos(leadershipRecorder2.electedAtNanos() - stoppedAtNanos);
+        assertThat(leaderlessGap).isLessThan(expirationDelay.dividedBy(4));
+        await().until(() -> leadershipStatus2.getLeadershipInfo().equals(leadershipStatus3.getLeadershipInfo()));
         assertThat(leadershipStatus2.getLeadershipInfo()).isNotEqualTo(previousLeadershipStatus);
 
         // assert that previous leader doesn't get back the leadership
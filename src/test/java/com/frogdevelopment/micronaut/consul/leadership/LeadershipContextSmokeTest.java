@@ -0,0 +1,69 @@
+package com.frogdevelopment.micronaut.consul.leadership;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NotLeaderException;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipState;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+import com.frogdevelopment.micronaut.consul.leadership.task.LeaderTaskExecutor;
+
+import io.micronaut.context.ApplicationContext;
+
+// Wires the beans of the library from their generated definitions, without Mockito nor Consul agent, the elections not
+// being started: also run as a native test with ./gradlew nativeSmokeTest, which requires GraalVM.
+@Tag("smoke")
+class LeadershipContextSmokeTest {
+
+    private ApplicationContext context;
+
+    @BeforeEach
+    void beforeEach() {
+        context = ApplicationContext.run(Map.<String, Object>of(
+                "micronaut.application.name", "smoke-test",
+                "consul.client.host", "localhost",
+                "consul.client.port", 8500,
+                "consul.client.registration.enabled", false,
+                "consul.leadership.election.auto-startup", false));
+    }
+
+    @AfterEach
+    void afterEach() {
+        context.close();
+    }
+
+    @Test
+    void should_wireLeadershipStatus_asNotLeader() {
+        // when
+        final var leadershipStatus = context.getBean(LeadershipStatus.class);
+
+        // then
+        assertThat(leadershipStatus.isLeader()).isFalse();
+        assertThat(leadershipStatus.getFencingToken()).isEqualTo(LeadershipStatus.NO_FENCING_TOKEN);
+        assertThat(leadershipStatus.states().blockFirst())
+                .extracting(LeadershipState::isLeader)
+                .isEqualTo(false);
+    }
+
+    @Test
+    void should_wireLeaderTaskExecutor_refusingTasks_when_notLeader() {
+        // given
+        final var leaderTaskExecutor = context.getBean(LeaderTaskExecutor.class);
+
+        // when
+        final var result = leaderTaskExecutor.submit(term -> term);
+
+        // then
+        final var caught = catchException(result::join);
+        assertThat(caught).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NotLeaderException.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.frogdevelopment.micronaut.consul.leadership;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.consul.ConsulContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Measures the time from the spawn of a single instance to its first LeadershipChangeEvent, without HTTP server.
+// The instance is the StartupApplication of the startupApp source set, which the tests do not depend on.
+// - run from the jar of the library with ./gradlew startupTest
+// - run also as a native executable with ./gradlew startupTest -Pstartup.native
+// The Consul container is running before each spawn: the time measured is the one of the process, from its start by
+// the OS to its first election, as when an instance is restarted on failover.
+@Tag("startup")
+@Testcontainers
+class StartupToFirstElectionTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupToFirstElectionTest.class);
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 5);
+    private static final Duration FIRST_ELECTION_TIMEOUT = Duration.ofSeconds(30);
+    private static final String MAIN_CLASS = "com.frogdevelopment.micronaut.consul.leadership.StartupApplication";
+    private static final String FIRST_ELECTION = "FIRST_ELECTION";
+
+    @Container
+    public static final ConsulContainer CONSUL = new ConsulContainer("hashicorp/consul:1.21.5");
+
+    @Test
+    @EnabledIfSystemProperty(named = "startup.classpath", matches = ".+")
+    void should_measure_spawnToFirstElection_onJvm() throws Exception {
+        // given
+        final var javaExecutable = ProcessHandle.current().info().command().orElse("java");
+        final var launcher = List.of(javaExecutable, "-cp", System.getProperty("startup.classpath"));
+
+        // when
+        final var durations = measure("jvm", launcher, List.of(MAIN_CLASS));
+
+        // then
+        report("jvm", durations);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "startup.native-executable", matches = ".+")
+    void should_measure_spawnToFirstElection_asNativeExecutable() throws Exception {
+        // given
+        final var launcher = List.of(Path.of(System.getProperty("startup.native-executable")).toAbsolutePath().toString());
+
+        // when
+        final var durations = measure("native", launcher, List.of());
+
+        // then
+        report("native", durations);
+    }
+
+    private static List<Duration> measure(final String mode,
+                                          final List<String> launcher,
+                                          final List<String> mainClass) throws Exception {
+        final var durations = new ArrayList<Duration>();
+        for (int run = 1; run <= RUNS; run++) {
+            final var command = new ArrayList<>(launcher);
+            // a new election at each run, so that each instance is elected without waiting for the previous one
+            command.add("-Dmicronaut.application.name=startup-" + mode + "-" + run);
+            command.add("-Dhostname=startup_" + run);
+            command.add("-Dconsul.client.host=" + CONSUL.getHost());
+            command.add("-Dconsul.client.port=" + CONSUL.getMappedPort(8500));
+            command.addAll(mainClass);
+            durations.add(spawnToFirstElection(command));
+        }
+        return durations;
+    }
+
+    private static Duration spawnToFirstElection(final List<String> command) throws Exception {
+        final var processBuilder = new ProcessBuilder(command).redirectErrorStream(true);
+        final var spawnedAt = System.nanoTime();
+        final var process = processBuilder.start();
+        try {
+            final var firstElection = new CompletableFuture<String>();
+            Thread.ofVirtual().start(() -> readFirstElection(process, firstElection));
+            final var line = firstElection.get(FIRST_ELECTION_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            final var duration = Duration.ofNanos(System.nanoTime() - spawnedAt);
+            assertThat(line).isEqualTo(FIRST_ELECTION + " isLeader=true");
+            return duration;
+        } finally {
+            // SIGTERM: the instance releases its leadership on shutdown
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static void readFirstElection(final Process process, final CompletableFuture<String> firstElection) {
+        try (final var reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(FIRST_ELECTION)) {
+                    firstElection.complete(line);
+                } else {
+                    LOGGER.debug("> {}", line);
+                }
+            }
+            firstElection.completeExceptionally(new IllegalStateException("Exited with " + process.waitFor()));
+        } catch (final Exception e) {
+            firstElection.completeExceptionally(e);
+        }
+    }
+
+    private static void report(final String mode, final List<Duration> durations) {
+        final var sorted = durations.stream().map(Duration::toMillis).sorted().toList();
+        LOGGER.info("[{}] Spawn to first election over {} runs: min={} ms, median={} ms, max={} ms",
+                mode, sorted.size(), sorted.getFirst(), sorted.get(sorted.size() / 2), sorted.getLast());
+    }
+}
@@ -0,0 +1,191 @@
+package com.frogdevelopment.micronaut.consul.leadership.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.aop.LeaderOnly.OnFollower;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NotLeaderException;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderOnlyInterceptorTest {
+
+    private LeaderOnlyInterceptor leaderOnlyInterceptor;
+
+    @Mock
+    private BeanContext beanContext;
+    @Mock
+    private LeadershipStatus leadershipStatus;
+
+    @Mock
+    private MethodInvocationContext<Object, Object> context;
+    @Mock
+    private ExecutableMethod<Object, Object> executableMethod;
+    @Mock
+    private ReturnType<Object> returnType;
+
+    @BeforeEach
+    void beforeEach() {
+        leaderOnlyInterceptor = new LeaderOnlyInterceptor(beanContext);
+    }
+
+    @Test
+    void intercept_should_proceed_when_leader() {
+        // given
+        givenMethod("my-election", OnFollower.THROW, String.class);
+        given(leadershipStatus.isLeader()).willReturn(true);
+        given(context.proceed()).willReturn("result");
+
+        // when
+        final var result = leaderOnlyInterceptor.intercept(context);
+
+        // then
+        assertThat(result).isEqualTo("result");
+    }
+
+    @Test
+    void intercept_should_resolveMethodOnlyOnce() {
+        // given
+        givenMethod("my-election", OnFollower.SKIP, void.class);
+
+        // when
+        leaderOnlyInterceptor.intercept(context);
+        leaderOnlyInterceptor.intercept(context);
+
+        // then
+        then(beanContext).should().findBean(LeadershipStatus.class, Qualifiers.byName("my-election"));
+        then(leadershipStatus).should(times(2)).isLeader();
+        then(context).should(never()).proceed();
+    }
+
+    @Test
+    void intercept_should_returnDefaultValue_when_followerAndPrimitive() {
+        // given
+        givenMethod("my-election", OnFollower.SKIP, boolean.class);
+
+        // when
+        final var result = leaderOnlyInterceptor.intercept(context);
+
+        // then
+        assertThat(result).isEqualTo(false);
+    }
+
+    @Test
+    void intercept_should_returnEmpty_when_followerAndOptional() {
+        // given
+        givenMethod("my-election", OnFollower.SKIP, Optional.class);
+
+        // when
+        final var result = leaderOnlyInterceptor.intercept(context);
+
+        // then
+        assertThat(result).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    void intercept_should_returnEmptyMono_when_followerAndMono() {
+        // given
+        givenMethod("my-election", OnFollower.SKIP, Mono.class);
+
+        // when
+        final var result = leaderOnlyInterceptor.intercept(context);
+
+        // then
+        assertThat(result).isInstanceOf(Mono.class);
+        assertThat(((Mono<?>) result).block()).isNull();
+    }
+
+    @Test
+    void intercept_should_returnCompletedFuture_when_followerAndCompletionStage() {
+        // given
+        givenMethod("my-election", OnFollower.SKIP, CompletableFuture.class);
+
+        // when
+        final var result = leaderOnlyInterceptor.intercept(context);
+
+        // then
+        assertThat(result).isInstanceOf(CompletableFuture.class);
+        assertThat((CompletableFuture<?>) result).isCompletedWithValue(null);
+    }
+
+    @Test
+    void intercept_should_throw_when_follower() {
+        // given
+        givenMethod("my-election", OnFollower.THROW, String.class);
+
+        // when
+        final var caught = catchException(() -> leaderOnlyInterceptor.intercept(context));
+
+        // then
+        assertThat(caught).isInstanceOf(NotLeaderException.class)
+                .hasMessage("This instance is not the leader of election=my-election");
+        then(context).should(never()).proceed();
+    }
+
+    @Test
+    void intercept_should_signalError_when_followerAndFlux() {
+        // given
+        givenMethod("my-election", OnFollower.THROW, Flux.class);
+
+        // when
+        final var result = leaderOnlyInterceptor.intercept(context);
+
+        // then
+        assertThat(result).isInstanceOf(Flux.class);
+        final var caught = catchException(() -> ((Flux<?>) result).blockFirst());
+        assertThat(caught).isInstanceOf(NotLeaderException.class);
+    }
+
+    @Test
+    void intercept_should_skip_when_noSuchElection() {
+        // given
+        given(context.getExecutableMethod()).willReturn(executableMethod);
+        given(executableMethod.stringValue(LeaderOnly.class)).willReturn(Optional.of("unknown"));
+        given(executableMethod.enumValue(LeaderOnly.class, "onFollower", OnFollower.class)).willReturn(Optional.empty());
+        given(executableMethod.getReturnType()).willReturn(returnType);
+        givenReturnType(void.class);
+        given(beanContext.findBean(LeadershipStatus.class, Qualifiers.byName("unknown"))).willReturn(Optional.empty());
+
+        // when
+        final var result = leaderOnlyInterceptor.intercept(context);
+
+        // then
+        assertThat(result).isNull();
+        then(context).should(never()).proceed();
+    }
+
+    private void givenMethod(final String electionName, final OnFollower onFollower, final Class<?> type) {
+        given(context.getExecutableMethod()).willReturn(executableMethod);
+        given(executableMethod.stringValue(LeaderOnly.class)).willReturn(Optional.of(electionName));
+        given(executableMethod.enumValue(LeaderOnly.class, "onFollower", OnFollower.class)).willReturn(Optional.of(onFollower));
+        given(executableMethod.getReturnType()).willReturn(returnType);
+        givenReturnType(type);
+        given(beanContext.findBean(LeadershipStatus.class, Qualifiers.byName(electionName))).willReturn(Optional.of(leadershipStatus));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void givenReturnType(final Class<?> type) {
+        given(returnType.getType()).willReturn((Class) type);
+    }
+}
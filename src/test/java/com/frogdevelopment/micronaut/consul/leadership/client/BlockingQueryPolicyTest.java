@@ -0,0 +1,47 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class BlockingQueryPolicyTest {
+
+    @Test
+    void toWait_should_keepWait_when_noReadTimeout() {
+        // when
+        final var wait = BlockingQueryPolicy.toWait(Duration.ofMinutes(5), null);
+
+        // then
+        assertThat(wait).isEqualTo("300s");
+    }
+
+    @Test
+    void toWait_should_keepWait_when_belowReadTimeout() {
+        // when
+        final var wait = BlockingQueryPolicy.toWait(Duration.ofMinutes(5), Duration.ofMinutes(10));
+
+        // then
+        assertThat(wait).isEqualTo("300s");
+    }
+
+    @Test
+    void toWait_should_capWait_when_jitterExceedsReadTimeout() {
+        // when
+        final var wait = BlockingQueryPolicy.toWait(Duration.ofMinutes(5), Duration.ofSeconds(170));
+
+        // then
+        // 170s * 16/17 - 1s
+        assertThat(wait).isEqualTo("159s");
+    }
+
+    @Test
+    void toWait_should_waitAtLeastOneSecond() {
+        // when
+        final var wait = BlockingQueryPolicy.toWait(Duration.ofMinutes(5), Duration.ofMillis(500));
+
+        // then
+        assertThat(wait).isEqualTo("1s");
+    }
+}
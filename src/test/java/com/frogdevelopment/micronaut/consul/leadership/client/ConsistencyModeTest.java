@@ -0,0 +1,21 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ConsistencyModeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "DEFAULT,,",
+            "STALE,true,",
+            "CONSISTENT,,true"
+    })
+    void should_onlySendTheParameterOfTheMode(final ConsistencyMode mode, final Boolean stale, final Boolean consistent) {
+        // then
+        assertThat(mode.stale()).isEqualTo(stale);
+        assertThat(mode.consistent()).isEqualTo(consistent);
+    }
+}
@@ -0,0 +1,67 @@
+package com.frogdevelopment.micronaut.consul.leadership.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.client.HttpClientConfiguration;
+import io.micronaut.http.client.annotation.Client;
+
+class ConsulClientConfigurationTest {
+
+    private ApplicationContext context;
+
+    @BeforeEach
+    void beforeEach() {
+        context = ApplicationContext.run(Map.<String, Object>of(
+                "micronaut.application.name", "my-application",
+                "consul.client.registration.enabled", false,
+                ConsulLeadershipClientConfiguration.PREFIX + ".read-timeout", "2s",
+                ConsulWatchClientConfiguration.PREFIX + ".pool.max-connections", 3));
+    }
+
+    @AfterEach
+    void afterEach() {
+        context.close();
+    }
+
+    @Test
+    void watchClient_should_useWatchConfiguration() {
+        // when
+        final var clientConfiguration = resolveClientConfiguration(ConsulWatchClient.class);
+
+        // then
+        assertThat(clientConfiguration).isInstanceOf(ConsulWatchClientConfiguration.class);
+        assertThat(clientConfiguration.getReadTimeout()).contains(Duration.ofMinutes(ConsulWatchClientConfiguration.DEFAULT_READ_TIMEOUT_MINUTES));
+        assertThat(clientConfiguration.getConnectionPoolConfiguration())
+                .isInstanceOf(ConsulWatchClientConfiguration.WatchConnectionPoolConfiguration.class);
+        assertThat(clientConfiguration.getConnectionPoolConfiguration().getMaxConnections()).isEqualTo(3);
+    }
+
+    @Test
+    void leadershipClient_should_useSessionConfiguration() {
+        // when
+        final var clientConfiguration = resolveClientConfiguration(ConsulLeadershipClient.class);
+
+        // then
+        assertThat(clientConfiguration).isInstanceOf(ConsulLeadershipClientConfiguration.class);
+        assertThat(clientConfiguration.getReadTimeout()).contains(Duration.ofSeconds(2));
+        assertThat(clientConfiguration.getConnectionPoolConfiguration())
+                .isInstanceOf(ConsulLeadershipClientConfiguration.SessionConnectionPoolConfiguration.class)
+                .isNotSameAs(context.getBean(ConsulWatchClientConfiguration.class).getConnectionPoolConfiguration());
+    }
+
+    private HttpClientConfiguration resolveClientConfiguration(final Class<?> clientType) {
+        // the configuration declared by the @Client annotation, as resolved by the declarative client
+        final var configurationType = context.getBeanDefinition(clientType)
+                .classValue(Client.class, "configuration")
+                .orElseThrow();
+        return (HttpClientConfiguration) context.getBean(configurationType);
+    }
+}
@@ -2,11 +2,16 @@ package com.frogdevelopment.micronaut.consul.leadership.details;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -106,4 +111,50 @@ class LeadershipDetailsProviderDefaultImplTest {
                 .hasMessage("Unable to process leadershipDetails value my_value");
     }
 
+    @Test
+    void should_decodeValue_withoutIntermediateString() throws IOException {
+        // given
+        final var defaultLeadershipInfoProvider = new LeadershipDetailsProviderDefaultImpl(Optional.empty(), environment, objectMapper);
+
+        final var expected = mock(LeadershipDetailsDefault.class);
+        final var json = "{\"podName\":\"pod-é\"}".getBytes(StandardCharsets.UTF_8);
+        given(objectMapper.readValue(aryEq(json), eq(LeadershipDetailsDefault.class))).willReturn(expected);
+
+        // when
+        final var actual = defaultLeadershipInfoProvider.decodeValue(Base64.getEncoder().encodeToString(json));
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void should_fail_when_decodeValue_isNotBase64() {
+        // given
+        final var defaultLeadershipInfoProvider = new LeadershipDetailsProviderDefaultImpl(Optional.empty(), environment, objectMapper);
+
+        // when
+        final var caught = catchException(() -> defaultLeadershipInfoProvider.decodeValue("not-valid-base64!@#$"));
+
+        // then
+        assertThat(caught).isInstanceOf(IllegalArgumentException.class);
+        then(objectMapper).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void should_handleIOException_when_decodeValue() throws IOException {
+        // given
+        final var defaultLeadershipInfoProvider = new LeadershipDetailsProviderDefaultImpl(Optional.empty(), environment, objectMapper);
+
+        final var encodedValue = Base64.getEncoder().encodeToString("my_value".getBytes(StandardCharsets.UTF_8));
+        given(objectMapper.readValue(any(byte[].class), eq(LeadershipDetailsDefault.class))).willThrow(new IOException("boom"));
+
+        // when
+        final var caught = catchException(() -> defaultLeadershipInfoProvider.decodeValue(encodedValue));
+
+        // then
+        assertThat(caught).isInstanceOf(NonRecoverableElectionException.class)
+                .hasRootCauseMessage("boom")
+                .hasMessage("Unable to process leadershipDetails value " + encodedValue);
+    }
+
 }
@@ -0,0 +1,216 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+
+import io.micronaut.http.HttpResponse;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class CandidatePriorityImplTest {
+
+    private static final Election ELECTION = new Election("my-election", "my-path");
+    private static final String PRIORITIES_PATH = "my-path.priorities/";
+    private static final String PREEMPTION_KEY = PRIORITIES_PATH + "preemptions/leader";
+
+    private CandidatePriorityImpl candidatePriority;
+
+    @Mock
+    private ConsulLeadershipClient client;
+    @Mock
+    private ConsulWatchClient watchClient;
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private LeadershipConfiguration.ConsistencyConfiguration consistencyConfiguration;
+    @Mock
+    private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
+    @Mock
+    private BlockingQueryPolicy blockingQueryPolicy;
+
+    @BeforeEach
+    void beforeEach() {
+        given(configuration.getConsistency()).willReturn(consistencyConfiguration);
+        given(consistencyConfiguration.getRead()).willReturn(ConsistencyMode.DEFAULT);
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        candidatePriority = new CandidatePriorityImpl(ELECTION, client, watchClient, configuration, blockingQueryPolicy);
+    }
+
+    @Test
+    void register_should_registerOnlyOnce_perSession() {
+        // given
+        given(electionConfiguration.getPriority()).willReturn(5);
+        given(client.acquireLeadership(PRIORITIES_PATH + "my-session", 5, "my-session")).willReturn(Mono.just(true));
+
+        // when
+        candidatePriority.register("my-session").block();
+        candidatePriority.register("my-session").block();
+
+        // then
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void register_should_doNothing_when_noPriority() {
+        // when
+        candidatePriority.register("my-session").block();
+
+        // then
+        then(client).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void applicationDelay_should_waitPerHigherPriority() {
+        // given
+        given(electionConfiguration.getPriority()).willReturn(2);
+        given(electionConfiguration.getPriorityDelay()).willReturn(Duration.ofSeconds(1));
+        given(watchClient.watchLeadershipPrefix(PRIORITIES_PATH, true, null, null, null, null)).willReturn(response(
+                priority("my-session", 2),
+                priority("lower", 1),
+                priority("higher-1", 5),
+                priority("higher-2", 5),
+                priority("highest", 9),
+                priority(null, 10),
+                new KeyValue(1, PREEMPTION_KEY, encode(2), "my-session")));
+
+        // when
+        final var delay = candidatePriority.applicationDelay().block();
+
+        // then
+        assertThat(delay).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void applicationDelay_should_returnZero_when_readFails() {
+        // given
+        given(electionConfiguration.getPriority()).willReturn(2);
+        given(watchClient.watchLeadershipPrefix(PRIORITIES_PATH, true, null, null, null, null)).willReturn(Mono.error(new RuntimeException("boom")));
+
+        // when
+        final var delay = candidatePriority.applicationDelay().block();
+
+        // then
+        assertThat(delay).isZero();
+    }
+
+    @Test
+    void preempt_should_askLeaderToStepDown_when_leaderHasLowerPriority() {
+        // given
+        given(electionConfiguration.isPreemptive()).willReturn(true);
+        given(electionConfiguration.getPriority()).willReturn(5);
+        given(client.readLeadership(PRIORITIES_PATH + "leader", null, null)).willReturn(Mono.just(List.of(priority("leader", 1))));
+        given(client.acquireLeadership(PREEMPTION_KEY, 5, "my-session")).willReturn(Mono.just(true));
+
+        // when
+        final var preempted = candidatePriority.preempt("my-session", "leader").block();
+
+        // then
+        assertThat(preempted).isTrue();
+        // the lock is only released by the leader itself
+        then(client).should(never()).releaseLeadership(any(), any(), any());
+    }
+
+    @Test
+    void preempt_should_notAsk_when_leaderHasHigherPriority() {
+        // given
+        given(electionConfiguration.isPreemptive()).willReturn(true);
+        given(electionConfiguration.getPriority()).willReturn(5);
+        given(client.readLeadership(PRIORITIES_PATH + "leader", null, null)).willReturn(Mono.just(List.of(priority("leader", 5))));
+
+        // when
+        final var preempted = candidatePriority.preempt("my-session", "leader").block();
+
+        // then
+        assertThat(preempted).isFalse();
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void preempt_should_notAsk_when_notPreemptive() {
+        // when
+        final var preempted = candidatePriority.preempt("my-session", "leader").block();
+
+        // then
+        assertThat(preempted).isFalse();
+        then(client).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void awaitPreemption_should_complete_when_requestedByLiveCandidate() {
+        // given
+        given(electionConfiguration.getPriority()).willReturn(1);
+        given(blockingQueryPolicy.getConsistency()).willReturn(ConsistencyMode.DEFAULT);
+        given(blockingQueryPolicy.getWait()).willReturn("300s");
+        given(watchClient.watchLeadershipPrefix(PREEMPTION_KEY, true, null, "300s", null, null))
+                .willReturn(Mono.just(HttpResponse.ok(List.<KeyValue>of()).header(ConsulIndex.HEADER, "10")));
+        given(watchClient.watchLeadershipPrefix(PREEMPTION_KEY, true, 10L, "300s", null, null))
+                .willReturn(Mono.just(HttpResponse.ok(List.of(new KeyValue(11, PREEMPTION_KEY, encode(5), null)))
+                        .header(ConsulIndex.HEADER, "11")));
+        given(watchClient.watchLeadershipPrefix(PREEMPTION_KEY, true, 11L, "300s", null, null))
+                .willReturn(Mono.just(HttpResponse.ok(List.of(new KeyValue(12, PREEMPTION_KEY, encode(5), "challenger")))
+                        .header(ConsulIndex.HEADER, "12")));
+
+        // when
+        final var caught = catchException(() -> candidatePriority.awaitPreemption("leader").block(Duration.ofSeconds(1)));
+
+        // then
+        // the request of a gone candidate, at index 11, is ignored
+        assertThat(caught).isNull();
+    }
+
+    @Test
+    void awaitPreemption_should_neverComplete_when_noPriority() {
+        // when
+        final var caught = catchException(() -> candidatePriority.awaitPreemption("leader").block(Duration.ofMillis(100)));
+
+        // then
+        assertThat(caught).isInstanceOf(IllegalStateException.class);
+        then(watchClient).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void clearPreemption_should_deleteRequest() {
+        // given
+        given(client.deleteKey(PREEMPTION_KEY, null)).willReturn(Mono.just(true));
+
+        // when
+        candidatePriority.clearPreemption("leader").block();
+
+        // then
+        then(client).should().deleteKey(PREEMPTION_KEY, null);
+    }
+
+    private static Mono<HttpResponse<List<KeyValue>>> response(final KeyValue... keyValues) {
+        return Mono.just(HttpResponse.ok(List.of(keyValues)));
+    }
+
+    private static KeyValue priority(final String session, final int priority) {
+        return new KeyValue(1, PRIORITIES_PATH + session, encode(priority), session);
+    }
+
+    private static String encode(final int priority) {
+        return Base64.getEncoder().encodeToString(String.valueOf(priority).getBytes());
+    }
+}
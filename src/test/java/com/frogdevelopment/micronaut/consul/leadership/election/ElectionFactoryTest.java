@@ -0,0 +1,150 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.NamedElectionConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
+import com.frogdevelopment.micronaut.consul.leadership.kubernetes.KubernetesInfoResolver;
+
+@ExtendWith(MockitoExtension.class)
+class ElectionFactoryTest {
+
+    private final ElectionFactory electionFactory = new ElectionFactory();
+
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private LeadershipConfiguration.HierarchicalConfiguration hierarchicalConfiguration;
+    @Mock
+    private KubernetesInfoResolver kubernetesInfoResolver;
+
+    @Test
+    void should_createDefaultElection() {
+        // given
+        given(configuration.getPath()).willReturn("leadership/my-app");
+        given(configuration.getHierarchical()).willReturn(hierarchicalConfiguration);
+        given(hierarchicalConfiguration.isEnabled()).willReturn(false);
+
+        // when
+        final var election = electionFactory.defaultElection(configuration);
+
+        // then
+        assertThat(election.name()).isEqualTo(Election.DEFAULT_NAME);
+        assertThat(election.path()).isEqualTo("leadership/my-app");
+        assertThat(election.isDefault()).isTrue();
+        assertThat(election.hasParent()).isFalse();
+    }
+
+    @Test
+    void should_createDefaultElection_childOfClusterElection_when_hierarchical() {
+        // given
+        given(configuration.getPath()).willReturn("leadership/my-app");
+        given(configuration.getHierarchical()).willReturn(hierarchicalConfiguration);
+        given(hierarchicalConfiguration.isEnabled()).willReturn(true);
+
+        // when
+        final var election = electionFactory.defaultElection(configuration);
+
+        // then
+        assertThat(election.path()).isEqualTo("leadership/my-app");
+        assertThat(election.parent()).isEqualTo(Election.CLUSTER_NAME);
+    }
+
+    @Test
+    void should_createClusterElection_with_configuredClusterName() {
+        // given
+        given(configuration.getPath()).willReturn("leadership/my-app");
+        given(configuration.getHierarchical()).willReturn(hierarchicalConfiguration);
+        given(hierarchicalConfiguration.getClusterName()).willReturn(Optional.of("eu-west"));
+
+        // when
+        final var election = electionFactory.clusterElection(configuration, Optional.of(kubernetesInfoResolver));
+
+        // then
+        assertThat(election.name()).isEqualTo(Election.CLUSTER_NAME);
+        assertThat(election.path()).isEqualTo("leadership/my-app/clusters/eu-west");
+        assertThat(election.hasParent()).isFalse();
+    }
+
+    @Test
+    void should_createClusterElection_with_resolvedClusterName() {
+        // given
+        given(configuration.getPath()).willReturn("leadership/my-app");
+        given(configuration.getHierarchical()).willReturn(hierarchicalConfiguration);
+        given(hierarchicalConfiguration.getClusterName()).willReturn(Optional.empty());
+        given(kubernetesInfoResolver.resolveClusterName()).willReturn(Optional.of("https://10.0.0.1:6443"));
+
+        // when
+        final var election = electionFactory.clusterElection(configuration, Optional.of(kubernetesInfoResolver));
+
+        // then
+        assertThat(election.path()).isEqualTo("leadership/my-app/clusters/https_10.0.0.1_6443");
+    }
+
+    @Test
+    void should_throw_when_noClusterName() {
+        // given
+        given(configuration.getHierarchical()).willReturn(hierarchicalConfiguration);
+        given(hierarchicalConfiguration.getClusterName()).willReturn(Optional.empty());
+
+        // when
+        final Optional<KubernetesInfoResolver> noResolver = Optional.empty();
+        assertThatThrownBy(() -> electionFactory.clusterElection(configuration, noResolver))
+                // then
+                .isInstanceOf(NonRecoverableElectionException.class);
+    }
+
+    @Test
+    void should_createNamedElection_with_configuredPath() {
+        // given
+        final var namedElection = new NamedElectionConfiguration("billing-batch");
+        namedElection.setPath("leadership/billing");
+
+        // when
+        final var election = electionFactory.namedElection(namedElection, configuration);
+
+        // then
+        assertThat(election.name()).isEqualTo("billing-batch");
+        assertThat(election.path()).isEqualTo("leadership/billing");
+        assertThat(election.isDefault()).isFalse();
+    }
+
+    @Test
+    void should_createNamedElection_with_defaultPath() {
+        // given
+        final var namedElection = new NamedElectionConfiguration("billing-batch");
+        given(configuration.getPath()).willReturn("leadership/my-app");
+
+        // when
+        final var election = electionFactory.namedElection(namedElection, configuration);
+
+        // then
+        assertThat(election.name()).isEqualTo("billing-batch");
+        assertThat(election.path()).isEqualTo("leadership/my-app/billing-batch");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {Election.DEFAULT_NAME, Election.CLUSTER_NAME})
+    void should_throw_when_namedElectionHasReservedName(final String name) {
+        // given
+        final var namedElection = new NamedElectionConfiguration(name);
+
+        // when
+        assertThatThrownBy(() -> electionFactory.namedElection(namedElection, configuration))
+                // then
+                .isInstanceOf(NonRecoverableElectionException.class)
+                .hasMessageContaining("reserved");
+    }
+}
@@ -0,0 +1,98 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipChangeEvent;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+@ExtendWith(MockitoExtension.class)
+class HierarchicalElectionCoordinatorTest {
+
+    private static final Election CLUSTER_ELECTION = new Election(Election.CLUSTER_NAME, "my-path/clusters/eu-west");
+    private static final Election DEFAULT_ELECTION = new Election(Election.DEFAULT_NAME, "my-path", Election.CLUSTER_NAME);
+
+    @InjectMocks
+    private HierarchicalElectionCoordinator coordinator;
+
+    @Mock
+    private BeanLocator beanLocator;
+    @Mock
+    private LeaderElectionOrchestrator defaultOrchestrator;
+
+    @Test
+    void should_startChildElection_when_parentLeadershipAcquired() {
+        // given
+        given(beanLocator.getBeansOfType(Election.class)).willReturn(List.of(CLUSTER_ELECTION, DEFAULT_ELECTION));
+        given(beanLocator.getBean(LeaderElectionOrchestrator.class, Qualifiers.byName(Election.DEFAULT_NAME))).willReturn(defaultOrchestrator);
+
+        // when
+        coordinator.onLeadershipChange(new LeadershipChangeEvent(Election.CLUSTER_NAME, true));
+
+        // then
+        then(defaultOrchestrator).should().start();
+        then(defaultOrchestrator).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_startChildElectionOnce_when_parentLeadershipAcquiredTwice() {
+        // given
+        given(beanLocator.getBeansOfType(Election.class)).willReturn(List.of(CLUSTER_ELECTION, DEFAULT_ELECTION));
+        given(beanLocator.getBean(LeaderElectionOrchestrator.class, Qualifiers.byName(Election.DEFAULT_NAME))).willReturn(defaultOrchestrator);
+
+        // when
+        coordinator.onLeadershipChange(new LeadershipChangeEvent(Election.CLUSTER_NAME, true));
+        coordinator.onLeadershipChange(new LeadershipChangeEvent(Election.CLUSTER_NAME, true));
+
+        // then
+        then(defaultOrchestrator).should().start();
+        then(defaultOrchestrator).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_stopChildElection_when_parentLeadershipLost() {
+        // given
+        given(beanLocator.getBeansOfType(Election.class)).willReturn(List.of(CLUSTER_ELECTION, DEFAULT_ELECTION));
+        given(beanLocator.getBean(LeaderElectionOrchestrator.class, Qualifiers.byName(Election.DEFAULT_NAME))).willReturn(defaultOrchestrator);
+        coordinator.onLeadershipChange(new LeadershipChangeEvent(Election.CLUSTER_NAME, true));
+
+        // when
+        coordinator.onLeadershipChange(new LeadershipChangeEvent(Election.CLUSTER_NAME, false));
+
+        // then
+        then(defaultOrchestrator).should().start();
+        then(defaultOrchestrator).should().stop();
+        then(defaultOrchestrator).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_doNothing_when_notLeadingParent() {
+        // when
+        coordinator.onLeadershipChange(new LeadershipChangeEvent(Election.CLUSTER_NAME, false));
+
+        // then
+        then(beanLocator).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void should_doNothing_when_electionHasNoChild() {
+        // given
+        given(beanLocator.getBeansOfType(Election.class)).willReturn(List.of(CLUSTER_ELECTION, DEFAULT_ELECTION));
+
+        // when
+        coordinator.onLeadershipChange(new LeadershipChangeEvent(Election.DEFAULT_NAME, true));
+
+        // then
+        then(defaultOrchestrator).shouldHaveNoInteractions();
+    }
+}
@@ -2,39 +2,44 @@ package com.frogdevelopment.micronaut.consul.leadership.election;
 
 import static io.micronaut.http.client.exceptions.ReadTimeoutException.TIMEOUT_EXCEPTION;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
-import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
 import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
 import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsPublisher;
 import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
 import com.frogdevelopment.micronaut.consul.leadership.session.SessionHandler;
+import com.frogdevelopment.micronaut.consul.leadership.watch.LeadershipWatcher;
 
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @ExtendWith(MockitoExtension.class)
 class LeaderElectionOrchestratorImplTest {
 
-    @InjectMocks
+    private static final Election ELECTION = new Election("my-election", "my-path");
+
     private LeaderElectionOrchestratorImpl leaderElectionOrchestrator;
 
     @Mock
-    private ConsulLeadershipClient client;
+    private LeadershipWatcher leadershipWatcher;
     @Mock
     private LeadershipConfiguration configuration;
     @Mock
@@ -42,6 +47,10 @@ class LeaderElectionOrchestratorImplTest {
     @Mock
     private LeadershipHandler leadershipHandler;
     @Mock
+    private LeadershipHandoff leadershipHandoff;
+    @Mock
+    private CandidatePriority candidatePriority;
+    @Mock
     private LeadershipEventsPublisher leadershipEventsPublisher;
 
     @Mock
@@ -49,24 +58,39 @@ class LeaderElectionOrchestratorImplTest {
     @Mock
     private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
     @Mock
+    private LeadershipConfiguration.WatchConfiguration watchConfiguration;
+    @Mock
     private Disposable disposable;
+    @Mock
+    private Retry.RetrySignal retrySignal;
+
+    @BeforeEach
+    void beforeEach() {
+        leaderElectionOrchestrator = new LeaderElectionOrchestratorImpl(ELECTION, leadershipWatcher, configuration, sessionHandler, leadershipHandler, leadershipHandoff, candidatePriority, leadershipEventsPublisher);
+    }
+
+    @Test
+    void isAutoStartup_should_returnFalse_when_electionHasParent() {
+        // given
+        final var childElection = new Election(Election.DEFAULT_NAME, "my-path", Election.CLUSTER_NAME);
+        final var childOrchestrator = new LeaderElectionOrchestratorImpl(childElection, leadershipWatcher, configuration, sessionHandler, leadershipHandler, leadershipHandoff, candidatePriority, leadershipEventsPublisher);
+
+        // when - then
+        assertThat(leaderElectionOrchestrator.isAutoStartup()).isTrue();
+        assertThat(childOrchestrator.isAutoStartup()).isFalse();
+    }
 
     @Test
-    void start_should_successfulLeadershipAcquisition() {
+    void start_should_applyThenWatch_when_leadershipAcquired() {
         // Given
         final var sessionId = "my-session-id";
-        given(sessionHandler.createNewSession()).willReturn(Mono.just(sessionId));
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
         given(leadershipHandler.acquireLeadership(sessionId)).willReturn(Mono.just(true));
-        given(sessionHandler.scheduleSessionRenewal()).willReturn(Mono.empty());
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
         given(leadershipHandler.readLeadershipInfo()).willReturn(Mono.just(1_234));
-
-        final var path = "leadership/test-app";
-        given(configuration.getPath()).willReturn(path);
-        given(client.watchLeadership(path, 1_234)).willAnswer(invocation -> {
-            waitForAsyncOperations(50);
-
-            return Mono.just(List.of(mockedKeyValue));
-        });
+        given(candidatePriority.awaitPreemption(sessionId)).willReturn(Mono.never());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1_234)).willReturn(Mono.never());
 
         // When
         leaderElectionOrchestrator.start();
@@ -75,26 +99,25 @@ class LeaderElectionOrchestratorImplTest {
 
         // Then
         then(sessionHandler).shouldHaveNoMoreInteractions();
+        then(leadershipHandoff).shouldHaveNoInteractions();
+        assertThat(leaderElectionOrchestrator.getLockSession()).isEqualTo(sessionId);
+        assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(1_234);
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+        assertThat(leaderElectionOrchestrator.getListener().isDisposed()).isFalse();
         assertThat(leaderElectionOrchestrator.getClosing()).isFalse();
     }
 
     @Test
-    void start_should_failedLeadershipAcquisition() {
+    void start_should_applyThenWatch_when_leadershipAcquisitionFailed() {
         // Given
         final var sessionId = "my-session-id";
-        given(sessionHandler.createNewSession()).willReturn(Mono.just(sessionId));
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
         given(leadershipHandler.acquireLeadership(sessionId)).willReturn(Mono.just(false));
-        given(sessionHandler.destroySession()).willReturn(Mono.empty());
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.registerCandidate(sessionId)).willReturn(Mono.empty());
         given(leadershipHandler.readLeadershipInfo()).willReturn(Mono.just(1_234));
-
-        final var path = "leadership/test-app";
-        given(configuration.getPath()).willReturn(path);
-        given(client.watchLeadership(path, 1_234)).willAnswer(invocation -> {
-            waitForAsyncOperations(50);
-
-            return Mono.just(List.of(mockedKeyValue));
-        });
-        given(mockedKeyValue.getModifyIndex()).willReturn(1_234);
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1_234)).willReturn(Mono.never());
 
         // When
         leaderElectionOrchestrator.start();
@@ -102,17 +125,38 @@ class LeaderElectionOrchestratorImplTest {
         waitForAsyncOperations();
 
         // Then
+        then(sessionHandler).should(never()).destroySession(ELECTION.name());
         then(sessionHandler).shouldHaveNoMoreInteractions();
+        then(leadershipHandoff).should().registerCandidate(sessionId);
+        assertThat(leaderElectionOrchestrator.getLockSession()).isNull();
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+        assertThat(leaderElectionOrchestrator.getListener().isDisposed()).isFalse();
         assertThat(leaderElectionOrchestrator.getClosing()).isFalse();
     }
 
+    @Test
+    void start_should_disposePreviousListener() {
+        // given
+        leaderElectionOrchestrator.setListener(disposable);
+        given(disposable.isDisposed()).willReturn(false);
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.never());
+
+        // when
+        leaderElectionOrchestrator.start();
+        waitForAsyncOperations();
+
+        // then
+        then(disposable).should().dispose();
+        assertThat(leaderElectionOrchestrator.getListener()).isNotEqualTo(disposable);
+    }
+
     @Test
     void start_should_immediatelyStop_when_NonRecoverableErrorOccurs() {
         // given
-        given(sessionHandler.createNewSession()).willReturn(Mono.error(new NonRecoverableElectionException("boom")));
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.error(new NonRecoverableElectionException("boom")));
 
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.empty());
-        given(sessionHandler.destroySession()).willReturn(Mono.empty());
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getTimeoutMs()).willReturn(12);
 
@@ -122,16 +166,24 @@ class LeaderElectionOrchestratorImplTest {
 
         // then
         then(leadershipHandler).shouldHaveNoInteractions();
-        then(client).shouldHaveNoInteractions();
+        then(leadershipWatcher).shouldHaveNoInteractions();
         then(sessionHandler).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.getClosing()).isTrue();
     }
 
     @Test
     void start_should_reApplyForLeadership_when_RecoverableErrorOccursAndMaxRetriesNotReached() {
         // given
-        given(sessionHandler.createNewSession())
+        final var sessionId = "my-session-id";
+        given(sessionHandler.createNewSession(ELECTION.name()))
                 .willReturn(Mono.error(new IllegalStateException("boom")))
-                .willReturn(Mono.empty());
+                .willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandler.acquireLeadership(sessionId)).willReturn(Mono.just(false));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.registerCandidate(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandler.readLeadershipInfo()).willReturn(Mono.just(1_234));
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1_234)).willReturn(Mono.never());
 
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getMaxRetryAttempts()).willReturn(1);
@@ -142,19 +194,19 @@ class LeaderElectionOrchestratorImplTest {
         waitForAsyncOperations();
 
         // then
-        then(leadershipHandler).shouldHaveNoInteractions();
-        then(client).shouldHaveNoInteractions();
+        then(sessionHandler).should(times(2)).createNewSession(ELECTION.name());
         then(sessionHandler).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.getClosing()).isFalse();
     }
 
     @Test
     void start_should_stopImmediately_when_RecoverableErrorOccursAndMaxRetriesReached() {
         // given
-        given(sessionHandler.createNewSession())
+        given(sessionHandler.createNewSession(ELECTION.name()))
                 .willReturn(Mono.error(new IllegalStateException("boom")));
 
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.empty());
-        given(sessionHandler.destroySession()).willReturn(Mono.empty());
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getMaxRetryAttempts()).willReturn(0);
         given(electionConfiguration.getTimeoutMs()).willReturn(12);
@@ -165,126 +217,217 @@ class LeaderElectionOrchestratorImplTest {
 
         // then
         then(leadershipHandler).shouldHaveNoInteractions();
-        then(client).shouldHaveNoInteractions();
+        then(leadershipWatcher).shouldHaveNoInteractions();
         then(sessionHandler).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.getClosing()).isTrue();
     }
 
     @Test
-    void watchForLeadershipInfoChanges_should_keepListenerReference() {
+    void electionCycle_should_onlyWatch_when_notApplying() {
         // given
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        given(leadershipWatcher.watchLeadership("my-path", 1234)).willReturn(Mono.just(List.of(mockedKeyValue)));
+        given(mockedKeyValue.getModifyIndex()).willReturn(5678);
+        given(mockedKeyValue.getSession()).willReturn("my-session-id");
+        given(mockedKeyValue.getValue()).willReturn("my-kv-content");
 
         // when
-        leaderElectionOrchestrator.watchForLeadershipInfoChanges(Mono.empty());
+        leaderElectionOrchestrator.electionCycle().block();
 
         // then
-        then(disposable).should(never()).dispose();
-        assertThat(leaderElectionOrchestrator.getListener()).isNotNull();
+        assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(5678);
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+        then(sessionHandler).shouldHaveNoInteractions();
+        then(leadershipHandler).shouldHaveNoInteractions();
+        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange(5678, "my-kv-content");
     }
 
     @Test
-    void watchForLeadershipInfoChanges_should_disposePreviousNoDisposedListener() {
+    void electionCycle_should_rateLimit_when_indexDidNotAdvance() {
         // given
-        leaderElectionOrchestrator.setListener(disposable);
-        given(disposable.isDisposed()).willReturn(false);
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        given(leadershipWatcher.watchLeadership("my-path", 1234)).willReturn(Mono.just(List.of(mockedKeyValue)));
+        given(mockedKeyValue.getModifyIndex()).willReturn(1234);
+        given(configuration.getWatch()).willReturn(watchConfiguration);
+        given(watchConfiguration.getRateLimitDelay()).willReturn(Duration.ofMillis(50));
 
         // when
-        leaderElectionOrchestrator.watchForLeadershipInfoChanges(Mono.empty());
+        final var start = System.nanoTime();
+        leaderElectionOrchestrator.electionCycle().block();
 
         // then
-        then(disposable).should().dispose();
-        assertThat(leaderElectionOrchestrator.getListener()).isNotEqualTo(disposable);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(1234);
+        then(leadershipEventsPublisher).shouldHaveNoInteractions();
     }
 
     @Test
-    void watchForLeadershipInfoChanges_should_notDisposePreviousDisposedListener() {
+    void electionCycle_should_resetIndex_when_indexWentBackwards() {
         // given
-        leaderElectionOrchestrator.setListener(disposable);
-        given(disposable.isDisposed()).willReturn(true);
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        given(leadershipWatcher.watchLeadership("my-path", 1234)).willReturn(Mono.just(List.of(mockedKeyValue)));
+        given(mockedKeyValue.getModifyIndex()).willReturn(12);
+        given(mockedKeyValue.getSession()).willReturn("my-session-id");
+        given(mockedKeyValue.getValue()).willReturn("my-kv-content");
 
         // when
-        leaderElectionOrchestrator.watchForLeadershipInfoChanges(Mono.empty());
+        leaderElectionOrchestrator.electionCycle().block();
 
         // then
-        then(disposable).shouldHaveNoMoreInteractions();
-        assertThat(leaderElectionOrchestrator.getListener()).isNotEqualTo(disposable);
+        assertThat(leaderElectionOrchestrator.getModifyIndex()).isZero();
+        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange(12, "my-kv-content");
     }
 
     @Test
-    void watchForLeadershipInfoChanges_should_handleWatchTimeout() {
+    void electionCycle_should_keepIndex_when_watchTimeout() {
         // given
-        given(configuration.getPath()).willReturn("my-path");
-        given(client.watchLeadership("my-path", 1234)).willReturn(Mono.error(TIMEOUT_EXCEPTION));
-        leaderElectionOrchestrator.setModifyIndex(5678);
-        given(client.watchLeadership("my-path", 5678)).willReturn(Mono.empty());
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        given(leadershipWatcher.watchLeadership("my-path", 1234)).willReturn(Mono.error(TIMEOUT_EXCEPTION));
 
         // when
-        leaderElectionOrchestrator.watchForLeadershipInfoChanges(Mono.just(1234));
-        waitForAsyncOperations();
+        leaderElectionOrchestrator.electionCycle().block();
 
         // then
-        then(client).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(1234);
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+        then(leadershipEventsPublisher).shouldHaveNoInteractions();
     }
 
     @Test
-    void watchForLeadershipInfoChanges_should_immediatelyStop_when_NonRecoverableErrorOccurs() {
+    void electionCycle_should_applyAtNextCycle_when_keyNotFound() {
         // given
-        given(configuration.getPath()).willReturn("my-path");
-        given(configuration.getElection()).willReturn(electionConfiguration);
-        given(electionConfiguration.getTimeoutMs()).willReturn(12);
-        given(client.watchLeadership("my-path", 1234)).willReturn(Mono.error(new NonRecoverableElectionException("boom")));
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.just("session-id"));
-        given(leadershipHandler.releaseLeadership("session-id")).willReturn(Mono.empty());
-        given(sessionHandler.destroySession()).willReturn(Mono.empty());
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        given(leadershipWatcher.watchLeadership("my-path", 1234)).willReturn(Mono.empty());
 
         // when
-        leaderElectionOrchestrator.watchForLeadershipInfoChanges(Mono.just(1234));
-        waitForAsyncOperations();
+        leaderElectionOrchestrator.electionCycle().block();
 
         // then
-        then(client).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.isApplying()).isTrue();
+        then(sessionHandler).shouldHaveNoInteractions();
     }
 
     @Test
-    void watchForLeadershipInfoChanges_stopImmediately_when_RecoverableErrorOccursAndMaxRetriesReached() {
+    void electionCycle_should_fail_when_watchFails() {
         // given
-        given(configuration.getPath()).willReturn("my-path");
-        given(client.watchLeadership("my-path", 1234)).willReturn(Mono.error(new RuntimeException("boom")));
-        leaderElectionOrchestrator.setModifyIndex(5678);
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        given(leadershipWatcher.watchLeadership("my-path", 1234)).willReturn(Mono.error(new RuntimeException("boom")));
 
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.empty());
-        given(sessionHandler.destroySession()).willReturn(Mono.empty());
-        given(configuration.getElection()).willReturn(electionConfiguration);
-        given(electionConfiguration.getMaxRetryAttempts()).willReturn(0);
-        given(electionConfiguration.getTimeoutMs()).willReturn(12);
+        // when
+        final var cycle = leaderElectionOrchestrator.electionCycle();
+        final var caught = catchException(cycle::block);
+
+        // then
+        assertThat(caught).isInstanceOf(RuntimeException.class).hasMessage("boom");
+        assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(1234);
+    }
+
+    @Test
+    void electionCycle_should_keepApplying_when_applicationFails() {
+        // given
+        leaderElectionOrchestrator.setApplying(true);
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.error(new RuntimeException("boom")));
 
         // when
-        leaderElectionOrchestrator.watchForLeadershipInfoChanges(Mono.just(1234));
-        waitForAsyncOperations();
+        final var cycle = leaderElectionOrchestrator.electionCycle();
+        final var caught = catchException(cycle::block);
+
+        // then
+        assertThat(caught).isInstanceOf(RuntimeException.class).hasMessage("boom");
+        assertThat(leaderElectionOrchestrator.isApplying()).isTrue();
+        then(leadershipWatcher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void electionCycle_should_applyWithNewSession_when_sessionInvalidated() {
+        // given
+        leaderElectionOrchestrator.setApplying(true);
+        given(sessionHandler.createNewSession(ELECTION.name()))
+                .willReturn(Mono.just("invalidated-session"))
+                .willReturn(Mono.just("new-session"));
+        given(candidatePriority.register("invalidated-session")).willReturn(Mono.empty());
+        given(leadershipHandler.acquireLeadership("invalidated-session")).willReturn(Mono.error(new RuntimeException("invalid session")));
+        given(sessionHandler.checkSession("invalidated-session")).willReturn(Mono.just(false));
+        given(candidatePriority.register("new-session")).willReturn(Mono.empty());
+        given(leadershipHandler.acquireLeadership("new-session")).willReturn(Mono.just(true));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandler.readLeadershipInfo()).willReturn(Mono.just(1_234));
+        given(candidatePriority.awaitPreemption("new-session")).willReturn(Mono.never());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1_234))
+                .willReturn(Mono.just(List.of(new KeyValue(1_235, ELECTION.path(), "value", "new-session"))));
+
+        // when
+        leaderElectionOrchestrator.electionCycle().block();
 
         // then
-        then(client).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.getLockSession()).isEqualTo("new-session");
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
     }
 
     @Test
-    void watchForLeadershipInfoChanges_should_reWatch_when_RecoverableErrorOccursAndMaxRetriesNotReached() {
+    void electionCycle_should_fail_when_acquisitionFailsWithValidSession() {
         // given
-        given(configuration.getPath()).willReturn("my-path");
-        given(client.watchLeadership("my-path", 1234)).willReturn(Mono.error(new RuntimeException("boom")));
-        leaderElectionOrchestrator.setModifyIndex(5678);
-        given(client.watchLeadership("my-path", 5678)).willReturn(Mono.empty());
+        leaderElectionOrchestrator.setApplying(true);
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just("session-id"));
+        given(candidatePriority.register("session-id")).willReturn(Mono.empty());
+        given(leadershipHandler.acquireLeadership("session-id")).willReturn(Mono.error(new RuntimeException("boom")));
+        given(sessionHandler.checkSession("session-id")).willReturn(Mono.just(true));
 
+        // when
+        final var cycle = leaderElectionOrchestrator.electionCycle();
+        final var caught = catchException(cycle::block);
+
+        // then
+        assertThat(caught).isInstanceOf(RuntimeException.class).hasMessage("boom");
+        assertThat(leaderElectionOrchestrator.isApplying()).isTrue();
+        then(sessionHandler).should(times(1)).createNewSession(ELECTION.name());
+        then(leadershipWatcher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void onCycleError_should_stop_when_NonRecoverableErrorOccurs() {
+        // given
+        final var exception = new NonRecoverableElectionException("boom");
+        given(retrySignal.failure()).willReturn(exception);
+
+        // when
+        final var retry = leaderElectionOrchestrator.onCycleError(retrySignal);
+        final var caught = catchException(retry::block);
+
+        // then
+        assertThat(caught).isSameAs(exception);
+        then(configuration).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void onCycleError_should_delayRetry_when_maxRetriesNotReached() {
+        // given
+        given(retrySignal.failure()).willReturn(new RuntimeException("boom"));
         given(configuration.getElection()).willReturn(electionConfiguration);
-        given(electionConfiguration.getMaxRetryAttempts()).willReturn(2);
+        given(electionConfiguration.getMaxRetryAttempts()).willReturn(1);
         given(electionConfiguration.getRetryDelayMs()).willReturn(5);
 
-        given(sessionHandler.createNewSession()).willReturn(Mono.empty());
+        // when
+        final var retry = leaderElectionOrchestrator.onCycleError(retrySignal).block();
+
+        // then
+        assertThat(retry).isZero();
+    }
+
+    @Test
+    void onCycleError_should_stop_when_maxRetriesReached() {
+        // given
+        final var exception = new RuntimeException("boom");
+        given(retrySignal.failure()).willReturn(exception);
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getMaxRetryAttempts()).willReturn(0);
 
         // when
-        leaderElectionOrchestrator.watchForLeadershipInfoChanges(Mono.just(1234));
-        waitForAsyncOperations();
+        final var retry = leaderElectionOrchestrator.onCycleError(retrySignal);
+        final var caught = catchException(retry::block);
 
         // then
-        then(client).shouldHaveNoMoreInteractions();
+        assertThat(caught).isSameAs(exception);
     }
 
     @Test
@@ -297,7 +440,8 @@ class LeaderElectionOrchestratorImplTest {
 
         // then
         assertThat(leaderElectionOrchestrator.getModifyIndex()).isNull();
-        then(client).shouldHaveNoInteractions();
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+        then(leadershipWatcher).shouldHaveNoInteractions();
         then(sessionHandler).shouldHaveNoInteractions();
         then(leadershipHandler).shouldHaveNoInteractions();
         then(leadershipEventsPublisher).shouldHaveNoInteractions();
@@ -305,16 +449,14 @@ class LeaderElectionOrchestratorImplTest {
 
     @Test
     void onLeadershipChanges_should_applyForLeadership_when_listIsEmpty() {
-        // given
-        given(sessionHandler.createNewSession()).willReturn(Mono.empty());
-
         // when
         leaderElectionOrchestrator.onLeadershipChanges(List.of());
 
         // then
         assertThat(leaderElectionOrchestrator.getModifyIndex()).isNull();
-        then(client).shouldHaveNoInteractions();
-        then(sessionHandler).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.isApplying()).isTrue();
+        then(leadershipWatcher).shouldHaveNoInteractions();
+        then(sessionHandler).shouldHaveNoInteractions();
         then(leadershipHandler).shouldHaveNoInteractions();
         then(leadershipEventsPublisher).shouldHaveNoInteractions();
     }
@@ -322,7 +464,6 @@ class LeaderElectionOrchestratorImplTest {
     @Test
     void onLeadershipChanges_should_applyForLeadership_when_kvHasNoLock() {
         // given
-        given(sessionHandler.createNewSession()).willReturn(Mono.empty());
         given(mockedKeyValue.getModifyIndex()).willReturn(1234);
         given(mockedKeyValue.getSession()).willReturn(null);
         given(mockedKeyValue.getValue()).willReturn("my-kv-content");
@@ -332,10 +473,224 @@ class LeaderElectionOrchestratorImplTest {
 
         // then
         assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(1234);
-        then(client).shouldHaveNoInteractions();
-        then(sessionHandler).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.isApplying()).isTrue();
+        then(leadershipWatcher).shouldHaveNoInteractions();
+        then(sessionHandler).shouldHaveNoInteractions();
+        then(leadershipHandler).shouldHaveNoInteractions();
+        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange(1234, "my-kv-content");
+    }
+
+    @Test
+    void onLeadershipChanges_should_keepLockedIndex_when_lockReleased() {
+        // given
+        leaderElectionOrchestrator.setModifyIndex(1233);
+        leaderElectionOrchestrator.setLockSession("my-session-id");
+        given(mockedKeyValue.getModifyIndex()).willReturn(1234);
+        given(mockedKeyValue.getSession()).willReturn(null);
+        given(mockedKeyValue.getValue()).willReturn("my-kv-content");
+
+        // when
+        leaderElectionOrchestrator.onLeadershipChanges(List.of(mockedKeyValue));
+
+        // then
+        assertThat(leaderElectionOrchestrator.getReleasedIndex()).isEqualTo(1233);
+        assertThat(leaderElectionOrchestrator.getLockSession()).isNull();
+        assertThat(leaderElectionOrchestrator.isApplying()).isTrue();
+        then(leadershipEventsPublisher).should().publishLeadershipChangeEvent(false);
+    }
+
+    @Test
+    void electionCycle_should_waitForSuccessor_when_leadershipHandedOff() {
+        // given
+        final var sessionId = "my-session-id";
+        leaderElectionOrchestrator.setApplying(true);
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        leaderElectionOrchestrator.setReleasedIndex(1233);
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandoff.applicationDelay(sessionId, 1233)).willReturn(Mono.just(Duration.ofMillis(100)));
+        given(leadershipHandler.acquireLeadership(sessionId)).willReturn(Mono.just(false));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.registerCandidate(sessionId)).willReturn(Mono.empty());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1234)).willReturn(Mono.just(List.of(mockedKeyValue)));
+        given(mockedKeyValue.getModifyIndex()).willReturn(1235);
+        given(mockedKeyValue.getSession()).willReturn("successor-session-id");
+
+        // when
+        final var start = System.nanoTime();
+        leaderElectionOrchestrator.electionCycle().block();
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(leaderElectionOrchestrator.getReleasedIndex()).isNull();
+        assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(1235);
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+    }
+
+    @Test
+    void electionCycle_should_waitForHigherPriorities_when_noSuccessorDesignated() {
+        // given
+        final var sessionId = "my-session-id";
+        leaderElectionOrchestrator.setApplying(true);
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        leaderElectionOrchestrator.setReleasedIndex(1233);
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandoff.applicationDelay(sessionId, 1233)).willReturn(Mono.empty());
+        given(candidatePriority.applicationDelay()).willReturn(Mono.just(Duration.ofMillis(100)));
+        given(leadershipHandler.acquireLeadership(sessionId)).willReturn(Mono.just(true));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandler.readLeadershipInfo()).willReturn(Mono.just(1235));
+        given(candidatePriority.awaitPreemption(sessionId)).willReturn(Mono.never());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1235)).willReturn(Mono.just(List.of(mockedKeyValue)));
+        given(mockedKeyValue.getModifyIndex()).willReturn(1236);
+        given(mockedKeyValue.getSession()).willReturn(sessionId);
+
+        // when
+        final var start = System.nanoTime();
+        leaderElectionOrchestrator.electionCycle().block();
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+        assertThat(leaderElectionOrchestrator.getLockSession()).isEqualTo(sessionId);
+    }
+
+    @Test
+    void onLeadershipChanges_should_preemptNewLeader_when_preemptive() {
+        // given
+        given(mockedKeyValue.getModifyIndex()).willReturn(1234);
+        given(mockedKeyValue.getSession()).willReturn("leader-session-id");
+        given(mockedKeyValue.getValue()).willReturn("my-kv-content");
+        given(candidatePriority.isPreemptive()).willReturn(true);
+
+        // when
+        leaderElectionOrchestrator.onLeadershipChanges(List.of(mockedKeyValue));
+        leaderElectionOrchestrator.setApplying(false);
+        leaderElectionOrchestrator.setLeaderToPreempt(null);
+        leaderElectionOrchestrator.onLeadershipChanges(List.of(mockedKeyValue));
+
+        // then
+        then(candidatePriority).should().isPreemptive();
+        assertThat(leaderElectionOrchestrator.getLeaderToPreempt()).isNull();
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+    }
+
+    @Test
+    void electionCycle_should_askLeaderToStepDown_insteadOfReleasingItsLock() {
+        // given
+        final var sessionId = "my-session-id";
+        leaderElectionOrchestrator.setApplying(true);
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        leaderElectionOrchestrator.setLeaderToPreempt("leader-session-id");
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
+        given(candidatePriority.preempt(sessionId, "leader-session-id")).willReturn(Mono.just(true));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.registerCandidate(sessionId)).willReturn(Mono.empty());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1234)).willReturn(Mono.just(List.of(mockedKeyValue)));
+        given(mockedKeyValue.getModifyIndex()).willReturn(1234);
+        given(configuration.getWatch()).willReturn(watchConfiguration);
+        given(watchConfiguration.getRateLimitDelay()).willReturn(Duration.ofMillis(1));
+
+        // when
+        leaderElectionOrchestrator.electionCycle().block();
+
+        // then
+        // neither released with the session of the leader, nor acquired before the leader released it
+        then(leadershipHandler).shouldHaveNoInteractions();
+        assertThat(leaderElectionOrchestrator.getLockSession()).isNull();
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+    }
+
+    @Test
+    void electionCycle_should_stepDownThenRelease_when_askedByHigherPriority() {
+        // given
+        final var sessionId = "my-session-id";
+        leaderElectionOrchestrator.setApplying(true);
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandler.acquireLeadership(sessionId)).willReturn(Mono.just(true));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandler.readLeadershipInfo()).willReturn(Mono.just(1235));
+        // asked to step down right after acquiring
+        given(candidatePriority.awaitPreemption(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandler.releaseLeadership(sessionId)).willReturn(Mono.empty());
+        given(candidatePriority.clearPreemption(sessionId)).willReturn(Mono.empty());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1235))
+                .willReturn(Mono.just(List.of(new KeyValue(1_236, ELECTION.path(), "value", null))));
+
+        // when
+        leaderElectionOrchestrator.electionCycle().block();
+
+        // then
+        final var inOrder = inOrder(leadershipEventsPublisher, leadershipHandler, candidatePriority);
+        inOrder.verify(leadershipEventsPublisher).publishLeadershipChangeEvent(false);
+        inOrder.verify(leadershipHandler).releaseLeadership(sessionId);
+        inOrder.verify(candidatePriority).clearPreemption(sessionId);
+        assertThat(leaderElectionOrchestrator.getLockSession()).isNull();
+        // applying again once the lock is free, after the candidates of higher priority
+        assertThat(leaderElectionOrchestrator.isApplying()).isTrue();
+    }
+
+    @Test
+    void stop_should_stopWaitingForPreemption() {
+        // given
+        final var sessionId = "my-session-id";
+        leaderElectionOrchestrator.setApplying(true);
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandler.acquireLeadership(sessionId)).willReturn(Mono.just(true));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandler.readLeadershipInfo()).willReturn(Mono.just(1235));
+        given(candidatePriority.awaitPreemption(sessionId)).willReturn(Mono.never());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1235))
+                .willReturn(Mono.just(List.of(new KeyValue(1_236, ELECTION.path(), "value", sessionId))));
+        leaderElectionOrchestrator.electionCycle().block();
+        final var preemption = leaderElectionOrchestrator.getPreemption();
+        leaderElectionOrchestrator.setStarted(true);
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(leadershipHandoff.designateSuccessor(sessionId)).willReturn(Mono.empty());
+        given(leadershipHandler.releaseLeadership(sessionId)).willReturn(Mono.empty());
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.cleanUpCandidates()).willReturn(Mono.empty());
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(100);
+
+        // when
+        leaderElectionOrchestrator.stop();
+
+        // then
+        assertThat(preemption.isDisposed()).isTrue();
+        assertThat(leaderElectionOrchestrator.getPreemption()).isNull();
+        then(candidatePriority).should(never()).clearPreemption(sessionId);
+    }
+
+    @Test
+    void electionCycle_should_notApply_when_leaderNotPreempted() {
+        // given
+        final var sessionId = "my-session-id";
+        leaderElectionOrchestrator.setApplying(true);
+        leaderElectionOrchestrator.setModifyIndex(1234);
+        leaderElectionOrchestrator.setLeaderToPreempt("leader-session-id");
+        given(sessionHandler.createNewSession(ELECTION.name())).willReturn(Mono.just(sessionId));
+        given(candidatePriority.register(sessionId)).willReturn(Mono.empty());
+        given(candidatePriority.preempt(sessionId, "leader-session-id")).willReturn(Mono.just(false));
+        given(sessionHandler.scheduleSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.registerCandidate(sessionId)).willReturn(Mono.empty());
+        given(leadershipWatcher.watchLeadership(ELECTION.path(), 1234)).willReturn(Mono.just(List.of(mockedKeyValue)));
+        given(mockedKeyValue.getModifyIndex()).willReturn(1234);
+        given(configuration.getWatch()).willReturn(watchConfiguration);
+        given(watchConfiguration.getRateLimitDelay()).willReturn(Duration.ofMillis(1));
+
+        // when
+        leaderElectionOrchestrator.electionCycle().block();
+
+        // then
         then(leadershipHandler).shouldHaveNoInteractions();
-        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange("my-kv-content");
+        assertThat(leaderElectionOrchestrator.getLockSession()).isNull();
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
     }
 
     @Test
@@ -350,23 +705,23 @@ class LeaderElectionOrchestratorImplTest {
 
         // then
         assertThat(leaderElectionOrchestrator.getModifyIndex()).isEqualTo(1234);
-        assertThat(leaderElectionOrchestrator.getListener()).isNotNull();
-        then(client).shouldHaveNoMoreInteractions();
+        assertThat(leaderElectionOrchestrator.isApplying()).isFalse();
+        then(leadershipWatcher).shouldHaveNoInteractions();
         then(sessionHandler).shouldHaveNoInteractions();
         then(leadershipHandler).shouldHaveNoInteractions();
-        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange("my-kv-content");
+        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange(1234, "my-kv-content");
     }
 
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void stop_should_disposeListener_when_notDisposed(final boolean disposed) {
         // given
+        leaderElectionOrchestrator.setStarted(true);
         leaderElectionOrchestrator.setListener(disposable);
         leaderElectionOrchestrator.setModifyIndex(1234);
         given(disposable.isDisposed()).willReturn(disposed);
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.just("session-id"));
-        given(leadershipHandler.releaseLeadership("session-id")).willReturn(Mono.empty());
-        given(sessionHandler.destroySession()).willReturn(Mono.empty());
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.just("session-id"));
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getTimeoutMs()).willReturn(100);
 
@@ -376,18 +731,90 @@ class LeaderElectionOrchestratorImplTest {
 
         // then
         then(disposable).should(times(disposed ? 0 : 1)).dispose();
+        then(leadershipHandoff).shouldHaveNoInteractions();
+        then(leadershipHandler).shouldHaveNoInteractions();
         assertThat(leaderElectionOrchestrator.getListener()).isNull();
         assertThat(leaderElectionOrchestrator.getModifyIndex()).isNull();
         assertThat(leaderElectionOrchestrator.getClosing()).isTrue();
     }
 
+    @Test
+    void stop_should_designateSuccessor_when_leader() {
+        // given
+        leaderElectionOrchestrator.setStarted(true);
+        leaderElectionOrchestrator.setListener(disposable);
+        leaderElectionOrchestrator.setLockSession("session-id");
+        given(disposable.isDisposed()).willReturn(false);
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.just("session-id"));
+        given(leadershipHandoff.designateSuccessor("session-id")).willReturn(Mono.empty());
+        given(leadershipHandler.releaseLeadership("session-id")).willReturn(Mono.empty());
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.cleanUpCandidates()).willReturn(Mono.empty());
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(100);
+
+        // when
+        leaderElectionOrchestrator.stop();
+        waitForAsyncOperations();
+
+        // then
+        final var inOrder = inOrder(leadershipHandoff, leadershipHandler, sessionHandler);
+        inOrder.verify(leadershipHandoff).designateSuccessor("session-id");
+        inOrder.verify(leadershipHandler).releaseLeadership("session-id");
+        inOrder.verify(sessionHandler).destroySession(ELECTION.name());
+        inOrder.verify(leadershipHandoff).cleanUpCandidates();
+        assertThat(leaderElectionOrchestrator.getLockSession()).isNull();
+    }
+
+    @Test
+    void stop_should_onlyDestroySession_when_follower() {
+        // given
+        leaderElectionOrchestrator.setStarted(true);
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.just("session-id"));
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(100);
+
+        // when
+        leaderElectionOrchestrator.stop();
+
+        // then
+        then(sessionHandler).should().cancelSessionRenewal(ELECTION.name());
+        then(sessionHandler).should().destroySession(ELECTION.name());
+        then(leadershipHandler).shouldHaveNoInteractions();
+        then(leadershipHandoff).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void stop_should_releaseLeadership_when_cleanUpHangs() {
+        // given
+        leaderElectionOrchestrator.setStarted(true);
+        leaderElectionOrchestrator.setLockSession("session-id");
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.just("session-id"));
+        given(leadershipHandoff.designateSuccessor("session-id")).willReturn(Mono.empty());
+        given(leadershipHandler.releaseLeadership("session-id")).willReturn(Mono.empty());
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
+        given(leadershipHandoff.cleanUpCandidates()).willReturn(Mono.never());
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(100);
+
+        // when
+        leaderElectionOrchestrator.stop();
+
+        // then
+        then(leadershipHandler).should().releaseLeadership("session-id");
+        then(sessionHandler).should().destroySession(ELECTION.name());
+        assertThat(leaderElectionOrchestrator.isStarted()).isFalse();
+    }
+
     @Test
     void stop_should_complete_when_errorOccurs_at_cancelSessionRenewal() {
         // given
+        leaderElectionOrchestrator.setStarted(true);
         leaderElectionOrchestrator.setListener(disposable);
         leaderElectionOrchestrator.setModifyIndex(1234);
         given(disposable.isDisposed()).willReturn(false);
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.error(new RuntimeException("boom")));
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.error(new RuntimeException("boom")));
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getTimeoutMs()).willReturn(100);
 
@@ -405,11 +832,15 @@ class LeaderElectionOrchestratorImplTest {
     @Test
     void stop_should_complete_when_errorOccurs_at_releaseLeadership() {
         // given
+        leaderElectionOrchestrator.setStarted(true);
         leaderElectionOrchestrator.setListener(disposable);
         leaderElectionOrchestrator.setModifyIndex(1234);
+        leaderElectionOrchestrator.setLockSession("session-id");
         given(disposable.isDisposed()).willReturn(false);
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.just("session-id"));
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.just("session-id"));
+        given(leadershipHandoff.designateSuccessor("session-id")).willReturn(Mono.empty());
         given(leadershipHandler.releaseLeadership("session-id")).willReturn(Mono.error(new RuntimeException("boom")));
+        given(leadershipHandoff.cleanUpCandidates()).willReturn(Mono.empty());
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getTimeoutMs()).willReturn(100);
 
@@ -427,12 +858,12 @@ class LeaderElectionOrchestratorImplTest {
     @Test
     void stop_should_complete_when_errorOccurs_at_destroySession() {
         // given
+        leaderElectionOrchestrator.setStarted(true);
         leaderElectionOrchestrator.setListener(disposable);
         leaderElectionOrchestrator.setModifyIndex(1234);
         given(disposable.isDisposed()).willReturn(false);
-        given(sessionHandler.cancelSessionRenewal()).willReturn(Mono.just("session-id"));
-        given(leadershipHandler.releaseLeadership("session-id")).willReturn(Mono.empty());
-        given(sessionHandler.destroySession()).willReturn(Mono.error(new RuntimeException("boom")));
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.just("session-id"));
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.error(new RuntimeException("boom")));
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getTimeoutMs()).willReturn(100);
 
@@ -447,6 +878,37 @@ class LeaderElectionOrchestratorImplTest {
         assertThat(leaderElectionOrchestrator.getClosing()).isTrue();
     }
 
+    @Test
+    void stop_should_doNothing_when_notStarted() {
+        // when
+        leaderElectionOrchestrator.stop();
+
+        // then
+        then(sessionHandler).shouldHaveNoInteractions();
+        then(leadershipHandler).shouldHaveNoInteractions();
+        then(leadershipHandoff).shouldHaveNoInteractions();
+        assertThat(leaderElectionOrchestrator.getClosing()).isFalse();
+    }
+
+    @Test
+    void stop_should_doNothing_when_alreadyStopped() {
+        // given
+        leaderElectionOrchestrator.setStarted(true);
+        given(sessionHandler.cancelSessionRenewal(ELECTION.name())).willReturn(Mono.empty());
+        given(sessionHandler.destroySession(ELECTION.name())).willReturn(Mono.empty());
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(100);
+        leaderElectionOrchestrator.stop();
+
+        // when
+        leaderElectionOrchestrator.stop();
+
+        // then
+        then(sessionHandler).should(times(1)).cancelSessionRenewal(ELECTION.name());
+        then(sessionHandler).should(times(1)).destroySession(ELECTION.name());
+        assertThat(leaderElectionOrchestrator.isStarted()).isFalse();
+    }
+
     private void waitForAsyncOperations() {
         waitForAsyncOperations(200);
     }
@@ -3,19 +3,22 @@ package com.frogdevelopment.micronaut.consul.leadership.election;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
 import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
 import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
@@ -28,7 +31,8 @@ import reactor.core.publisher.Mono;
 @ExtendWith(MockitoExtension.class)
 class LeadershipHandlerTest {
 
-    @InjectMocks
+    private static final Election ELECTION = new Election("my-election", "path");
+
     private LeadershipHandlerImpl leadershipHandler;
 
     @Mock
@@ -36,7 +40,9 @@ class LeadershipHandlerTest {
     @Mock
     private LeadershipConfiguration configuration;
     @Mock
-    private LeadershipDetailsProvider leadershipDetailsProvider;
+    private LeadershipConfiguration.ConsistencyConfiguration consistencyConfiguration;
+    @Mock
+    private LeadershipDetailsProvider<LeadershipDetails> leadershipDetailsProvider;
     @Mock
     private LeadershipEventsPublisher leadershipEventsPublisher;
 
@@ -45,6 +51,13 @@ class LeadershipHandlerTest {
     @Mock
     private KeyValue keyValue;
 
+    @BeforeEach
+    void beforeEach() {
+        given(configuration.getConsistency()).willReturn(consistencyConfiguration);
+        given(consistencyConfiguration.getRead()).willReturn(ConsistencyMode.CONSISTENT);
+        leadershipHandler = new LeadershipHandlerImpl(ELECTION, client, configuration, leadershipDetailsProvider, leadershipEventsPublisher);
+    }
+
     @Test
     void acquireLeadership_should_stop_when_getLeadershipInfoFails() {
         // given
@@ -63,12 +76,26 @@ class LeadershipHandlerTest {
     }
 
     @Test
-    void acquireLeadership_should_return_FALSE_when_acquireLeadershipFails() {
+    void acquireLeadership_should_fail_when_acquireLeadershipFails() {
         // given
         given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
-        given(configuration.getPath()).willReturn("path");
         given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.error(new RuntimeException("boom boom")));
 
+        // when
+        final var caught = catchException(() -> leadershipHandler.acquireLeadership("sessionId").block());
+
+        // then
+        assertThat(caught).isInstanceOf(RuntimeException.class).hasMessage("boom boom");
+        then(client).shouldHaveNoMoreInteractions();
+        then(leadershipEventsPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void acquireLeadership_should_publishNotLeader_when_notAcquired() {
+        // given
+        given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
+        given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.just(false));
+
         // when
         final var result = leadershipHandler.acquireLeadership("sessionId").block();
 
@@ -78,28 +105,25 @@ class LeadershipHandlerTest {
         assertThat(result).isFalse();
     }
 
-    @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void acquireLeadership_should_return_resultFromClient(final boolean acquireLeadership) {
+    @Test
+    void acquireLeadership_should_notPublishYet_when_acquired() {
         // given
         given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
-        given(configuration.getPath()).willReturn("path");
-        given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.just(acquireLeadership));
+        given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.just(true));
 
         // when
         final var result = leadershipHandler.acquireLeadership("sessionId").block();
 
         // then
         then(client).shouldHaveNoMoreInteractions();
-        then(leadershipEventsPublisher).should().publishLeadershipChangeEvent(acquireLeadership);
-        assertThat(result).isEqualTo(acquireLeadership);
+        then(leadershipEventsPublisher).shouldHaveNoInteractions();
+        assertThat(result).isTrue();
     }
 
     @Test
     void readLeadershipInfo_should_stop_when_readLeadershipFails() {
         // given
-        given(configuration.getPath()).willReturn("path");
-        given(client.readLeadership("path")).willReturn(Mono.error(new RuntimeException("boom")));
+        given(client.readLeadership("path", null, true)).willReturn(Mono.error(new RuntimeException("boom")));
 
         // when
         final var caught = catchException(() -> leadershipHandler.readLeadershipInfo().block());
@@ -116,8 +140,7 @@ class LeadershipHandlerTest {
     @Test
     void readLeadershipInfo_should_stop_when_readLeadershipReturnEmpty() {
         // given
-        given(configuration.getPath()).willReturn("path");
-        given(client.readLeadership("path")).willReturn(Mono.empty());
+        given(client.readLeadership("path", null, true)).willReturn(Mono.empty());
 
         // when
         final var caught = catchException(() -> leadershipHandler.readLeadershipInfo().block());
@@ -133,8 +156,7 @@ class LeadershipHandlerTest {
     @Test
     void readLeadershipInfo_should_stop_when_readLeadershipReturnEmptyKv() {
         // given
-        given(configuration.getPath()).willReturn("path");
-        given(client.readLeadership("path")).willReturn(Mono.just(List.of()));
+        given(client.readLeadership("path", null, true)).willReturn(Mono.just(List.of()));
 
         // when
         final var caught = catchException(() -> leadershipHandler.readLeadershipInfo().block());
@@ -150,8 +172,7 @@ class LeadershipHandlerTest {
     @Test
     void readLeadershipInfo_should_returnModifyIndexAndPublishChange() {
         // given
-        given(configuration.getPath()).willReturn("path");
-        given(client.readLeadership("path")).willReturn(Mono.just(List.of(keyValue)));
+        given(client.readLeadership("path", null, true)).willReturn(Mono.just(List.of(keyValue)));
         given(keyValue.getValue()).willReturn("my-value");
         given(keyValue.getModifyIndex()).willReturn(666);
 
@@ -160,11 +181,94 @@ class LeadershipHandlerTest {
 
         // then
         then(client).shouldHaveNoMoreInteractions();
-        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange("my-value");
+        then(leadershipEventsPublisher).should().publishLeadershipDetailsChange(666, "my-value");
         then(leadershipEventsPublisher).shouldHaveNoMoreInteractions();
         assertThat(result).isEqualTo(666);
     }
 
+    @Test
+    void readLeadershipInfo_should_publishLeadershipWithFencingToken_when_lockAcquired() {
+        // given
+        given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
+        given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.just(true));
+        leadershipHandler.acquireLeadership("sessionId").block();
+        given(client.readLeadership("path", null, true)).willReturn(Mono.just(List.of(keyValue)));
+        given(keyValue.getSession()).willReturn("sessionId");
+        given(keyValue.getValue()).willReturn("my-value");
+        given(keyValue.getModifyIndex()).willReturn(666);
+
+        // when
+        leadershipHandler.readLeadershipInfo().block();
+        leadershipHandler.readLeadershipInfo().block();
+
+        // then
+        then(leadershipEventsPublisher).should().publishLeadershipAcquired(666);
+    }
+
+    @Test
+    void readLeadershipInfo_should_readConsistently_when_lockAcquired() {
+        // given
+        given(consistencyConfiguration.getRead()).willReturn(ConsistencyMode.STALE);
+        leadershipHandler = new LeadershipHandlerImpl(ELECTION, client, configuration, leadershipDetailsProvider, leadershipEventsPublisher);
+        given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
+        given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.just(true));
+        leadershipHandler.acquireLeadership("sessionId").block();
+        given(client.readLeadership("path", null, true)).willReturn(Mono.just(List.of(keyValue)));
+        given(client.readLeadership("path", true, null)).willReturn(Mono.just(List.of(keyValue)));
+        given(keyValue.getSession()).willReturn("sessionId");
+        given(keyValue.getValue()).willReturn("my-value");
+        given(keyValue.getModifyIndex()).willReturn(666);
+
+        // when
+        leadershipHandler.readLeadershipInfo().block();
+        leadershipHandler.readLeadershipInfo().block();
+
+        // then
+        final var inOrder = inOrder(client);
+        // the lock just acquired, then the configured consistency
+        inOrder.verify(client).readLeadership("path", null, true);
+        inOrder.verify(client).readLeadership("path", true, null);
+        then(leadershipEventsPublisher).should().publishLeadershipAcquired(666);
+    }
+
+    @Test
+    void readLeadershipInfo_should_fail_when_modifyIndexMissing() {
+        // given
+        given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
+        given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.just(true));
+        leadershipHandler.acquireLeadership("sessionId").block();
+        given(client.readLeadership("path", null, true)).willReturn(Mono.just(List.of(keyValue)));
+        given(keyValue.getModifyIndex()).willReturn(null);
+
+        // when
+        final var caught = catchException(() -> leadershipHandler.readLeadershipInfo().block());
+
+        // then
+        assertThat(caught)
+                .isInstanceOf(NonRecoverableElectionException.class)
+                .hasMessage("Leadership read without ModifyIndex");
+        then(leadershipEventsPublisher).should(never()).publishLeadershipAcquired(anyLong());
+        then(leadershipEventsPublisher).should(never()).publishLeadershipDetailsChange(any(), any());
+    }
+
+    @Test
+    void readLeadershipInfo_should_publishNotLeader_when_lockedByAnotherSession() {
+        // given
+        given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
+        given(client.acquireLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.just(true));
+        leadershipHandler.acquireLeadership("sessionId").block();
+        given(client.readLeadership("path", null, true)).willReturn(Mono.just(List.of(keyValue)));
+        given(keyValue.getSession()).willReturn("other-session-id");
+        given(keyValue.getModifyIndex()).willReturn(666);
+
+        // when
+        leadershipHandler.readLeadershipInfo().block();
+
+        // then
+        then(leadershipEventsPublisher).should(never()).publishLeadershipAcquired(anyLong());
+        then(leadershipEventsPublisher).should().publishLeadershipChangeEvent(false);
+    }
+
     @Test
     void releaseLeadership_should_handleQuietlyError() {
         // given
@@ -181,7 +285,6 @@ class LeadershipHandlerTest {
     void releaseLeadership_should_releaseLeadership() {
         // given
         given(leadershipDetailsProvider.getLeadershipInfo(false)).willReturn(leadershipDetails);
-        given(configuration.getPath()).willReturn("path");
         given(client.releaseLeadership("path", leadershipDetails, "sessionId")).willReturn(Mono.empty());
 
         // when
@@ -0,0 +1,252 @@
+package com.frogdevelopment.micronaut.consul.leadership.election;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.serde.ObjectMapper;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class LeadershipHandoffImplTest {
+
+    private static final Election ELECTION = new Election("my-election", "my-path");
+    private static final String HANDOFF_PATH = "my-path.handoff/";
+    private static final String SUCCESSOR_KEY = HANDOFF_PATH + LeadershipHandoffImpl.SUCCESSOR;
+    private static final String ENCODED_HINT = Base64.getEncoder().encodeToString("hint".getBytes());
+
+    private LeadershipHandoffImpl leadershipHandoff;
+
+    @Mock
+    private ConsulLeadershipClient client;
+    @Mock
+    private ConsulWatchClient watchClient;
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private LeadershipConfiguration.ConsistencyConfiguration consistencyConfiguration;
+    @Mock
+    private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
+    @Mock
+    private LeadershipDetailsProvider<LeadershipDetails> leadershipDetailsProvider;
+    @Mock
+    private CandidatePriority candidatePriority;
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private LeadershipDetails leadershipDetails;
+
+    @BeforeEach
+    void beforeEach() {
+        given(configuration.getConsistency()).willReturn(consistencyConfiguration);
+        given(consistencyConfiguration.getRead()).willReturn(ConsistencyMode.DEFAULT);
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.isHandoffEnabled()).willReturn(true);
+        leadershipHandoff = new LeadershipHandoffImpl(ELECTION, client, watchClient, configuration, leadershipDetailsProvider, candidatePriority, objectMapper);
+    }
+
+    @Test
+    void registerCandidate_should_registerOnlyOnce_perSession() {
+        // given
+        given(leadershipDetailsProvider.getLeadershipInfo(false)).willReturn(leadershipDetails);
+        given(client.acquireLeadership(HANDOFF_PATH + "candidates/my-session", leadershipDetails, "my-session")).willReturn(Mono.just(true));
+
+        // when
+        leadershipHandoff.registerCandidate("my-session").block();
+        leadershipHandoff.registerCandidate("my-session").block();
+
+        // then
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void registerCandidate_should_doNothing_when_disabled() {
+        // given
+        given(electionConfiguration.isHandoffEnabled()).willReturn(false);
+
+        // when
+        leadershipHandoff.registerCandidate("my-session").block();
+
+        // then
+        then(client).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void designateSuccessor_should_designateOldestCandidate() {
+        // given
+        given(candidatePriority.readPriorities()).willReturn(Mono.just(Map.of()));
+        given(watchClient.watchLeadershipPrefix(HANDOFF_PATH, true, null, null, null, null)).willReturn(response(
+                candidate(3, "my-session"),
+                candidate(9, "newest"),
+                candidate(5, "oldest"),
+                candidate(2, null),
+                new KeyValue(7, SUCCESSOR_KEY, ENCODED_HINT, null)));
+        given(client.compareAndSet(SUCCESSOR_KEY, new SuccessorHint("my-session", "oldest"), 7)).willReturn(Mono.just(true));
+
+        // when
+        leadershipHandoff.designateSuccessor("my-session").block();
+
+        // then
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void designateSuccessor_should_designateHighestPriorityCandidate() {
+        // given
+        given(candidatePriority.readPriorities()).willReturn(Mono.just(Map.of("oldest", 1, "preferred", 5)));
+        given(watchClient.watchLeadershipPrefix(HANDOFF_PATH, true, null, null, null, null)).willReturn(response(
+                candidate(5, "oldest"),
+                candidate(9, "preferred"),
+                candidate(7, "unknown")));
+        given(client.compareAndSet(SUCCESSOR_KEY, new SuccessorHint("my-session", "preferred"), 0)).willReturn(Mono.just(true));
+
+        // when
+        leadershipHandoff.designateSuccessor("my-session").block();
+
+        // then
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void designateSuccessor_should_notDesignate_when_noOtherCandidate() {
+        // given
+        given(candidatePriority.readPriorities()).willReturn(Mono.just(Map.of()));
+        given(watchClient.watchLeadershipPrefix(HANDOFF_PATH, true, null, null, null, null))
+                .willReturn(response(candidate(3, "my-session")));
+
+        // when
+        leadershipHandoff.designateSuccessor("my-session").block();
+
+        // then
+        then(client).should(never()).compareAndSet(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void designateSuccessor_should_complete_when_readFails() {
+        // given
+        given(candidatePriority.readPriorities()).willReturn(Mono.just(Map.of()));
+        given(watchClient.watchLeadershipPrefix(HANDOFF_PATH, true, null, null, null, null))
+                .willReturn(Mono.error(new RuntimeException("boom")));
+
+        // when
+        leadershipHandoff.designateSuccessor("my-session").block();
+
+        // then
+        then(client).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void cleanUpCandidates_should_deleteStaleCandidates() {
+        // given
+        given(watchClient.watchLeadershipPrefix(HANDOFF_PATH, true, null, null, null, null)).willReturn(response(
+                candidate(3, "my-session"),
+                candidate(2, null),
+                new KeyValue(7, SUCCESSOR_KEY, ENCODED_HINT, null)));
+        given(client.deleteKey(HANDOFF_PATH + "candidates/null", 2)).willReturn(Mono.just(true));
+
+        // when
+        leadershipHandoff.cleanUpCandidates().block();
+
+        // then
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void cleanUpCandidates_should_complete_when_readFails() {
+        // given
+        given(watchClient.watchLeadershipPrefix(HANDOFF_PATH, true, null, null, null, null))
+                .willReturn(Mono.error(new RuntimeException("boom")));
+
+        // when
+        leadershipHandoff.cleanUpCandidates().block();
+
+        // then
+        then(client).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void applicationDelay_should_returnZero_when_designatedSuccessor() throws IOException {
+        // given
+        given(client.readLeadership(SUCCESSOR_KEY, null, null)).willReturn(Mono.just(List.of(new KeyValue(12, SUCCESSOR_KEY, ENCODED_HINT, null))));
+        given(objectMapper.readValue("hint", SuccessorHint.class)).willReturn(new SuccessorHint("leader", "my-session"));
+
+        // when
+        final var delay = leadershipHandoff.applicationDelay("my-session", 10).block();
+
+        // then
+        assertThat(delay).isZero();
+    }
+
+    @Test
+    void applicationDelay_should_returnHandoffTimeout_when_otherSuccessor() throws IOException {
+        // given
+        given(electionConfiguration.getHandoffTimeout()).willReturn(Duration.ofSeconds(3));
+        given(client.readLeadership(SUCCESSOR_KEY, null, null)).willReturn(Mono.just(List.of(new KeyValue(12, SUCCESSOR_KEY, ENCODED_HINT, null))));
+        given(objectMapper.readValue("hint", SuccessorHint.class)).willReturn(new SuccessorHint("leader", "other"));
+
+        // when
+        final var delay = leadershipHandoff.applicationDelay("my-session", 10).block();
+
+        // then
+        assertThat(delay).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void applicationDelay_should_returnEmpty_when_hintIsStale() {
+        // given
+        given(client.readLeadership(SUCCESSOR_KEY, null, null)).willReturn(Mono.just(List.of(new KeyValue(8, SUCCESSOR_KEY, ENCODED_HINT, null))));
+
+        // when
+        final var delay = leadershipHandoff.applicationDelay("my-session", 10).block();
+
+        // then
+        assertThat(delay).isNull();
+        then(objectMapper).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void applicationDelay_should_returnEmpty_when_noHint() {
+        // given
+        given(client.readLeadership(SUCCESSOR_KEY, null, null)).willReturn(Mono.empty());
+
+        // when
+        final var delay = leadershipHandoff.applicationDelay("my-session", 10).block();
+
+        // then
+        assertThat(delay).isNull();
+    }
+
+    private static Mono<HttpResponse<List<KeyValue>>> response(final KeyValue... keyValues) {
+        return Mono.just(HttpResponse.ok(List.of(keyValues)));
+    }
+
+    private static KeyValue candidate(final int modifyIndex, final String session) {
+        return new KeyValue(modifyIndex, HANDOFF_PATH + "candidates/" + session, "value", session);
+    }
+}
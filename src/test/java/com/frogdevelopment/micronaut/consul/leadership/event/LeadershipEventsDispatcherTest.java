@@ -0,0 +1,177 @@
+package com.frogdevelopment.micronaut.consul.leadership.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class LeadershipEventsDispatcherTest {
+
+    private static final Election ELECTION = new Election("my-election", "my-path");
+
+    private LeadershipEventsDispatcher leadershipEventsDispatcher;
+
+    @Mock
+    private ApplicationEventPublisher<Object> eventPublisher;
+
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        leadershipEventsDispatcher = new LeadershipEventsDispatcher(ELECTION, eventPublisher, scheduledTasks::add);
+    }
+
+    @Test
+    void dispatch_should_notDeliver_onCallerThread() {
+        // given
+        final var event = new LeadershipChangeEvent("my-election", true);
+
+        // when
+        leadershipEventsDispatcher.dispatch(event);
+
+        // then
+        then(eventPublisher).shouldHaveNoInteractions();
+        assertThat(leadershipEventsDispatcher.getQueueDepth()).isEqualTo(1);
+        assertThat(scheduledTasks).hasSize(1);
+    }
+
+    @Test
+    void dispatch_should_deliverInOrder() {
+        // given
+        final var changeEvent = new LeadershipChangeEvent("my-election", true);
+        final var detailsEvent = new LeadershipDetailsChangeEvent<>("my-election", null);
+        leadershipEventsDispatcher.dispatch(changeEvent);
+        leadershipEventsDispatcher.dispatch(detailsEvent);
+
+        // when
+        runScheduledTasks();
+
+        // then
+        final var inOrder = inOrder(eventPublisher);
+        inOrder.verify(eventPublisher).publishEvent(changeEvent);
+        inOrder.verify(eventPublisher).publishEvent(detailsEvent);
+        assertThat(leadershipEventsDispatcher.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void dispatch_should_coalesce_toLatestEvent_ofSameType() {
+        // given
+        final var changeEvent = new LeadershipChangeEvent("my-election", true, false, 1);
+        final var latestDetailsEvent = new LeadershipDetailsChangeEvent<>("other-election", null);
+        leadershipEventsDispatcher.dispatch(new LeadershipDetailsChangeEvent<>("my-election", null));
+        leadershipEventsDispatcher.dispatch(changeEvent);
+        leadershipEventsDispatcher.dispatch(latestDetailsEvent);
+
+        // when
+        runScheduledTasks();
+
+        // then
+        final var inOrder = inOrder(eventPublisher);
+        inOrder.verify(eventPublisher).publishEvent(changeEvent);
+        inOrder.verify(eventPublisher).publishEvent(latestDetailsEvent);
+        inOrder.verifyNoMoreInteractions();
+        assertThat(leadershipEventsDispatcher.getCoalescedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_should_mergeLeadershipChangeEvents() {
+        // given
+        leadershipEventsDispatcher.dispatch(new LeadershipChangeEvent("my-election", true, false, 1));
+        leadershipEventsDispatcher.dispatch(new LeadershipChangeEvent("my-election", false, true, 2));
+
+        // when
+        runScheduledTasks();
+
+        // then
+        then(eventPublisher).should().publishEvent(new LeadershipChangeEvent("my-election", false, false, 2));
+        then(eventPublisher).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void dispatch_should_dropLeadershipChangeEvents_cancellingOut() {
+        // given
+        leadershipEventsDispatcher.dispatch(new LeadershipChangeEvent("my-election", true, false, 2));
+        leadershipEventsDispatcher.dispatch(new LeadershipChangeEvent("my-election", false, true, 3));
+
+        // when
+        runScheduledTasks();
+
+        // then
+        then(eventPublisher).shouldHaveNoInteractions();
+        assertThat(leadershipEventsDispatcher.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void dispatch_should_scheduleOnlyOneDrain_at_aTime() {
+        // given
+        leadershipEventsDispatcher.dispatch(new LeadershipChangeEvent("my-election", true));
+        leadershipEventsDispatcher.dispatch(new LeadershipDetailsChangeEvent<>("my-election", null));
+        assertThat(scheduledTasks).hasSize(1);
+        runScheduledTasks();
+
+        // when
+        leadershipEventsDispatcher.dispatch(new LeadershipChangeEvent("my-election", false));
+
+        // then
+        assertThat(scheduledTasks).hasSize(1);
+    }
+
+    @Test
+    void dispatch_should_keepDelivering_when_listenerFails() {
+        // given
+        final var changeEvent = new LeadershipChangeEvent("my-election", true);
+        final var detailsEvent = new LeadershipDetailsChangeEvent<>("my-election", null);
+        willAnswer(invocation -> {
+            if (invocation.getArgument(0) == changeEvent) {
+                throw new IllegalStateException("boom");
+            }
+            return null;
+        }).given(eventPublisher).publishEvent(any());
+        leadershipEventsDispatcher.dispatch(changeEvent);
+        leadershipEventsDispatcher.dispatch(detailsEvent);
+
+        // when
+        runScheduledTasks();
+
+        // then
+        then(eventPublisher).should().publishEvent(detailsEvent);
+    }
+
+    @Test
+    void dispatch_should_dropEvents_when_closed() {
+        // given
+        leadershipEventsDispatcher = new LeadershipEventsDispatcher(ELECTION, eventPublisher, task -> {
+            throw new RejectedExecutionException();
+        });
+
+        // when
+        leadershipEventsDispatcher.dispatch(new LeadershipChangeEvent("my-election", true));
+
+        // then
+        then(eventPublisher).should(never()).publishEvent(any());
+        assertThat(leadershipEventsDispatcher.getQueueDepth()).isZero();
+    }
+
+    private void runScheduledTasks() {
+        final var tasks = new ArrayList<>(scheduledTasks);
+        scheduledTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -21,20 +23,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
-
-import io.micronaut.context.event.ApplicationEventPublisher;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatusImpl;
 
 @ExtendWith(MockitoExtension.class)
 class LeadershipEventsPublisherTest {
 
+    private static final Election ELECTION = new Election("my-election", "my-path");
+
     private LeadershipEventsPublisher leadershipEventsPublisher;
 
     @Mock
-    private LeadershipDetailsProvider leadershipDetailsProvider;
+    private LeadershipStatusImpl leadershipStatus;
     @Mock
-    private ApplicationEventPublisher<LeadershipChangeEvent> leadershipChangeEventPublisher;
+    private LeadershipDetailsProvider<LeadershipDetails> leadershipDetailsProvider;
     @Mock
-    private ApplicationEventPublisher<LeadershipDetailsChangeEvent> leadershipDetailsChangeEventPublisher;
+    private LeadershipEventsDispatcher leadershipEventsDispatcher;
 
     @Captor
     private ArgumentCaptor<LeadershipChangeEvent> leadershipChangeEventCaptor;
@@ -42,11 +47,11 @@ class LeadershipEventsPublisherTest {
     @Mock
     private LeadershipDetails leadershipDetails;
     @Captor
-    private ArgumentCaptor<LeadershipDetailsChangeEvent> leadershipDetailsChangeEventCaptor;
+    private ArgumentCaptor<LeadershipDetailsChangeEvent<?>> leadershipDetailsChangeEventCaptor;
 
     @BeforeEach()
     void beforeEach() {
-        leadershipEventsPublisher = new LeadershipEventsPublisher(leadershipDetailsProvider, leadershipChangeEventPublisher, leadershipDetailsChangeEventPublisher);
+        leadershipEventsPublisher = new LeadershipEventsPublisher(ELECTION, leadershipStatus, leadershipDetailsProvider, leadershipEventsDispatcher);
     }
 
     @ParameterizedTest
@@ -58,9 +63,135 @@ class LeadershipEventsPublisherTest {
         leadershipEventsPublisher.publishLeadershipChangeEvent(leader);
 
         // then
-        then(leadershipChangeEventPublisher).should().publishEvent(leadershipChangeEventCaptor.capture());
+        then(leadershipEventsDispatcher).should().dispatch(leadershipChangeEventCaptor.capture());
         final var changeEvent = leadershipChangeEventCaptor.getValue();
+        assertThat(changeEvent.electionName()).isEqualTo("my-election");
         assertThat(changeEvent.isLeader()).isEqualTo(leader);
+        assertThat(changeEvent.wasLeader()).isFalse();
+        assertThat(changeEvent.sequence()).isEqualTo(1);
+        then(leadershipStatus).should().onFencingToken(LeadershipStatus.NO_FENCING_TOKEN);
+        then(leadershipStatus).should().onLeadershipChanged(changeEvent);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void should_notPublishAgain_when_sameStatus(final boolean leader) {
+        // given
+        leadershipEventsPublisher.publishLeadershipChangeEvent(leader);
+
+        // when
+        leadershipEventsPublisher.publishLeadershipChangeEvent(leader);
+        leadershipEventsPublisher.publishLeadershipChangeEvent(leader);
+
+        // then
+        then(leadershipEventsDispatcher).should().dispatch(any());
+        then(leadershipStatus).should().onLeadershipChanged(any());
+    }
+
+    @Test
+    void should_publishTransitions_withPreviousStatus_and_sequence() {
+        // given
+        leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+        leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+
+        // when
+        leadershipEventsPublisher.publishLeadershipChangeEvent(true);
+        leadershipEventsPublisher.publishLeadershipChangeEvent(true);
+        leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+
+        // then
+        then(leadershipEventsDispatcher).should(times(3)).dispatch(leadershipChangeEventCaptor.capture());
+        assertThat(leadershipChangeEventCaptor.getAllValues()).containsExactly(
+                new LeadershipChangeEvent("my-election", false, false, 1),
+                new LeadershipChangeEvent("my-election", true, false, 2),
+                new LeadershipChangeEvent("my-election", false, true, 3));
+    }
+
+    @Test
+    void should_publishLeadershipAcquired_afterFencingToken() {
+        // given
+
+        // when
+        leadershipEventsPublisher.publishLeadershipAcquired(42);
+
+        // then
+        final var inOrder = inOrder(leadershipStatus, leadershipEventsDispatcher);
+        inOrder.verify(leadershipStatus).onFencingToken(42);
+        inOrder.verify(leadershipStatus).onLeadershipChanged(new LeadershipChangeEvent("my-election", true, false, 1));
+        inOrder.verify(leadershipEventsDispatcher).dispatch(new LeadershipChangeEvent("my-election", true, false, 1));
+    }
+
+    @Test
+    void should_resetFencingToken_afterLeadershipLost() {
+        // given
+        leadershipEventsPublisher.publishLeadershipAcquired(42);
+
+        // when
+        leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+
+        // then
+        final var inOrder = inOrder(leadershipStatus);
+        inOrder.verify(leadershipStatus).onLeadershipChanged(new LeadershipChangeEvent("my-election", false, true, 2));
+        inOrder.verify(leadershipStatus).onFencingToken(LeadershipStatus.NO_FENCING_TOKEN);
+    }
+
+    @Test
+    void should_stepDown_when_leaseExpiring() {
+        // given
+        leadershipEventsPublisher.publishLeadershipChangeEvent(true);
+        given(leadershipStatus.isLeader()).willReturn(true);
+
+        // when
+        leadershipEventsPublisher.onSessionLease(new SessionLeaseEvent("my-session-id", false));
+
+        // then
+        then(leadershipEventsDispatcher).should().dispatch(new LeadershipChangeEvent("my-election", false, true, 2));
+    }
+
+    @Test
+    void should_notStepDown_when_notLeader() {
+        // given
+        given(leadershipStatus.isLeader()).willReturn(false);
+
+        // when
+        leadershipEventsPublisher.onSessionLease(new SessionLeaseEvent("my-session-id", false));
+        leadershipEventsPublisher.onSessionLease(new SessionLeaseEvent("my-session-id", true));
+
+        // then
+        then(leadershipEventsDispatcher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void should_resumeLeadership_when_leaseRestored() {
+        // given
+        given(leadershipStatus.isLeader()).willReturn(true);
+        leadershipEventsPublisher.onSessionLease(new SessionLeaseEvent("my-session-id", false));
+
+        // when
+        leadershipEventsPublisher.onSessionLease(new SessionLeaseEvent("my-session-id", true));
+
+        // then
+        then(leadershipEventsDispatcher).should(times(2)).dispatch(leadershipChangeEventCaptor.capture());
+        assertThat(leadershipChangeEventCaptor.getAllValues())
+                .extracting(LeadershipChangeEvent::isLeader)
+                .containsExactly(false, true);
+    }
+
+    @Test
+    void should_notResumeLeadership_when_electionDecidedMeanwhile() {
+        // given
+        given(leadershipStatus.isLeader()).willReturn(true);
+        leadershipEventsPublisher.onSessionLease(new SessionLeaseEvent("my-session-id", false));
+        leadershipEventsPublisher.publishLeadershipChangeEvent(false);
+
+        // when
+        leadershipEventsPublisher.onSessionLease(new SessionLeaseEvent("my-session-id", true));
+
+        // then
+        then(leadershipEventsDispatcher).should().dispatch(leadershipChangeEventCaptor.capture());
+        assertThat(leadershipChangeEventCaptor.getAllValues())
+                .extracting(LeadershipChangeEvent::isLeader)
+                .containsExactly(false);
     }
 
     @Test
@@ -68,15 +199,75 @@ class LeadershipEventsPublisherTest {
         // given
         final var value = "test";
         final var encodedValue = Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
-        given(leadershipDetailsProvider.convertValue(value)).willReturn(leadershipDetails);
+        given(leadershipDetailsProvider.decodeValue(encodedValue)).willReturn(leadershipDetails);
 
         // when
-        leadershipEventsPublisher.publishLeadershipDetailsChange(encodedValue);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encodedValue);
 
         // then
-        then(leadershipDetailsChangeEventPublisher).should().publishEvent(leadershipDetailsChangeEventCaptor.capture());
+        then(leadershipEventsDispatcher).should().dispatch(leadershipDetailsChangeEventCaptor.capture());
         final var changeEvent = leadershipDetailsChangeEventCaptor.getValue();
+        assertThat(changeEvent.electionName()).isEqualTo("my-election");
         assertThat(changeEvent.leadershipDetails()).isEqualTo(leadershipDetails);
+        then(leadershipStatus).should().onLeadershipInfoChanged(changeEvent);
+    }
+
+    @Test
+    void should_notPublishAgain_when_sameModifyIndex() {
+        // given
+        final var encodedValue = encode("test");
+        given(leadershipDetailsProvider.decodeValue(encode("test"))).willReturn(leadershipDetails);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encodedValue);
+
+        // when
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encodedValue);
+
+        // then
+        then(leadershipDetailsProvider).should().decodeValue(encode("test"));
+        then(leadershipEventsDispatcher).should().dispatch(any());
+    }
+
+    @Test
+    void should_notPublishAgain_when_sameValueWithNewModifyIndex() {
+        // given
+        given(leadershipDetailsProvider.decodeValue(encode("test"))).willReturn(leadershipDetails);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encode("test"));
+
+        // when
+        leadershipEventsPublisher.publishLeadershipDetailsChange(2, encode("test"));
+
+        // then
+        then(leadershipDetailsProvider).should().decodeValue(encode("test"));
+        then(leadershipEventsDispatcher).should().dispatch(any());
+    }
+
+    @Test
+    void should_publishAgain_when_valueChanged() {
+        // given
+        given(leadershipDetailsProvider.decodeValue(encode("test"))).willReturn(leadershipDetails);
+        given(leadershipDetailsProvider.decodeValue(encode("other"))).willReturn(leadershipDetails);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encode("test"));
+
+        // when
+        leadershipEventsPublisher.publishLeadershipDetailsChange(2, encode("other"));
+
+        // then
+        then(leadershipEventsDispatcher).should(times(2)).dispatch(any());
+    }
+
+    @Test
+    void should_publishAgain_when_valueChangedWithSameHashCode() {
+        // given
+        given(leadershipDetailsProvider.decodeValue("Aa")).willReturn(leadershipDetails);
+        given(leadershipDetailsProvider.decodeValue("BB")).willReturn(leadershipDetails);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, "Aa");
+
+        // when
+        leadershipEventsPublisher.publishLeadershipDetailsChange(2, "BB");
+
+        // then
+        assertThat("Aa").hasSameHashCodeAs("BB");
+        then(leadershipEventsDispatcher).should(times(2)).dispatch(any());
     }
 
     @Test
@@ -85,10 +276,10 @@ class LeadershipEventsPublisherTest {
         final String encodedValue = null;
 
         // when
-        leadershipEventsPublisher.publishLeadershipDetailsChange(encodedValue);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encodedValue);
 
         // then
-        then(leadershipDetailsChangeEventPublisher).should(never()).publishEvent(any());
+        then(leadershipEventsDispatcher).should(never()).dispatch(any());
     }
 
     @ParameterizedTest
@@ -97,22 +288,23 @@ class LeadershipEventsPublisherTest {
         // given
 
         // when
-        leadershipEventsPublisher.publishLeadershipDetailsChange(encodedValue);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encodedValue);
 
         // then
-        then(leadershipDetailsChangeEventPublisher).should(never()).publishEvent(any());
+        then(leadershipEventsDispatcher).should(never()).dispatch(any());
     }
 
     @Test
     void should_notPublishEvent_whenBase64DecodingFails() {
         // given
         final var invalidBase64 = "not-valid-base64!@#$";
+        given(leadershipDetailsProvider.decodeValue(invalidBase64)).willThrow(new IllegalArgumentException("Illegal base64 character"));
 
         // when
-        leadershipEventsPublisher.publishLeadershipDetailsChange(invalidBase64);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, invalidBase64);
 
         // then
-        then(leadershipDetailsChangeEventPublisher).should(never()).publishEvent(any());
+        then(leadershipEventsDispatcher).should(never()).dispatch(any());
     }
 
     @Test
@@ -120,13 +312,16 @@ class LeadershipEventsPublisherTest {
         // given
         final var value = "test";
         final var encodedValue = Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
-        given(leadershipDetailsProvider.convertValue(value)).willThrow(new RuntimeException("Conversion failed"));
+        given(leadershipDetailsProvider.decodeValue(encodedValue)).willThrow(new RuntimeException("Conversion failed"));
 
         // when
-        leadershipEventsPublisher.publishLeadershipDetailsChange(encodedValue);
+        leadershipEventsPublisher.publishLeadershipDetailsChange(1, encodedValue);
 
         // then
-        then(leadershipDetailsChangeEventPublisher).should(never()).publishEvent(any());
+        then(leadershipEventsDispatcher).should(never()).dispatch(any());
     }
 
+    private static String encode(final String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
 }
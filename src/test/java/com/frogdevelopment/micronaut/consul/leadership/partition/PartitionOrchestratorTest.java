@@ -0,0 +1,276 @@
+package com.frogdevelopment.micronaut.consul.leadership.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsistencyMode;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+import com.frogdevelopment.micronaut.consul.leadership.event.PartitionsChangeEvent;
+import com.frogdevelopment.micronaut.consul.leadership.session.SessionHandler;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.scheduling.TaskScheduler;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionOrchestratorTest {
+
+    private static final String PATH = "leadership/my-app";
+    private static final String PARTITIONS_PATH = PATH + "/partitions";
+    private static final String SESSION = "my-session";
+
+    @InjectMocks
+    private PartitionOrchestrator partitionOrchestrator;
+
+    @Mock
+    private ConsulLeadershipClient client;
+    @Mock
+    private ConsulWatchClient watchClient;
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private SessionHandler sessionHandler;
+    @Mock
+    private LeadershipDetailsProvider<LeadershipDetails> leadershipDetailsProvider;
+    @Mock
+    private TaskScheduler taskScheduler;
+    @Mock
+    private ApplicationEventPublisher<PartitionsChangeEvent> partitionsChangeEventPublisher;
+
+    @Mock
+    private LeadershipConfiguration.PartitionConfiguration partitionConfiguration;
+    @Mock
+    private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
+    @Mock
+    private LeadershipConfiguration.ConsistencyConfiguration consistencyConfiguration;
+    @Mock
+    private LeadershipDetails leadershipDetails;
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+
+    @Captor
+    private ArgumentCaptor<PartitionsChangeEvent> eventCaptor;
+
+    @ParameterizedTest
+    @CsvSource({
+            "256,1,256",
+            "256,3,86",
+            "256,4,64",
+            "5,2,3",
+            "2,3,1",
+    })
+    void fairShare_should_beRoundedUp(final int partitions, final int members, final int expected) {
+        // when
+        final var fairShare = PartitionOrchestrator.fairShare(partitions, members);
+
+        // then
+        assertThat(fairShare).isEqualTo(expected);
+    }
+
+    @Test
+    void start_should_scheduleRebalancing() {
+        // given
+        given(configuration.getPartitions()).willReturn(partitionConfiguration);
+        final var rebalanceDelay = Duration.ofSeconds(10);
+        given(partitionConfiguration.getRebalanceDelay()).willReturn(rebalanceDelay);
+        given(taskScheduler.scheduleWithFixedDelay(eq(Duration.ZERO), eq(rebalanceDelay), any(Runnable.class)))
+                .willAnswer(invocation -> scheduledFuture);
+
+        // when
+        partitionOrchestrator.start();
+
+        // then
+        assertThat(partitionOrchestrator.getScheduledFuture()).isEqualTo(scheduledFuture);
+    }
+
+    @Test
+    void rebalance_should_acquireFreePartitions_upToFairShare() {
+        // given
+        givenRebalancing();
+        given(client.acquireLeadership(anyString(), eq(leadershipDetails), eq(SESSION))).willReturn(Mono.just(true));
+        givenPartitions(
+                member(SESSION),
+                member("other-session"),
+                partition(0, "other-session"));
+
+        // when
+        partitionOrchestrator.rebalance().block();
+
+        // then
+        assertThat(partitionOrchestrator.getOwnedPartitions())
+                .hasSize(2)
+                .doesNotContain(0);
+        then(partitionsChangeEventPublisher).should().publishEvent(eventCaptor.capture());
+        final var event = eventCaptor.getValue();
+        assertThat(event.acquired()).isEqualTo(partitionOrchestrator.getOwnedPartitions());
+        assertThat(event.released()).isEmpty();
+        assertThat(event.owned()).isEqualTo(partitionOrchestrator.getOwnedPartitions());
+    }
+
+    @Test
+    void rebalance_should_recordAcquiredPartitions_when_anAcquisitionTimesOut() {
+        // given
+        givenRebalancing(100);
+        given(client.acquireLeadership(PARTITIONS_PATH + "/members/" + SESSION, leadershipDetails, SESSION)).willReturn(Mono.just(true));
+        given(client.acquireLeadership(PARTITIONS_PATH + "/1", leadershipDetails, SESSION)).willReturn(Mono.never());
+        given(client.acquireLeadership(PARTITIONS_PATH + "/2", leadershipDetails, SESSION)).willReturn(Mono.just(true));
+        given(client.acquireLeadership(PARTITIONS_PATH + "/3", leadershipDetails, SESSION)).willReturn(Mono.just(true));
+        // partition 0 still locked by a leaving member: all the free partitions are tried
+        givenPartitions(
+                member(SESSION),
+                partition(0, "other-session"));
+
+        // when
+        partitionOrchestrator.rebalance().block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(partitionOrchestrator.getOwnedPartitions()).containsExactlyInAnyOrder(2, 3);
+        then(partitionsChangeEventPublisher).should().publishEvent(new PartitionsChangeEvent(Set.of(2, 3), Set.of(), Set.of(2, 3)));
+    }
+
+    @Test
+    void rebalance_should_releaseSurplus_when_newMemberJoined() {
+        // given
+        givenRebalancing();
+        given(client.acquireLeadership(PARTITIONS_PATH + "/members/" + SESSION, leadershipDetails, SESSION)).willReturn(Mono.just(true));
+        given(leadershipDetailsProvider.getLeadershipInfo(false)).willReturn(leadershipDetails);
+        given(client.releaseLeadership(anyString(), eq(leadershipDetails), eq(SESSION))).willReturn(Mono.empty());
+        partitionOrchestrator.setOwnedPartitions(Set.of(0, 1, 2, 3));
+        givenPartitions(
+                member(SESSION),
+                member("new-session"),
+                partition(0, SESSION),
+                partition(1, SESSION),
+                partition(2, SESSION),
+                partition(3, SESSION));
+
+        // when
+        partitionOrchestrator.rebalance().block();
+
+        // then
+        then(client).should(times(2)).releaseLeadership(anyString(), eq(leadershipDetails), eq(SESSION));
+        assertThat(partitionOrchestrator.getOwnedPartitions()).hasSize(2);
+        then(partitionsChangeEventPublisher).should().publishEvent(eventCaptor.capture());
+        final var event = eventCaptor.getValue();
+        assertThat(event.acquired()).isEmpty();
+        assertThat(event.released()).hasSize(2).doesNotContainAnyElementsOf(partitionOrchestrator.getOwnedPartitions());
+    }
+
+    @Test
+    void rebalance_should_doNothing_when_owningFairShare() {
+        // given
+        givenRebalancing();
+        given(client.acquireLeadership(PARTITIONS_PATH + "/members/" + SESSION, leadershipDetails, SESSION)).willReturn(Mono.just(true));
+        partitionOrchestrator.setOwnedPartitions(Set.of(0, 1));
+        givenPartitions(
+                member(SESSION),
+                member("other-session"),
+                partition(0, SESSION),
+                partition(1, SESSION),
+                partition(2, "other-session"),
+                partition(3, "other-session"));
+
+        // when
+        partitionOrchestrator.rebalance().block();
+
+        // then
+        assertThat(partitionOrchestrator.getOwnedPartitions()).containsExactlyInAnyOrder(0, 1);
+        then(partitionsChangeEventPublisher).shouldHaveNoInteractions();
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void rebalance_should_deleteStaleMembers() {
+        // given
+        givenRebalancing();
+        given(client.acquireLeadership(anyString(), eq(leadershipDetails), eq(SESSION))).willReturn(Mono.just(true));
+        final var staleMember = new KeyValue(7, PARTITIONS_PATH + "/members/dead-session", "value", null);
+        givenPartitions(member(SESSION), staleMember);
+        given(client.deleteKey(staleMember.getKey(), 7)).willReturn(Mono.just(true));
+
+        // when
+        partitionOrchestrator.rebalance().block();
+
+        // then
+        then(client).should().deleteKey(staleMember.getKey(), 7);
+        assertThat(partitionOrchestrator.getOwnedPartitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    void stop_should_releaseAllPartitions() {
+        // given
+        given(configuration.getPath()).willReturn(PATH);
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(3000);
+        partitionOrchestrator.setOwnedPartitions(Set.of(1, 2));
+        given(sessionHandler.cancelSessionRenewal(PartitionOrchestrator.SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(leadershipDetailsProvider.getLeadershipInfo(false)).willReturn(leadershipDetails);
+        given(client.releaseLeadership(PARTITIONS_PATH + "/1", leadershipDetails, SESSION)).willReturn(Mono.empty());
+        given(client.releaseLeadership(PARTITIONS_PATH + "/2", leadershipDetails, SESSION)).willReturn(Mono.empty());
+        given(client.deleteKey(PARTITIONS_PATH + "/members/" + SESSION, null)).willReturn(Mono.just(true));
+        given(sessionHandler.destroySession(PartitionOrchestrator.SESSION_HOLDER)).willReturn(Mono.empty());
+
+        // when
+        partitionOrchestrator.stop();
+
+        // then
+        assertThat(partitionOrchestrator.getOwnedPartitions()).isEmpty();
+        then(partitionsChangeEventPublisher).should().publishEvent(new PartitionsChangeEvent(Set.of(), Set.of(1, 2), Set.of()));
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    private void givenRebalancing() {
+        givenRebalancing(3000);
+    }
+
+    private void givenRebalancing(final int timeoutMs) {
+        given(configuration.getPath()).willReturn(PATH);
+        given(configuration.getPartitions()).willReturn(partitionConfiguration);
+        given(partitionConfiguration.getCount()).willReturn(4);
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(timeoutMs);
+        given(sessionHandler.createNewSession(PartitionOrchestrator.SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(sessionHandler.scheduleSessionRenewal(PartitionOrchestrator.SESSION_HOLDER)).willReturn(Mono.empty());
+        given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
+    }
+
+    private void givenPartitions(final KeyValue... keyValues) {
+        given(configuration.getConsistency()).willReturn(consistencyConfiguration);
+        given(consistencyConfiguration.getWatch()).willReturn(ConsistencyMode.STALE);
+        given(watchClient.watchLeadershipPrefix(PARTITIONS_PATH, true, null, null, true, null)).willReturn(Mono.just(HttpResponse.ok(List.of(keyValues))));
+    }
+
+    private static KeyValue member(final String session) {
+        return new KeyValue(1, PARTITIONS_PATH + "/members/" + session, "value", session);
+    }
+
+    private static KeyValue partition(final int partition, final String session) {
+        return new KeyValue(1, PARTITIONS_PATH + "/" + partition, "value", session);
+    }
+}
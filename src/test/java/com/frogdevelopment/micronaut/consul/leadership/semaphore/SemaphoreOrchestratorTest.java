@@ -0,0 +1,276 @@
+package com.frogdevelopment.micronaut.consul.leadership.semaphore;
+
+import static io.micronaut.http.client.exceptions.ReadTimeoutException.TIMEOUT_EXCEPTION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.NamedSemaphoreConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetails;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+import com.frogdevelopment.micronaut.consul.leadership.event.SemaphoreChangeEvent;
+import com.frogdevelopment.micronaut.consul.leadership.session.SessionHandler;
+
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.serde.ObjectMapper;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class SemaphoreOrchestratorTest {
+
+    private static final String PATH = "leadership/my-app/semaphores/quota";
+    private static final String LOCK_KEY = PATH + "/.lock";
+    private static final String SESSION = "my-session";
+    private static final String SESSION_HOLDER = "semaphore-quota";
+    private static final String WAIT = "300s";
+    private static final String ENCODED_LOCK = Base64.getEncoder().encodeToString("lock".getBytes());
+
+    private SemaphoreOrchestrator semaphoreOrchestrator;
+
+    @Mock
+    private ConsulLeadershipClient client;
+    @Mock
+    private ConsulWatchClient watchClient;
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private SessionHandler sessionHandler;
+    @Mock
+    private LeadershipDetailsProvider<LeadershipDetails> leadershipDetailsProvider;
+    @Mock
+    private ObjectMapper objectMapper;
+    @Mock
+    private ApplicationEventPublisher<SemaphoreChangeEvent> semaphoreChangeEventPublisher;
+
+    @Mock
+    private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
+    @Mock
+    private LeadershipDetails leadershipDetails;
+
+    @BeforeEach
+    void beforeEach() {
+        final var semaphore = new NamedSemaphoreConfiguration("quota");
+        semaphore.setLimit(2);
+        given(configuration.getPath()).willReturn("leadership/my-app");
+        semaphoreOrchestrator = new SemaphoreOrchestrator(semaphore, client, watchClient, configuration, sessionHandler,
+                leadershipDetailsProvider, objectMapper, new BlockingQueryPolicy(WAIT, Duration.ofMillis(50)), semaphoreChangeEventPublisher);
+    }
+
+    @Test
+    void round_should_registerContenderAndAcquirePermit_when_limitNotReached() throws IOException {
+        // given
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(leadershipDetailsProvider.getLeadershipInfo(true)).willReturn(leadershipDetails);
+        given(client.acquireLeadership(PATH + "/" + SESSION, leadershipDetails, SESSION)).willReturn(Mono.just(true));
+        given(sessionHandler.scheduleSessionRenewal(SESSION_HOLDER)).willReturn(Mono.empty());
+        given(watchClient.watchLeadershipPrefix(PATH, true, null, WAIT, null, null)).willReturn(response(contender(SESSION), contender("other"), lock(5)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of("other")));
+        given(client.compareAndSet(LOCK_KEY, new SemaphoreLock(2, List.of("other", SESSION)), 5)).willReturn(Mono.just(true));
+
+        // when
+        final var holdsPermit = semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(holdsPermit).isTrue();
+        assertThat(semaphoreOrchestrator.holdsPermit()).isTrue();
+        assertThat(semaphoreOrchestrator.getIndex()).isEqualTo(42L);
+        then(semaphoreChangeEventPublisher).should().publishEvent(new SemaphoreChangeEvent("quota", true));
+    }
+
+    @Test
+    void round_should_createLock_when_missing() {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(watchClient.watchLeadershipPrefix(PATH, true, null, WAIT, null, null)).willReturn(response(contender(SESSION)));
+        given(client.compareAndSet(LOCK_KEY, new SemaphoreLock(2, List.of(SESSION)), 0)).willReturn(Mono.just(true));
+
+        // when
+        final var holdsPermit = semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(holdsPermit).isTrue();
+    }
+
+    @Test
+    void round_should_notAcquirePermit_when_limitReached() throws IOException {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(watchClient.watchLeadershipPrefix(PATH, true, null, WAIT, null, null))
+                .willReturn(response(contender(SESSION), contender("holder-1"), contender("holder-2"), lock(5)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of("holder-1", "holder-2")));
+
+        // when
+        final var holdsPermit = semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(holdsPermit).isFalse();
+        assertThat(semaphoreOrchestrator.getIndex()).isEqualTo(42L);
+        then(client).should(never()).compareAndSet(anyString(), any(), anyInt());
+        then(semaphoreChangeEventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void round_should_pruneHolders_when_contenderIsGone() throws IOException {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        final var deadContender = new KeyValue(3, PATH + "/dead", "value", null);
+        given(watchClient.watchLeadershipPrefix(PATH, true, null, WAIT, null, null))
+                .willReturn(response(contender(SESSION), contender("other"), deadContender, lock(5)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of("dead", "other")));
+        given(client.compareAndSet(LOCK_KEY, new SemaphoreLock(2, List.of("other", SESSION)), 5)).willReturn(Mono.just(true));
+        given(client.deleteKey(PATH + "/dead", 3)).willReturn(Mono.just(true));
+
+        // when
+        final var holdsPermit = semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(holdsPermit).isTrue();
+        then(client).should().deleteKey(PATH + "/dead", 3);
+    }
+
+    @Test
+    void round_should_readAgainWithoutWaiting_when_lockModifiedConcurrently() throws IOException {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(watchClient.watchLeadershipPrefix(PATH, true, null, WAIT, null, null)).willReturn(response(contender(SESSION), lock(5)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of()));
+        given(client.compareAndSet(LOCK_KEY, new SemaphoreLock(2, List.of(SESSION)), 5)).willReturn(Mono.just(false));
+
+        // when
+        final var holdsPermit = semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(holdsPermit).isFalse();
+        assertThat(semaphoreOrchestrator.getIndex()).isNull();
+    }
+
+    @Test
+    void round_should_waitForNextChange_with_currentIndex() throws IOException {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        semaphoreOrchestrator.setIndex(41L);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(watchClient.watchLeadershipPrefix(PATH, true, 41L, WAIT, null, null))
+                .willReturn(response(contender(SESSION), contender("holder-1"), contender("holder-2"), lock(5)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of("holder-1", "holder-2")));
+
+        // when
+        final var holdsPermit = semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(holdsPermit).isFalse();
+        assertThat(semaphoreOrchestrator.getIndex()).isEqualTo(42L);
+    }
+
+    @Test
+    void round_should_resetIndex_when_indexWentBackwards() throws IOException {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        semaphoreOrchestrator.setIndex(100L);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(watchClient.watchLeadershipPrefix(PATH, true, 100L, WAIT, null, null))
+                .willReturn(response(contender(SESSION), contender("holder-1"), contender("holder-2"), lock(5)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of("holder-1", "holder-2")));
+
+        // when
+        semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(semaphoreOrchestrator.getIndex()).isZero();
+    }
+
+    @Test
+    void round_should_rateLimit_when_indexDidNotAdvance() throws IOException {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        semaphoreOrchestrator.setIndex(42L);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(watchClient.watchLeadershipPrefix(PATH, true, 42L, WAIT, null, null))
+                .willReturn(response(contender(SESSION), contender("holder-1"), contender("holder-2"), lock(5)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of("holder-1", "holder-2")));
+
+        // when
+        final var start = System.nanoTime();
+        semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(semaphoreOrchestrator.getIndex()).isEqualTo(42L);
+    }
+
+    @Test
+    void round_should_returnCurrentPermit_when_watchTimeout() {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        given(sessionHandler.createNewSession(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(watchClient.watchLeadershipPrefix(PATH, true, null, WAIT, null, null)).willReturn(Mono.error(TIMEOUT_EXCEPTION));
+
+        // when
+        final var holdsPermit = semaphoreOrchestrator.round().block();
+
+        // then
+        assertThat(holdsPermit).isFalse();
+        then(semaphoreChangeEventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void stop_should_releasePermit() throws IOException {
+        // given
+        semaphoreOrchestrator.setContenderSession(SESSION);
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(3000);
+        given(watchClient.watchLeadershipPrefix(PATH, true, null, WAIT, null, null)).willReturn(response(contender(SESSION), contender("other"), lock(7)));
+        given(objectMapper.readValue("lock", SemaphoreLock.class)).willReturn(new SemaphoreLock(2, List.of("other", SESSION)));
+        given(client.compareAndSet(LOCK_KEY, new SemaphoreLock(2, List.of("other")), 7)).willReturn(Mono.just(true));
+        given(client.deleteKey(PATH + "/" + SESSION, null)).willReturn(Mono.just(true));
+        given(sessionHandler.cancelSessionRenewal(SESSION_HOLDER)).willReturn(Mono.just(SESSION));
+        given(sessionHandler.destroySession(SESSION_HOLDER)).willReturn(Mono.empty());
+
+        // when
+        semaphoreOrchestrator.stop();
+
+        // then
+        then(client).should().compareAndSet(LOCK_KEY, new SemaphoreLock(2, List.of("other")), 7);
+        then(client).should().deleteKey(PATH + "/" + SESSION, null);
+        then(sessionHandler).should().destroySession(SESSION_HOLDER);
+        assertThat(semaphoreOrchestrator.holdsPermit()).isFalse();
+    }
+
+    private static Mono<HttpResponse<List<KeyValue>>> response(final KeyValue... keyValues) {
+        return Mono.just(HttpResponse.ok(List.of(keyValues)).header(ConsulIndex.HEADER, "42"));
+    }
+
+    private static KeyValue contender(final String session) {
+        return new KeyValue(1, PATH + "/" + session, "value", session);
+    }
+
+    private static KeyValue lock(final int modifyIndex) {
+        return new KeyValue(modifyIndex, LOCK_KEY, ENCODED_LOCK, null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.frogdevelopment.micronaut.consul.leadership.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AdaptiveRenewalPolicyTest {
+
+    private final AdaptiveRenewalPolicy renewalPolicy = new AdaptiveRenewalPolicy();
+
+    @ParameterizedTest
+    @CsvSource({
+            "15s,15000",
+            "1m30s,90000",
+            "500ms,500",
+            "1.5s,1500",
+            "1h,3600000"
+    })
+    void parseTtl_should_parseConsulDurations(final String ttl, final long expectedMillis) {
+        // when
+        final var parsed = AdaptiveRenewalPolicy.parseTtl(ttl);
+
+        // then
+        assertThat(parsed).isEqualTo(Duration.ofMillis(expectedMillis));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "15", "s", "15 s", "15d"})
+    void parseTtl_should_returnNull_when_invalid(final String ttl) {
+        // when
+        final var parsed = AdaptiveRenewalPolicy.parseTtl(ttl);
+
+        // then
+        assertThat(parsed).isNull();
+    }
+
+    @Test
+    void nextDelay_should_keepAQuarterOfTheTtl_when_consulIsHealthy() {
+        // given
+        renewalPolicy.onRenewed(Duration.ofSeconds(20), Duration.ofMillis(10));
+
+        // when
+        final var nextDelay = renewalPolicy.nextDelay(Duration.ofSeconds(20));
+
+        // then
+        assertThat(nextDelay).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    void nextDelay_should_renewEarlier_when_consulIsSlow() {
+        // given
+        renewalPolicy.onRenewed(Duration.ofSeconds(20), Duration.ofMillis(10));
+        renewalPolicy.onFailed(Duration.ofSeconds(3));
+
+        // when
+        final var nextDelay = renewalPolicy.nextDelay(Duration.ofSeconds(20));
+
+        // then
+        // p99 of 3s, margin of 9s
+        assertThat(nextDelay).isEqualTo(Duration.ofSeconds(11));
+    }
+
+    @Test
+    void nextDelay_should_notRenewContinuously_when_consulIsVerySlow() {
+        // given
+        renewalPolicy.onFailed(Duration.ofSeconds(10));
+
+        // when
+        final var nextDelay = renewalPolicy.nextDelay(Duration.ofSeconds(20));
+
+        // then
+        assertThat(nextDelay).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void latency_should_returnPercentilesOfTheLastRenewals() {
+        // given
+        for (int i = 1; i <= AdaptiveRenewalPolicy.SAMPLES + 36; i++) {
+            renewalPolicy.onRenewed(null, Duration.ofMillis(i));
+        }
+
+        // when
+        final var p50 = renewalPolicy.latency(0.5);
+        final var p99 = renewalPolicy.latency(0.99);
+
+        // then
+        // only the last 64 renewals are kept: 37ms to 100ms
+        assertThat(p50).isEqualTo(Duration.ofMillis(68));
+        assertThat(p99).isEqualTo(Duration.ofMillis(100));
+        assertThat(renewalPolicy.getReturnedTtl()).isNull();
+    }
+}
@@ -6,22 +6,30 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
 import com.frogdevelopment.micronaut.consul.leadership.client.ConsulLeadershipClient;
+import com.frogdevelopment.micronaut.consul.leadership.event.SessionLeaseEvent;
 import com.frogdevelopment.micronaut.consul.leadership.exceptions.NonRecoverableElectionException;
 
+import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.scheduling.TaskScheduler;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 @ExtendWith(MockitoExtension.class)
 class SessionHandlerImplTest {
@@ -37,6 +45,8 @@ class SessionHandlerImplTest {
     private SessionProvider sessionProvider;
     @Mock
     private TaskScheduler taskScheduler;
+    @Mock
+    private ApplicationEventPublisher<SessionLeaseEvent> sessionLeaseEventPublisher;
 
     @Mock
     private Session session;
@@ -44,6 +54,14 @@ class SessionHandlerImplTest {
     private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
     @Mock
     private ScheduledFuture<?> scheduledFuture;
+    @Mock
+    private ScheduledFuture<?> nextScheduledFuture;
+    @Mock
+    private ScheduledFuture<?> leaseCheck;
+    @Captor
+    private ArgumentCaptor<Duration> durationCaptor;
+    @Captor
+    private ArgumentCaptor<Runnable> runnableCaptor;
 
     @Test
     void createNewSession_should_returnNewlyCreatedSessionId() {
@@ -53,10 +71,125 @@ class SessionHandlerImplTest {
         given(session.id()).willReturn("my-session-id");
 
         // when
-        sessionHandler.createNewSession().block();
+        sessionHandler.createNewSession("my-election").block();
+
+        // then
+        assertThat(sessionHandler.getSessionId()).isEqualTo("my-session-id");
+        assertThat(sessionHandler.getSessionHolders()).containsExactly("my-election");
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void createNewSession_should_shareExistingSession() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+
+        // when
+        final var sessionId = sessionHandler.createNewSession("other-election").block();
+
+        // then
+        assertThat(sessionId).isEqualTo("my-session-id");
+        assertThat(sessionHandler.getSessionHolders()).containsExactly("other-election");
+        then(sessionProvider).should(never()).createSession();
+        then(client).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void createNewSession_should_verifyExistingSession_when_boundToHealthChecks() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+        given(sessionProvider.isBoundToHealthChecks()).willReturn(true);
+        given(client.readSession("my-session-id")).willReturn(Mono.just(List.of(session)));
+
+        // when
+        final var sessionId = sessionHandler.createNewSession("my-election").block();
+
+        // then
+        assertThat(sessionId).isEqualTo("my-session-id");
+        then(sessionProvider).should(never()).createSession();
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void createNewSession_should_createNewSession_when_invalidatedByHealthChecks() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+        given(sessionProvider.isBoundToHealthChecks()).willReturn(true);
+        given(client.readSession("my-session-id")).willReturn(Mono.just(List.of()));
+        given(sessionProvider.createSession()).willReturn(session);
+        given(client.createSession(session)).willReturn(Mono.just(session));
+        given(session.id()).willReturn("new-session-id");
+
+        // when
+        final var sessionId = sessionHandler.createNewSession("my-election").block();
+
+        // then
+        assertThat(sessionId).isEqualTo("new-session-id");
+        assertThat(sessionHandler.getSessionId()).isEqualTo("new-session-id");
+        assertThat(sessionHandler.getSessionHolders()).containsExactly("my-election");
+    }
+
+    @Test
+    void checkSession_should_keepSession_when_stillExisting() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+        given(client.readSession("my-session-id")).willReturn(Mono.just(List.of(session)));
+
+        // when
+        final var valid = sessionHandler.checkSession("my-session-id").block();
 
         // then
+        assertThat(valid).isTrue();
         assertThat(sessionHandler.getSessionId()).isEqualTo("my-session-id");
+    }
+
+    @Test
+    void checkSession_should_forgetSession_when_invalidated() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+        given(client.readSession("my-session-id")).willReturn(Mono.empty());
+
+        // when
+        final var valid = sessionHandler.checkSession("my-session-id").block();
+
+        // then
+        assertThat(valid).isFalse();
+        assertThat(sessionHandler.getSessionId()).isNull();
+    }
+
+    @Test
+    void checkSession_should_keepSession_when_checkFails() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+        given(client.readSession("my-session-id")).willReturn(Mono.error(new RuntimeException("boom")));
+
+        // when
+        final var valid = sessionHandler.checkSession("my-session-id").block();
+
+        // then
+        assertThat(valid).isTrue();
+        assertThat(sessionHandler.getSessionId()).isEqualTo("my-session-id");
+    }
+
+    @Test
+    void createNewSession_should_createOnlyOneSession_when_concurrentElections() {
+        // given
+        given(sessionProvider.createSession()).willReturn(session);
+        given(client.createSession(session)).willReturn(Mono.just(session));
+        given(session.id()).willReturn("my-session-id");
+
+        // when
+        final var sessionIds = Mono.zip(
+                sessionHandler.createNewSession("my-election"),
+                sessionHandler.createNewSession("other-election"))
+                .block();
+
+        // then
+        assertThat(sessionIds).isNotNull();
+        assertThat(sessionIds.getT1()).isEqualTo("my-session-id");
+        assertThat(sessionIds.getT2()).isEqualTo("my-session-id");
+        assertThat(sessionHandler.getSessionHolders()).containsExactlyInAnyOrder("my-election", "other-election");
+        then(sessionProvider).should().createSession();
         then(client).shouldHaveNoMoreInteractions();
     }
 
@@ -66,7 +199,7 @@ class SessionHandlerImplTest {
         given(sessionProvider.createSession()).willThrow(new RuntimeException("boom"));
 
         // when
-        final var caught = catchException(() -> sessionHandler.createNewSession().block());
+        final var caught = catchException(() -> sessionHandler.createNewSession("my-election").block());
 
         // then
         assertThat(caught).isInstanceOf(NonRecoverableElectionException.class)
@@ -83,7 +216,7 @@ class SessionHandlerImplTest {
         given(client.createSession(session)).willReturn(Mono.error((new RuntimeException("boom boom"))));
 
         // when
-        final var caught = catchException(() -> sessionHandler.createNewSession().block());
+        final var caught = catchException(() -> sessionHandler.createNewSession("my-election").block());
 
         // then
         assertThat(caught).isInstanceOf(NonRecoverableElectionException.class)
@@ -100,19 +233,35 @@ class SessionHandlerImplTest {
         given(client.destroySession("my-session-id")).willReturn(Mono.empty());
 
         // when
-        sessionHandler.destroySession().block();
+        sessionHandler.destroySession("my-election").block();
 
         // then
         then(client).shouldHaveNoMoreInteractions();
         assertThat(sessionHandler.getSessionId()).isNull();
     }
 
+    @Test
+    void destroySession_should_keepSession_when_sharedWithOtherElection() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.createNewSession("my-election").block();
+        sessionHandler.createNewSession("other-election").block();
+
+        // when
+        sessionHandler.destroySession("my-election").block();
+
+        // then
+        then(client).shouldHaveNoInteractions();
+        assertThat(sessionHandler.getSessionId()).isEqualTo("my-session-id");
+        assertThat(sessionHandler.getSessionHolders()).containsExactly("other-election");
+    }
+
     @Test
     void destroySession_should_notCall_when_sessionIdMissing() {
         // given
 
         // when
-        sessionHandler.destroySession().block();
+        sessionHandler.destroySession("my-election").block();
 
         // then
         then(client).shouldHaveNoInteractions();
@@ -126,7 +275,7 @@ class SessionHandlerImplTest {
         given(client.destroySession("my-session-id")).willReturn(Mono.error(new RuntimeException("boom")));
 
         // when
-        sessionHandler.destroySession().block();
+        sessionHandler.destroySession("my-election").block();
 
         // then
         then(client).shouldHaveNoMoreInteractions();
@@ -135,18 +284,98 @@ class SessionHandlerImplTest {
     @Test
     void scheduleSessionRenewal_should_scheduleSessionRenewal() {
         // given
-        given(configuration.getElection()).willReturn(electionConfiguration);
-        final var sessionRenewalDelay = Duration.ofMillis(500);
-        given(electionConfiguration.getSessionRenewalDelay()).willReturn(sessionRenewalDelay);
-        given(taskScheduler.scheduleWithFixedDelay(eq(Duration.ZERO), eq(sessionRenewalDelay), any(Runnable.class)))
+        given(taskScheduler.schedule(eq(Duration.ZERO), any(Runnable.class)))
                 .willAnswer(invocation -> scheduledFuture);
 
         // when
-        sessionHandler.scheduleSessionRenewal().block();
+        sessionHandler.scheduleSessionRenewal("my-election").block();
 
         // then
         final var actual = sessionHandler.getScheduledFuture();
         assertThat(actual).isEqualTo(scheduledFuture);
+        assertThat(sessionHandler.getRenewalHolders()).containsExactly("my-election");
+    }
+
+    @Test
+    void scheduleSessionRenewal_should_checkLeaseFromSessionCreation() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getSessionTtl()).willReturn("15s");
+        given(electionConfiguration.getStepDownMargin()).willReturn(Duration.ofSeconds(2));
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.setLeaseStart(System.nanoTime());
+        given(taskScheduler.schedule(any(Duration.class), any(Runnable.class)))
+                .willAnswer(invocation -> Duration.ZERO.equals(invocation.getArgument(0)) ? scheduledFuture : leaseCheck);
+
+        // when
+        sessionHandler.scheduleSessionRenewal("my-election").block();
+
+        // then
+        assertThat(sessionHandler.getScheduledFuture()).isEqualTo(scheduledFuture);
+        assertThat(sessionHandler.getLeaseCheck()).isEqualTo(leaseCheck);
+        // the first renewal, then the lease check
+        then(taskScheduler).should(times(2)).schedule(durationCaptor.capture(), any(Runnable.class));
+        // 15s of TTL minus 2s of margin, minus the time elapsed since the session was created
+        assertThat(durationCaptor.getAllValues().getLast())
+                .isLessThanOrEqualTo(Duration.ofSeconds(13))
+                .isGreaterThan(Duration.ofSeconds(12));
+    }
+
+    @Test
+    void scheduleSessionRenewal_should_stepDown_when_everyRenewalFails() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getSessionTtl()).willReturn("15s");
+        given(electionConfiguration.getStepDownMargin()).willReturn(Duration.ofSeconds(2));
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        given(electionConfiguration.isAdaptiveSessionRenewal()).willReturn(true);
+        given(electionConfiguration.getRetryDelayMs()).willReturn(200);
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.setLeaseStart(System.nanoTime());
+        given(client.renewSession("my-session-id")).willReturn(Mono.error(new RuntimeException("boom")));
+        given(taskScheduler.schedule(any(Duration.class), any(Runnable.class)))
+                .willAnswer(invocation -> scheduledFuture);
+        sessionHandler.scheduleSessionRenewal("my-election").block();
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+        // the first renewal, the lease check armed at creation, then a retry after each failed renewal
+        then(taskScheduler).should(times(4)).schedule(durationCaptor.capture(), runnableCaptor.capture());
+        assertThat(durationCaptor.getAllValues().get(1)).isGreaterThan(Duration.ofSeconds(12));
+
+        // when
+        runnableCaptor.getAllValues().get(1).run();
+
+        // then
+        assertThat(sessionHandler.isLeaseExpiring()).isTrue();
+        then(sessionLeaseEventPublisher).should().publishEvent(new SessionLeaseEvent("my-session-id", false));
+    }
+
+    @Test
+    void scheduleSessionRenewal_should_notScheduleTwice_when_sharedWithOtherElection() {
+        // given
+        sessionHandler.setScheduledFuture(scheduledFuture);
+
+        // when
+        sessionHandler.scheduleSessionRenewal("other-election").block();
+
+        // then
+        then(taskScheduler).shouldHaveNoInteractions();
+        assertThat(sessionHandler.getScheduledFuture()).isEqualTo(scheduledFuture);
+        assertThat(sessionHandler.getRenewalHolders()).containsExactly("other-election");
+    }
+
+    @Test
+    void scheduleSessionRenewal_should_notSchedule_when_boundToHealthChecks() {
+        // given
+        given(sessionProvider.isBoundToHealthChecks()).willReturn(true);
+
+        // when
+        sessionHandler.scheduleSessionRenewal("my-election").block();
+
+        // then
+        then(taskScheduler).shouldHaveNoInteractions();
+        assertThat(sessionHandler.getScheduledFuture()).isNull();
+        assertThat(sessionHandler.getRenewalHolders()).containsExactly("my-election");
     }
 
     @Test
@@ -158,7 +387,7 @@ class SessionHandlerImplTest {
         given(client.renewSession("my-session-id")).willReturn(Mono.error(new RuntimeException("boom")));
 
         // when
-        sessionHandler.manageSessionRenewal();
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
 
         // then
         then(client).shouldHaveNoMoreInteractions();
@@ -171,16 +400,213 @@ class SessionHandlerImplTest {
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getTimeoutMs()).willReturn(500);
         sessionHandler.setSessionId("my-session-id");
-        given(client.renewSession("my-session-id")).willReturn(Mono.empty());
+        given(client.renewSession("my-session-id")).willReturn(Mono.just(List.of(session)));
 
         // when
-        sessionHandler.manageSessionRenewal();
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
 
         // then
         then(client).shouldHaveNoMoreInteractions();
         assertThat(sessionHandler.getSessionId()).isEqualTo("my-session-id");
     }
 
+    @Test
+    void renewSession_should_scheduleNextRenewal_fromReturnedTtl() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        given(electionConfiguration.isAdaptiveSessionRenewal()).willReturn(true);
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.setScheduledFuture(scheduledFuture);
+        given(electionConfiguration.getStepDownMargin()).willReturn(Duration.ofSeconds(2));
+        given(session.ttl()).willReturn("20s");
+        given(client.renewSession("my-session-id")).willReturn(Mono.just(List.of(session)));
+        given(taskScheduler.schedule(any(Duration.class), any(Runnable.class)))
+                .willAnswer(invocation -> Duration.ofSeconds(15).equals(invocation.getArgument(0)) ? nextScheduledFuture : leaseCheck);
+
+        // when
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+
+        // then
+        assertThat(sessionHandler.getScheduledFuture()).isEqualTo(nextScheduledFuture);
+        assertThat(sessionHandler.getLeaseCheck()).isEqualTo(leaseCheck);
+        then(sessionLeaseEventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void renewSession_should_checkLeaseBeforeItsExpiry() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        given(electionConfiguration.isAdaptiveSessionRenewal()).willReturn(true);
+        given(electionConfiguration.getStepDownMargin()).willReturn(Duration.ofSeconds(2));
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.setScheduledFuture(scheduledFuture);
+        given(session.ttl()).willReturn("20s");
+        given(client.renewSession("my-session-id")).willReturn(Mono.just(List.of(session)));
+        given(taskScheduler.schedule(any(Duration.class), any(Runnable.class)))
+                .willAnswer(invocation -> leaseCheck);
+
+        // when
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+
+        // then
+        // the lease check, then the next renewal
+        then(taskScheduler).should(times(2)).schedule(durationCaptor.capture(), any(Runnable.class));
+        // 20s of TTL minus 2s of margin, minus the time elapsed since the renewal was sent
+        assertThat(durationCaptor.getAllValues().getFirst())
+                .isLessThanOrEqualTo(Duration.ofSeconds(18))
+                .isGreaterThan(Duration.ofSeconds(17));
+    }
+
+    @Test
+    void renewSession_should_restoreLease_when_renewedAfterExpiring() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        given(electionConfiguration.isAdaptiveSessionRenewal()).willReturn(true);
+        given(electionConfiguration.getStepDownMargin()).willReturn(Duration.ofSeconds(2));
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.setScheduledFuture(scheduledFuture);
+        sessionHandler.setLeaseExpiring(true);
+        given(session.ttl()).willReturn("20s");
+        given(client.renewSession("my-session-id")).willReturn(Mono.just(List.of(session)));
+        given(taskScheduler.schedule(any(Duration.class), any(Runnable.class)))
+                .willAnswer(invocation -> leaseCheck);
+
+        // when
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+
+        // then
+        assertThat(sessionHandler.isLeaseExpiring()).isFalse();
+        then(sessionLeaseEventPublisher).should().publishEvent(new SessionLeaseEvent("my-session-id", true));
+    }
+
+    @Test
+    void onLeaseExpiring_should_stepDownOnce() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+
+        // when
+        sessionHandler.onLeaseExpiring("my-session-id");
+        sessionHandler.onLeaseExpiring("my-session-id");
+
+        // then
+        assertThat(sessionHandler.isLeaseExpiring()).isTrue();
+        then(sessionLeaseEventPublisher).should().publishEvent(new SessionLeaseEvent("my-session-id", false));
+    }
+
+    @Test
+    void onLeaseExpiring_should_ignore_when_sessionReplaced() {
+        // given
+        sessionHandler.setSessionId("new-session-id");
+
+        // when
+        sessionHandler.onLeaseExpiring("my-session-id");
+
+        // then
+        assertThat(sessionHandler.isLeaseExpiring()).isFalse();
+        then(sessionLeaseEventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void renewSession_should_retrySoon_when_renewalFails() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        given(electionConfiguration.isAdaptiveSessionRenewal()).willReturn(true);
+        given(electionConfiguration.getRetryDelayMs()).willReturn(200);
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.setScheduledFuture(scheduledFuture);
+        given(client.renewSession("my-session-id")).willReturn(Mono.error(new RuntimeException("boom")));
+        given(taskScheduler.schedule(eq(Duration.ofMillis(200)), any(Runnable.class)))
+                .willAnswer(invocation -> nextScheduledFuture);
+
+        // when
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+
+        // then
+        assertThat(sessionHandler.getScheduledFuture()).isEqualTo(nextScheduledFuture);
+    }
+
+    @Test
+    void renewSession_should_useFixedDelay_when_notAdaptive() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        given(electionConfiguration.isAdaptiveSessionRenewal()).willReturn(false);
+        given(electionConfiguration.getSessionRenewalDelay()).willReturn(Duration.ofSeconds(10));
+        sessionHandler.setSessionId("my-session-id");
+        sessionHandler.setScheduledFuture(scheduledFuture);
+        given(client.renewSession("my-session-id")).willReturn(Mono.just(List.of(session)));
+        given(taskScheduler.schedule(eq(Duration.ofSeconds(10)), any(Runnable.class)))
+                .willAnswer(invocation -> nextScheduledFuture);
+
+        // when
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+
+        // then
+        assertThat(sessionHandler.getScheduledFuture()).isEqualTo(nextScheduledFuture);
+    }
+
+    @Test
+    void renewSession_should_notScheduleNextRenewal_when_cancelled() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        sessionHandler.setSessionId("my-session-id");
+        given(client.renewSession("my-session-id")).willReturn(Mono.just(List.of(session)));
+
+        // when
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+
+        // then
+        then(taskScheduler).shouldHaveNoInteractions();
+        assertThat(sessionHandler.getScheduledFuture()).isNull();
+    }
+
+    @Test
+    void renewSession_should_notScheduleSecondChain_when_rescheduledDuringRenewal() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        sessionHandler.setSessionId("my-session-id");
+        final var pendingRenewal = Sinks.<List<Session>>one();
+        given(client.renewSession("my-session-id")).willReturn(pendingRenewal.asMono());
+        given(taskScheduler.schedule(eq(Duration.ZERO), any(Runnable.class)))
+                .willAnswer(invocation -> scheduledFuture)
+                .willAnswer(invocation -> nextScheduledFuture);
+        sessionHandler.scheduleSessionRenewal("my-election").block();
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+        // cancelled then scheduled again while the renewal is in flight
+        sessionHandler.cancelSessionRenewal("my-election").block();
+        sessionHandler.scheduleSessionRenewal("my-election").block();
+
+        // when
+        pendingRenewal.tryEmitValue(List.of(session));
+
+        // then
+        then(taskScheduler).should(times(2)).schedule(eq(Duration.ZERO), any(Runnable.class));
+        then(taskScheduler).shouldHaveNoMoreInteractions();
+        assertThat(sessionHandler.getScheduledFuture()).isEqualTo(nextScheduledFuture);
+    }
+
+    @Test
+    void renewSession_should_forgetSession_when_sessionNotFound() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTimeoutMs()).willReturn(500);
+        sessionHandler.setSessionId("my-session-id");
+        given(client.renewSession("my-session-id")).willReturn(Mono.empty());
+
+        // when
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
+
+        // then
+        then(client).shouldHaveNoMoreInteractions();
+        assertThat(sessionHandler.getSessionId()).isNull();
+    }
+
     @Test
     void manageSessionRenewal_should_cancelScheduledFuture() {
         // given
@@ -189,7 +615,7 @@ class SessionHandlerImplTest {
         given(scheduledFuture.cancel(true)).willReturn(true);
 
         // when
-        sessionHandler.manageSessionRenewal();
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
 
         //
         then(scheduledFuture).shouldHaveNoMoreInteractions();
@@ -204,13 +630,28 @@ class SessionHandlerImplTest {
         given(scheduledFuture.cancel(true)).willReturn(false);
 
         // when
-        sessionHandler.manageSessionRenewal();
+        sessionHandler.manageSessionRenewal(sessionHandler.getRenewalGeneration());
 
         //
         then(scheduledFuture).shouldHaveNoMoreInteractions();
         assertThat(sessionHandler.getScheduledFuture()).isNull();
     }
 
+    @Test
+    void doCancelSessionRenewal_should_forgetLease() {
+        // given
+        sessionHandler.setScheduledFuture(scheduledFuture);
+        sessionHandler.setLeaseExpiring(true);
+
+        // when
+        sessionHandler.doCancelSessionRenewal();
+
+        // then
+        assertThat(sessionHandler.getScheduledFuture()).isNull();
+        assertThat(sessionHandler.isLeaseExpiring()).isFalse();
+        then(sessionLeaseEventPublisher).shouldHaveNoInteractions();
+    }
+
     @Test
     void doCancelSessionRenewal_should_handleNullScheduleFuture() {
         // given
@@ -227,13 +668,45 @@ class SessionHandlerImplTest {
     void cancelSessionRenewal_should_returnSessionId() {
         // given
         sessionHandler.setScheduledFuture(scheduledFuture);
+        sessionHandler.scheduleSessionRenewal("my-election").block();
         given(scheduledFuture.cancel(true)).willReturn(true);
         sessionHandler.setSessionId("my-session-id");
 
         // when
-        final var sessionId = sessionHandler.cancelSessionRenewal().block();
+        final var sessionId = sessionHandler.cancelSessionRenewal("my-election").block();
+
+        // then
+        assertThat(sessionId).isEqualTo("my-session-id");
+        assertThat(sessionHandler.getScheduledFuture()).isNull();
+    }
+
+    @Test
+    void cancelSessionRenewal_should_keepRenewing_when_otherElectionIsLeader() {
+        // given
+        sessionHandler.setScheduledFuture(scheduledFuture);
+        sessionHandler.scheduleSessionRenewal("my-election").block();
+        sessionHandler.scheduleSessionRenewal("other-election").block();
+        sessionHandler.setSessionId("my-session-id");
+
+        // when
+        final var sessionId = sessionHandler.cancelSessionRenewal("my-election").block();
 
         // then
         assertThat(sessionId).isEqualTo("my-session-id");
+        then(scheduledFuture).should(never()).cancel(true);
+        assertThat(sessionHandler.getScheduledFuture()).isEqualTo(scheduledFuture);
+        assertThat(sessionHandler.getRenewalHolders()).containsExactly("other-election");
+    }
+
+    @Test
+    void cancelSessionRenewal_should_returnEmpty_when_electionIsNotLeader() {
+        // given
+        sessionHandler.setSessionId("my-session-id");
+
+        // when
+        final var sessionId = sessionHandler.cancelSessionRenewal("my-election").block();
+
+        // then
+        assertThat(sessionId).isNull();
     }
 }
@@ -1,9 +1,12 @@
 package com.frogdevelopment.micronaut.consul.leadership.session;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,7 @@ import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
 import com.frogdevelopment.micronaut.consul.leadership.kubernetes.KubernetesInfoResolver;
 
 import io.micronaut.context.env.Environment;
+import io.micronaut.context.exceptions.ConfigurationException;
 
 @ExtendWith(MockitoExtension.class)
 class SessionProviderImplTest {
@@ -31,12 +35,11 @@ class SessionProviderImplTest {
     @Test
     void should_createSessionFromK8s() {
         // given
-        final var sessionProvider = new SessionProviderImpl(Optional.of(kubernetesInfoResolver), environment, configuration);
-
         given(kubernetesInfoResolver.resolvePodName()).willReturn(Optional.of("my-podname"));
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getSessionLockDelay()).willReturn("3s");
         given(electionConfiguration.getSessionTtl()).willReturn("10s");
+        final var sessionProvider = new SessionProviderImpl(Optional.of(kubernetesInfoResolver), environment, configuration);
 
         // when
         final var actual = sessionProvider.createSession();
@@ -53,13 +56,12 @@ class SessionProviderImplTest {
     @Test
     void should_createSessionFromFallback() {
         // given
-        final var sessionProvider = new SessionProviderImpl(Optional.empty(), environment, configuration);
-
         given(environment.getProperty("hostname", String.class)).willReturn(Optional.empty());
         given(environment.getProperty("micronaut.application.name", String.class)).willReturn(Optional.of("my-podname"));
         given(configuration.getElection()).willReturn(electionConfiguration);
         given(electionConfiguration.getSessionLockDelay()).willReturn("3s");
         given(electionConfiguration.getSessionTtl()).willReturn("10s");
+        final var sessionProvider = new SessionProviderImpl(Optional.empty(), environment, configuration);
 
         // when
         final var actual = sessionProvider.createSession();
@@ -73,4 +75,40 @@ class SessionProviderImplTest {
         then(kubernetesInfoResolver).shouldHaveNoInteractions();
     }
 
+    @Test
+    void should_createSessionBoundToHealthChecks() {
+        // given
+        given(kubernetesInfoResolver.resolvePodName()).willReturn(Optional.of("my-podname"));
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getSessionMode()).willReturn(SessionMode.CHECKS);
+        given(electionConfiguration.getSessionLockDelay()).willReturn("3s");
+        given(electionConfiguration.getSessionNodeChecks()).willReturn(List.of("serfHealth"));
+        given(electionConfiguration.getSessionServiceChecks()).willReturn(List.of("service:my-service"));
+        final var sessionProvider = new SessionProviderImpl(Optional.of(kubernetesInfoResolver), environment, configuration);
+
+        // when
+        final var actual = sessionProvider.createSession();
+
+        // then
+        assertThat(sessionProvider.isBoundToHealthChecks()).isTrue();
+        assertThat(actual.ttl()).isNull();
+        assertThat(actual.nodeChecks()).containsExactly("serfHealth");
+        assertThat(actual.serviceChecks()).containsExactly(new Session.ServiceCheck("service:my-service"));
+        then(electionConfiguration).should(never()).getSessionTtl();
+    }
+
+    @Test
+    void should_fail_when_boundToHealthChecksWithoutServiceCheck() {
+        // given
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getSessionMode()).willReturn(SessionMode.CHECKS);
+
+        // when
+        final var caught = catchException(() -> new SessionProviderImpl(Optional.empty(), environment, configuration));
+
+        // then
+        assertThat(caught)
+                .isInstanceOf(ConfigurationException.class)
+                .hasMessageContaining("session-service-checks");
+    }
 }
@@ -1,7 +1,13 @@
 package com.frogdevelopment.micronaut.consul.leadership.status;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +16,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsDefault;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsDispatcher;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.inject.qualifiers.Qualifiers;
 
 @ExtendWith(MockitoExtension.class)
 class LeadershipStatusEndpointTest {
@@ -19,6 +29,10 @@ class LeadershipStatusEndpointTest {
 
     @Mock
     private LeadershipStatus leadershipStatus;
+    @Mock
+    private BeanLocator beanLocator;
+    @Mock
+    private LeadershipEventsDispatcher leadershipEventsDispatcher;
 
     @Test
     void should_return_details() {
@@ -30,6 +44,11 @@ class LeadershipStatusEndpointTest {
                 .acquireDateTime("my-date")
                 .build();
         given(leadershipStatus.getLeadershipInfo()).willReturn(leadershipInfo);
+        given(leadershipStatus.getFencingToken()).willReturn(42L);
+        given(beanLocator.findBean(LeadershipEventsDispatcher.class, Qualifiers.byName("default"))).willReturn(Optional.of(leadershipEventsDispatcher));
+        given(leadershipEventsDispatcher.getQueueDepth()).willReturn(1);
+        given(leadershipEventsDispatcher.getDispatchLag()).willReturn(Duration.ofMillis(12));
+        given(leadershipEventsDispatcher.getCoalescedEvents()).willReturn(3L);
 
         // when
         final var status = leadershipStatusEndpoint.leadershipStatus();
@@ -37,7 +56,45 @@ class LeadershipStatusEndpointTest {
         // then
         assertThat(status)
                 .containsEntry("isLeader", true)
-                .containsEntry("details", leadershipInfo);
+                .containsEntry("details", leadershipInfo)
+                .containsEntry("fencingToken", 42L)
+                .containsEntry("events", Map.of("queueDepth", 1, "dispatchLagMs", 12L, "coalesced", 3L));
+    }
+
+    @Test
+    void should_return_electionDetails() {
+        // given
+        final var namedLeadershipStatus = mock(LeadershipStatus.class);
+        given(beanLocator.findBean(LeadershipStatus.class, Qualifiers.byName("my-election"))).willReturn(Optional.of(namedLeadershipStatus));
+        given(namedLeadershipStatus.isLeader()).willReturn(false);
+        final var leadershipInfo = LeadershipDetailsDefault.builder()
+                .podName("hostname")
+                .clusterName("cluster")
+                .acquireDateTime("my-date")
+                .build();
+        given(namedLeadershipStatus.getLeadershipInfo()).willReturn(leadershipInfo);
+        given(beanLocator.findBean(LeadershipEventsDispatcher.class, Qualifiers.byName("my-election"))).willReturn(Optional.empty());
+
+        // when
+        final var status = leadershipStatusEndpoint.electionStatus("my-election");
+
+        // then
+        assertThat(status)
+                .containsEntry("isLeader", false)
+                .containsEntry("details", leadershipInfo)
+                .doesNotContainKey("events");
+    }
+
+    @Test
+    void should_returnNull_when_electionIsUnknown() {
+        // given
+        given(beanLocator.findBean(any(), any())).willReturn(Optional.empty());
+
+        // when
+        final var status = leadershipStatusEndpoint.electionStatus("unknown");
+
+        // then
+        assertThat(status).isNull();
     }
 
 }
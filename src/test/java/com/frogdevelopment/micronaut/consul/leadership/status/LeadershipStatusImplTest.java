@@ -2,8 +2,15 @@ package com.frogdevelopment.micronaut.consul.leadership.status;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,13 +20,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsDefault;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
 import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipChangeEvent;
 import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipDetailsChangeEvent;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsDispatcher;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsPublisher;
 import com.frogdevelopment.micronaut.consul.leadership.kubernetes.UpdatePodLabel;
 
+import io.micronaut.context.event.ApplicationEventPublisher;
+
 @ExtendWith(MockitoExtension.class)
 class LeadershipStatusImplTest {
 
+    private static final Election DEFAULT_ELECTION = new Election(Election.DEFAULT_NAME, "my-path");
+    private static final Election NAMED_ELECTION = new Election("my-election", "my-path/my-election");
+
     @Mock
     private UpdatePodLabel updatePodLabel;
 
@@ -30,7 +46,7 @@ class LeadershipStatusImplTest {
     })
     void should_listenForLeaderChange(final boolean isLeader, final boolean expected) {
         // given
-        final var leadershipStatus = new LeadershipStatusImpl(Optional.empty());
+        final var leadershipStatus = new LeadershipStatusImpl(DEFAULT_ELECTION, Optional.empty());
 
         assertThat(leadershipStatus.isLeader()).isFalse();
 
@@ -47,31 +63,238 @@ class LeadershipStatusImplTest {
             "true,true",
             "false,false",
     })
-    void should_listenForLeaderChangeAndUpdatePodLabel_when_present(final boolean isLeader, final boolean expected) {
+    void should_listenForLeaderChangeAndUpdatePodLabel_when_delivered(final boolean isLeader, final boolean expected) {
         // given
-        final var leadershipStatus = new LeadershipStatusImpl(Optional.of(updatePodLabel));
+        final var leadershipStatus = new LeadershipStatusImpl(DEFAULT_ELECTION, Optional.of(updatePodLabel));
+        final var event = new LeadershipChangeEvent(isLeader);
 
         assertThat(leadershipStatus.isLeader()).isFalse();
 
         // when
-        leadershipStatus.onLeadershipChanged(new LeadershipChangeEvent(isLeader));
+        leadershipStatus.onLeadershipChanged(event);
 
         // then
         assertThat(leadershipStatus.isLeader()).isEqualTo(expected);
+        then(updatePodLabel).shouldHaveNoInteractions();
+
+        // when
+        leadershipStatus.onLeadershipChangeDelivered(event);
+
+        // then
         then(updatePodLabel).should().updatePodLabel(expected);
     }
 
+    @Test
+    void should_notUpdatePodLabel_when_namedElection() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.of(updatePodLabel));
+        final var event = new LeadershipChangeEvent("my-election", true);
+
+        // when
+        leadershipStatus.onLeadershipChanged(event);
+        leadershipStatus.onLeadershipChangeDelivered(event);
+
+        // then
+        assertThat(leadershipStatus.isLeader()).isTrue();
+        then(updatePodLabel).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void should_ignoreDeliveredEvents_of_otherElections() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(DEFAULT_ELECTION, Optional.of(updatePodLabel));
+
+        // when
+        leadershipStatus.onLeadershipChangeDelivered(new LeadershipChangeEvent("my-election", true));
+
+        // then
+        then(updatePodLabel).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void should_notDelayPublishing_when_podLabelUpdateIsSlow() throws InterruptedException {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(DEFAULT_ELECTION, Optional.of(updatePodLabel));
+        final var podLabelUpdating = new CountDownLatch(1);
+        final var podLabelUpdated = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            podLabelUpdating.countDown();
+            // a slow Kubernetes API
+            Thread.sleep(2_000);
+            podLabelUpdated.countDown();
+            return null;
+        }).given(updatePodLabel).updatePodLabel(true);
+        final ApplicationEventPublisher<Object> listeners = event -> {
+            if (event instanceof final LeadershipChangeEvent changeEvent) {
+                leadershipStatus.onLeadershipChangeDelivered(changeEvent);
+            }
+        };
+        final var publisher = new LeadershipEventsPublisher(DEFAULT_ELECTION, leadershipStatus, mock(LeadershipDetailsProvider.class),
+                new LeadershipEventsDispatcher(DEFAULT_ELECTION, listeners));
+
+        // when
+        final var start = System.nanoTime();
+        publisher.publishLeadershipAcquired(42);
+        final var publishing = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(publishing).isLessThan(Duration.ofMillis(500));
+        assertThat(leadershipStatus.isLeader()).isTrue();
+        assertThat(leadershipStatus.getFencingToken()).isEqualTo(42);
+        assertThat(podLabelUpdating.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(podLabelUpdated.getCount()).isOne();
+        assertThat(podLabelUpdated.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void should_exposeFencingToken_when_leader() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+        leadershipStatus.onLeadershipChanged(new LeadershipChangeEvent("my-election", true));
+
+        // when
+        leadershipStatus.onFencingToken(42);
+
+        // then
+        assertThat(leadershipStatus.getFencingToken()).isEqualTo(42);
+    }
+
+    @Test
+    void should_notExposeFencingToken_when_notLeader() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+        leadershipStatus.onFencingToken(42);
+
+        // when
+        leadershipStatus.onLeadershipChanged(new LeadershipChangeEvent("my-election", false));
+
+        // then
+        assertThat(leadershipStatus.getFencingToken()).isEqualTo(LeadershipStatus.NO_FENCING_TOKEN);
+    }
+
     @Test
     void should_listenForLeaderInfoChange() {
         // given
-        final var leadershipStatus = new LeadershipStatusImpl(Optional.empty());
+        final var leadershipStatus = new LeadershipStatusImpl(DEFAULT_ELECTION, Optional.empty());
         assertThat(leadershipStatus.getLeadershipInfo()).isNull();
         final var leadershipInfo = LeadershipDetailsDefault.builder().build();
 
         // when
-        leadershipStatus.onLeadershipInfoChanged(new LeadershipDetailsChangeEvent(leadershipInfo));
+        leadershipStatus.onLeadershipInfoChanged(new LeadershipDetailsChangeEvent<>(leadershipInfo));
 
         // then
         assertThat(leadershipStatus.getLeadershipInfo()).isEqualTo(leadershipInfo);
     }
+
+    @Test
+    void states_should_replayLatestState() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+        final var leadershipInfo = LeadershipDetailsDefault.builder().build();
+        final var event = new LeadershipChangeEvent("my-election", true);
+        leadershipStatus.onLeadershipChanged(event);
+        leadershipStatus.onLeadershipInfoChanged(new LeadershipDetailsChangeEvent<>("my-election", leadershipInfo));
+        leadershipStatus.onFencingToken(42);
+        leadershipStatus.onLeadershipChangeDelivered(event);
+
+        // when
+        final var state = leadershipStatus.states().blockFirst();
+
+        // then
+        assertThat(state).isEqualTo(new LeadershipState("my-election", true, leadershipInfo, 42));
+    }
+
+    @Test
+    void should_notifyTermListeners_synchronously() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+        final var terms = new ArrayList<Long>();
+        final LongConsumer listener = terms::add;
+        leadershipStatus.addTermListener(listener);
+
+        // when
+        leadershipStatus.onFencingToken(42);
+        leadershipStatus.onLeadershipChanged(new LeadershipChangeEvent("my-election", true));
+        leadershipStatus.onLeadershipChanged(new LeadershipChangeEvent("my-election", false));
+        leadershipStatus.removeTermListener(listener);
+        leadershipStatus.onFencingToken(43);
+
+        // then
+        assertThat(terms).containsExactly(LeadershipStatus.NO_FENCING_TOKEN, 42L, LeadershipStatus.NO_FENCING_TOKEN);
+    }
+
+    @Test
+    void states_should_replayInitialState_beforeAnyChange() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+
+        // when
+        final var state = leadershipStatus.states().blockFirst();
+
+        // then
+        assertThat(state).isEqualTo(new LeadershipState("my-election", false, null, LeadershipStatus.NO_FENCING_TOKEN));
+    }
+
+    @Test
+    void states_should_notEmit_onSubscription() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+        leadershipStatus.onLeadershipChanged(new LeadershipChangeEvent("my-election", true));
+        leadershipStatus.onFencingToken(42);
+
+        // when
+        final var state = leadershipStatus.states().blockFirst();
+
+        // then
+        assertThat(state).isEqualTo(new LeadershipState("my-election", false, null, LeadershipStatus.NO_FENCING_TOKEN));
+    }
+
+    @Test
+    void states_should_emitOnlyChanges() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+        final var states = new ArrayList<LeadershipState>();
+        final var subscription = leadershipStatus.states().subscribe(states::add);
+        final var notLeader = new LeadershipChangeEvent("my-election", false);
+        final var leader = new LeadershipChangeEvent("my-election", true);
+
+        // when
+        leadershipStatus.onLeadershipChanged(notLeader);
+        leadershipStatus.onLeadershipChangeDelivered(notLeader);
+        leadershipStatus.onFencingToken(LeadershipStatus.NO_FENCING_TOKEN);
+        leadershipStatus.onFencingToken(42);
+        leadershipStatus.onLeadershipChanged(leader);
+        leadershipStatus.onLeadershipChangeDelivered(leader);
+        subscription.dispose();
+
+        // then
+        assertThat(states).containsExactly(
+                new LeadershipState("my-election", false, null, LeadershipStatus.NO_FENCING_TOKEN),
+                new LeadershipState("my-election", true, null, 42));
+    }
+
+    @Test
+    void states_should_emit_onceDelivered() {
+        // given
+        final var leadershipStatus = new LeadershipStatusImpl(NAMED_ELECTION, Optional.empty());
+        final var leadershipInfo = LeadershipDetailsDefault.builder().build();
+        final var event = new LeadershipDetailsChangeEvent<>("my-election", leadershipInfo);
+        final var states = new ArrayList<LeadershipState>();
+        final var subscription = leadershipStatus.states().subscribe(states::add);
+
+        // when
+        leadershipStatus.onLeadershipInfoChanged(event);
+
+        // then
+        assertThat(states).containsExactly(new LeadershipState("my-election", false, null, LeadershipStatus.NO_FENCING_TOKEN));
+
+        // when
+        leadershipStatus.onLeadershipInfoChangeDelivered(event);
+        subscription.dispose();
+
+        // then
+        assertThat(states).containsExactly(
+                new LeadershipState("my-election", false, null, LeadershipStatus.NO_FENCING_TOKEN),
+                new LeadershipState("my-election", false, leadershipInfo, LeadershipStatus.NO_FENCING_TOKEN));
+    }
 }
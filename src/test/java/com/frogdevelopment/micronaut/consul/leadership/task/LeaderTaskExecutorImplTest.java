@@ -0,0 +1,252 @@
+package com.frogdevelopment.micronaut.consul.leadership.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.details.LeadershipDetailsProvider;
+import com.frogdevelopment.micronaut.consul.leadership.election.Election;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipChangeEvent;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsDispatcher;
+import com.frogdevelopment.micronaut.consul.leadership.event.LeadershipEventsPublisher;
+import com.frogdevelopment.micronaut.consul.leadership.exceptions.NotLeaderException;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatus;
+import com.frogdevelopment.micronaut.consul.leadership.status.LeadershipStatusImpl;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderTaskExecutorImplTest {
+
+    private static final Election ELECTION = new Election("my-election", "leadership/my-election");
+
+    private LeaderTaskExecutorImpl leaderTaskExecutor;
+
+    @Mock
+    private LeadershipStatusImpl leadershipStatus;
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private LeadershipConfiguration.ElectionConfiguration electionConfiguration;
+    @Mock
+    private BeanContext beanContext;
+    @Captor
+    private ArgumentCaptor<LongConsumer> termListenerCaptor;
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    void beforeEach() {
+        leaderTaskExecutor = new LeaderTaskExecutorImpl(ELECTION, leadershipStatus, configuration, beanContext);
+        leaderTaskExecutor.start();
+    }
+
+    @AfterEach
+    void afterEach() {
+        leaderTaskExecutor.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void submit_should_fail_when_notLeader() {
+        // given
+        given(leadershipStatus.getFencingToken()).willReturn(LeadershipStatus.NO_FENCING_TOKEN);
+
+        // when
+        final var result = leaderTaskExecutor.submit(term -> "result");
+
+        // then
+        final var caught = catchException(result::join);
+        assertThat(caught).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NotLeaderException.class);
+        assertThat(leaderTaskExecutor.getInFlightTasks()).isZero();
+        then(beanContext).should(never()).getBean(ExecutorService.class, Qualifiers.byName("blocking"));
+    }
+
+    @Test
+    void submit_should_fail_when_leaderWithoutFencingToken() {
+        // given
+        final var status = new LeadershipStatusImpl(ELECTION, Optional.empty());
+        final var executor = new LeaderTaskExecutorImpl(ELECTION, status, configuration, beanContext);
+        status.onLeadershipChanged(new LeadershipChangeEvent(ELECTION.name(), true));
+        assertThat(status.isLeader()).isTrue();
+
+        // when
+        final var result = executor.submit(term -> "result");
+
+        // then
+        final var caught = catchException(result::join);
+        assertThat(caught).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(NotLeaderException.class);
+        then(beanContext).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void submit_should_runTask_withTerm_when_leader() {
+        // given
+        givenExecutor();
+        given(leadershipStatus.getFencingToken()).willReturn(42L);
+
+        // when
+        final var result = leaderTaskExecutor.submit(term -> "term-" + term);
+
+        // then
+        assertThat(result.join()).isEqualTo("term-42");
+        assertThat(leaderTaskExecutor.getInFlightTasks()).isZero();
+    }
+
+    @Test
+    void submit_should_runTask_withTerm_when_submittedByLeadershipListener() throws Exception {
+        // given
+        givenExecutor();
+        final var status = new LeadershipStatusImpl(ELECTION, Optional.empty());
+        final var executor = new LeaderTaskExecutorImpl(ELECTION, status, configuration, beanContext);
+        final var submittedTerm = new CompletableFuture<Long>();
+        final ApplicationEventPublisher<Object> listener = event -> {
+            if (event instanceof final LeadershipChangeEvent changeEvent && changeEvent.isLeader()) {
+                executor.submit(term -> term).whenComplete((term, error) -> {
+                    if (error != null) {
+                        submittedTerm.completeExceptionally(error);
+                    } else {
+                        submittedTerm.complete(term);
+                    }
+                });
+            }
+        };
+        final var publisher = new LeadershipEventsPublisher(ELECTION, status, mock(LeadershipDetailsProvider.class),
+                new LeadershipEventsDispatcher(ELECTION, listener));
+
+        // when
+        publisher.publishLeadershipAcquired(1_234);
+
+        // then
+        assertThat(submittedTerm.get(5, TimeUnit.SECONDS)).isEqualTo(1_234);
+    }
+
+    @Test
+    void submit_should_fail_when_taskFails() {
+        // given
+        givenExecutor();
+        given(leadershipStatus.getFencingToken()).willReturn(42L);
+
+        // when
+        final var result = leaderTaskExecutor.submit(term -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // then
+        final var caught = catchException(result::join);
+        assertThat(caught).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {LeadershipStatus.NO_FENCING_TOKEN, 43})
+    void should_cancelInFlightTasks_when_termOver(final long newTerm) throws InterruptedException {
+        // given
+        givenExecutor();
+        given(leadershipStatus.getFencingToken()).willReturn(42L);
+        then(leadershipStatus).should().addTermListener(termListenerCaptor.capture());
+        final var started = new CountDownLatch(1);
+        final var interrupted = new CountDownLatch(1);
+        final var result = leaderTaskExecutor.submit(term -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return "result";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(leaderTaskExecutor.getInFlightTasks()).isEqualTo(1);
+
+        // when
+        termListenerCaptor.getValue().accept(newTerm);
+
+        // then
+        assertThat(result).isCancelled();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(leaderTaskExecutor.getInFlightTasks()).isZero();
+    }
+
+    @Test
+    void should_keepInFlightTasks_when_termUnchanged() throws InterruptedException {
+        // given
+        givenExecutor();
+        given(leadershipStatus.getFencingToken()).willReturn(42L);
+        then(leadershipStatus).should().addTermListener(termListenerCaptor.capture());
+        final var release = new CountDownLatch(1);
+        final var result = leaderTaskExecutor.submit(term -> {
+            release.await();
+            return "term-" + term;
+        });
+
+        // when
+        termListenerCaptor.getValue().accept(42);
+        release.countDown();
+
+        // then
+        assertThat(result.join()).isEqualTo("term-42");
+    }
+
+    @Test
+    void should_cancelInFlightTasks_onStepDown_beforeDelivery() throws InterruptedException {
+        // given
+        givenExecutor();
+        final var status = new LeadershipStatusImpl(ELECTION, Optional.empty());
+        final var executor = new LeaderTaskExecutorImpl(ELECTION, status, configuration, beanContext);
+        executor.start();
+        final var leaderTerm = new LeadershipChangeEvent(ELECTION.name(), true);
+        status.onFencingToken(42);
+        status.onLeadershipChanged(leaderTerm);
+        final var started = new CountDownLatch(1);
+        final var result = executor.submit(term -> {
+            started.countDown();
+            Thread.sleep(10_000);
+            return "result";
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        // the event of the step down not delivered yet
+        status.onLeadershipChanged(new LeadershipChangeEvent(ELECTION.name(), false));
+
+        // then
+        assertThat(result).isCancelled();
+        executor.close();
+    }
+
+    private void givenExecutor() {
+        given(configuration.getElection()).willReturn(electionConfiguration);
+        given(electionConfiguration.getTaskExecutor()).willReturn("blocking");
+        given(beanContext.getBean(ExecutorService.class, Qualifiers.byName("blocking"))).willReturn(executorService);
+    }
+}
@@ -0,0 +1,289 @@
+package com.frogdevelopment.micronaut.consul.leadership.watch;
+
+import static io.micronaut.http.client.exceptions.ReadTimeoutException.TIMEOUT_EXCEPTION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.frogdevelopment.micronaut.consul.leadership.LeadershipConfiguration;
+import com.frogdevelopment.micronaut.consul.leadership.client.BlockingQueryPolicy;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulIndex;
+import com.frogdevelopment.micronaut.consul.leadership.client.ConsulWatchClient;
+import com.frogdevelopment.micronaut.consul.leadership.client.KeyValue;
+import com.frogdevelopment.micronaut.consul.leadership.watch.PrefixLeadershipWatcher.PrefixSnapshot;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class PrefixLeadershipWatcherTest {
+
+    private static final String PREFIX = "leadership/my-app";
+    private static final String KEY_1 = PREFIX + "/election-1";
+    private static final String KEY_2 = PREFIX + "/election-2";
+    private static final String WAIT = "300s";
+
+    private PrefixLeadershipWatcher prefixLeadershipWatcher;
+
+    @Mock
+    private ConsulWatchClient client;
+    @Mock
+    private LeadershipConfiguration configuration;
+    @Mock
+    private LeadershipConfiguration.WatchConfiguration watchConfiguration;
+
+    @BeforeEach
+    void beforeEach() {
+        given(configuration.getWatch()).willReturn(watchConfiguration);
+        given(watchConfiguration.getPrefix()).willReturn(Optional.of(PREFIX));
+        prefixLeadershipWatcher = new PrefixLeadershipWatcher(client, configuration, new BlockingQueryPolicy(WAIT, Duration.ofMillis(50)));
+    }
+
+    @Test
+    void should_watchKeyIndividually_when_outsideOfPrefix() {
+        // given
+        final var keyValue = new KeyValue(12, "other/key", "value", null);
+        given(client.watchLeadership("other/key", 11, WAIT, null, null)).willReturn(Mono.just(List.of(keyValue)));
+
+        // when
+        final var keyValues = prefixLeadershipWatcher.watchLeadership("other/key", 11).block();
+
+        // then
+        assertThat(keyValues).containsExactly(keyValue);
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_watchKeyIndividually_when_underSiblingPrefix() {
+        // given
+        final var siblingKey = PREFIX + "-other/election";
+        final var keyValue = new KeyValue(12, siblingKey, "value", null);
+        given(client.watchLeadership(siblingKey, 11, WAIT, null, null)).willReturn(Mono.just(List.of(keyValue)));
+
+        // when
+        final var keyValues = prefixLeadershipWatcher.watchLeadership(siblingKey, 11).block();
+
+        // then
+        assertThat(keyValues).containsExactly(keyValue);
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).isEmpty();
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_ignoreKeysUnderSiblingPrefix() {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 100L, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 101L, WAIT, null, null)).willReturn(Mono.never());
+        final var watch = prefixLeadershipWatcher.watchLeadership(PREFIX, 10).toFuture();
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, List.of(
+                new KeyValue(10, PREFIX, "value", "session"),
+                new KeyValue(30, PREFIX + "-other", "value", "session"))));
+
+        // when
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(101, List.of(
+                new KeyValue(10, PREFIX, "value", "session"),
+                new KeyValue(31, PREFIX + "-other", "value", null))));
+
+        // then
+        assertThat(watch).isNotDone();
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).containsExactly(PREFIX);
+    }
+
+    @Test
+    void should_notifyOnlyChangedKeys() throws ExecutionException, InterruptedException {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 100L, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 101L, WAIT, null, null)).willReturn(Mono.never());
+        final var watch1 = prefixLeadershipWatcher.watchLeadership(KEY_1, 10).toFuture();
+        final var watch2 = prefixLeadershipWatcher.watchLeadership(KEY_2, 20).toFuture();
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, List.of(
+                new KeyValue(10, KEY_1, "value", "session"),
+                new KeyValue(20, KEY_2, "value", "session"))));
+        assertThat(watch1).isNotDone();
+        assertThat(watch2).isNotDone();
+
+        // when
+        final var changed = new KeyValue(11, KEY_1, "value", null);
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(101, List.of(
+                changed,
+                new KeyValue(20, KEY_2, "value", "session"))));
+
+        // then
+        assertThat(watch1).isDone();
+        assertThat(watch1.get()).containsExactly(changed);
+        assertThat(watch2).isNotDone();
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).containsExactly(KEY_2);
+        assertThat(prefixLeadershipWatcher.getIndex()).isEqualTo(101L);
+        assertThat(prefixLeadershipWatcher.isPolling()).isTrue();
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_rateLimitNextPoll_when_indexDidNotAdvance() {
+        // given
+        final var subscribed = new AtomicBoolean();
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 100L, WAIT, null, null))
+                .willReturn(Mono.never())
+                .willReturn(Mono.<HttpResponse<List<KeyValue>>>never().doOnSubscribe(ignored -> subscribed.set(true)));
+        prefixLeadershipWatcher.watchLeadership(KEY_1, 10).subscribe();
+        final var unchanged = List.of(new KeyValue(10, KEY_1, "value", "session"));
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, unchanged));
+
+        // when
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, unchanged));
+
+        // then
+        assertThat(subscribed).isFalse();
+        await().untilTrue(subscribed);
+        assertThat(prefixLeadershipWatcher.getIndex()).isEqualTo(100L);
+    }
+
+    @Test
+    void should_resetIndex_when_indexWentBackwards() {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 100L, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 0L, WAIT, null, null)).willReturn(Mono.never());
+        prefixLeadershipWatcher.watchLeadership(KEY_1, 10).subscribe();
+        final var unchanged = List.of(new KeyValue(10, KEY_1, "value", "session"));
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, unchanged));
+
+        // when
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(50, unchanged));
+
+        // then
+        assertThat(prefixLeadershipWatcher.getIndex()).isZero();
+        then(client).should().watchLeadershipPrefix(PREFIX, true, 0L, WAIT, null, null);
+    }
+
+    @Test
+    void should_notifyWatchOnFirstLoad_when_alreadyOutdated() throws ExecutionException, InterruptedException {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        final var watch = prefixLeadershipWatcher.watchLeadership(KEY_1, 10).toFuture();
+
+        // when
+        final var changed = new KeyValue(11, KEY_1, "value", null);
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, List.of(changed)));
+
+        // then
+        assertThat(watch.get()).containsExactly(changed);
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).isEmpty();
+        assertThat(prefixLeadershipWatcher.isPolling()).isFalse();
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_completeImmediately_when_keyChangedBeforeRegistration() throws ExecutionException, InterruptedException {
+        // given
+        final var changed = new KeyValue(11, KEY_1, "value", null);
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, List.of(changed)));
+
+        // when
+        final var watch = prefixLeadershipWatcher.watchLeadership(KEY_1, 10).toFuture();
+
+        // then
+        assertThat(watch.get()).containsExactly(changed);
+        then(client).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void should_completeEmpty_when_keyDeleted() throws ExecutionException, InterruptedException {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        given(client.watchLeadershipPrefix(PREFIX, true, 100L, WAIT, null, null)).willReturn(Mono.never());
+        final var watch = prefixLeadershipWatcher.watchLeadership(KEY_1, 10).toFuture();
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, List.of(new KeyValue(10, KEY_1, "value", "session"))));
+
+        // when
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(101, List.of()));
+
+        // then
+        assertThat(watch).isDone();
+        assertThat(watch.get()).isNull();
+        assertThat(prefixLeadershipWatcher.isPolling()).isFalse();
+    }
+
+    @Test
+    void should_readIndex_when_noKeyUnderPrefix() throws ExecutionException, InterruptedException {
+        // given
+        final var notFound = HttpResponse.notFound().header(ConsulIndex.HEADER, "42");
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null))
+                .willReturn(Mono.error(new HttpClientResponseException("Not Found", notFound)));
+
+        // when
+        final var watch = prefixLeadershipWatcher.watchLeadership(KEY_1, 10).toFuture();
+
+        // then
+        assertThat(watch.get()).isNull();
+        assertThat(prefixLeadershipWatcher.getIndex()).isEqualTo(42L);
+        assertThat(prefixLeadershipWatcher.isPolling()).isFalse();
+    }
+
+    @Test
+    void should_stopWatchingKey_when_disposed() {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        final var disposable = prefixLeadershipWatcher.watchLeadership(KEY_1, 10).subscribe();
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).containsExactly(KEY_1);
+
+        // when
+        disposable.dispose();
+        prefixLeadershipWatcher.onPrefixChanges(new PrefixSnapshot(100, List.of(new KeyValue(11, KEY_1, "value", null))));
+
+        // then
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).isEmpty();
+        assertThat(prefixLeadershipWatcher.isPolling()).isFalse();
+        then(client).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void should_pollAgain_when_timeout() {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        prefixLeadershipWatcher.watchLeadership(KEY_1, 10).subscribe();
+
+        // when
+        prefixLeadershipWatcher.onPollError(TIMEOUT_EXCEPTION);
+
+        // then
+        then(client).should(times(2)).watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null);
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).containsExactly(KEY_1);
+        assertThat(prefixLeadershipWatcher.isPolling()).isTrue();
+    }
+
+    @Test
+    void should_failAllWatches_when_error() {
+        // given
+        given(client.watchLeadershipPrefix(PREFIX, true, null, WAIT, null, null)).willReturn(Mono.never());
+        final var watch1 = prefixLeadershipWatcher.watchLeadership(KEY_1, 10).toFuture();
+        final var watch2 = prefixLeadershipWatcher.watchLeadership(KEY_2, 20).toFuture();
+
+        // when
+        prefixLeadershipWatcher.onPollError(new RuntimeException("boom"));
+
+        // then
+        assertThat(watch1).isCompletedExceptionally();
+        assertThat(watch2).isCompletedExceptionally();
+        assertThat(prefixLeadershipWatcher.getWatchedKeys()).isEmpty();
+        assertThat(prefixLeadershipWatcher.isPolling()).isFalse();
+    }
+}